@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# 로컬 Redis Cluster (마스터 N개, 복제본 없음) - Rate Limit 샤딩 벤치마크용
+#   ./scripts/redis-cluster.sh start 3   # 127.0.0.1:7001~7003
+#   ./scripts/redis-cluster.sh stop
+# redis-server, redis-cli 7.x 필요
+set -euo pipefail
+
+BASE_PORT=${BASE_PORT:-7000}
+DATA_DIR=${DATA_DIR:-/tmp/placeowner-redis-cluster}
+
+start() {
+  local shards=${1:-3}
+  mkdir -p "$DATA_DIR"
+  local nodes=()
+  for i in $(seq 1 "$shards"); do
+    local port=$((BASE_PORT + i))
+    mkdir -p "$DATA_DIR/$port"
+    redis-server --port "$port" --dir "$DATA_DIR/$port" --daemonize yes \
+      --cluster-enabled yes --cluster-config-file nodes.conf --cluster-node-timeout 5000 \
+      --appendonly no --save ""
+    nodes+=("127.0.0.1:$port")
+  done
+  sleep 1
+  redis-cli --cluster create "${nodes[@]}" --cluster-replicas 0 --cluster-yes
+  echo "REDIS_CLUSTER_NODES=$(IFS=,; echo "${nodes[*]}")"
+}
+
+stop() {
+  for dir in "$DATA_DIR"/*/; do
+    [ -d "$dir" ] || continue
+    redis-cli -p "$(basename "$dir")" shutdown nosave 2>/dev/null || true
+  done
+  rm -rf "$DATA_DIR"
+}
+
+case "${1:-}" in
+  start) start "${2:-3}" ;;
+  stop) stop ;;
+  *) echo "usage: $0 start [shards] | stop" >&2; exit 1 ;;
+esac
@@ -0,0 +1,87 @@
+package com.teambind.springproject.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.auth.JwksKeyProvider;
+import com.teambind.springproject.auth.JwtTokenValidator;
+import com.teambind.springproject.config.properties.JwtProperties;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 벤치마크용 HS256 토큰/검증기 생성
+ */
+final class BenchmarkTokens {
+
+    static final String SECRET = "benchmark-secret-key-for-placeowner-gateway-minimum-32-chars";
+
+    private BenchmarkTokens() {
+    }
+
+    static JwtProperties properties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        // 벤치마크에서는 Redis 없이 실행
+        properties.getRevocation().setEnabled(false);
+        return properties;
+    }
+
+    static JwtTokenValidator validator(JwtProperties properties) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        return new JwtTokenValidator(properties,
+                new JwksKeyProvider(properties, new DefaultResourceLoader(), objectMapper));
+    }
+
+    static String valid() {
+        return sign(claims(Instant.now().getEpochSecond() + 3600, ""));
+    }
+
+    static String expired() {
+        return sign(claims(Instant.now().getEpochSecond() - 60, ""));
+    }
+
+    static String badSignature() {
+        String token = valid();
+        int last = token.length() - 2;
+        char replaced = token.charAt(last) == 'A' ? 'B' : 'A';
+        return token.substring(0, last) + replaced + token.charAt(last + 1);
+    }
+
+    /**
+     * 권한 목록 등 부가 클레임이 많은 4KB 이상 payload
+     */
+    static String largePayload() {
+        StringBuilder extra = new StringBuilder(",\"permissions\":[");
+        for (int i = 0; i < 200; i++) {
+            if (i > 0) {
+                extra.append(',');
+            }
+            extra.append("\"place:").append(i).append(":manage\"");
+        }
+        extra.append("],\"nickname\":\"").append("점주".repeat(64)).append('"');
+        return sign(claims(Instant.now().getEpochSecond() + 3600, extra.toString()));
+    }
+
+    private static String claims(long exp, String extra) {
+        return "{\"sub\":\"1001\",\"role\":\"PLACE_OWNER\",\"deviceId\":\"device-1\",\"placeId\":\"77\","
+                + "\"jti\":\"jti-1001\",\"iat\":" + (exp - 3600) + ",\"exp\":" + exp + extra + "}";
+    }
+
+    private static String sign(String payloadJson) {
+        try {
+            Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+            String header = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+            String payload = encoder.encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] signature = mac.doFinal((header + "." + payload).getBytes(StandardCharsets.UTF_8));
+            return header + "." + payload + "." + encoder.encodeToString(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to sign benchmark token", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.teambind.springproject.benchmark;
+
+import com.teambind.springproject.config.DownstreamHttpClients;
+import com.teambind.springproject.config.properties.ConnectionPoolProperties;
+import com.teambind.springproject.config.properties.Http2Properties;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다운스트림 호출 프로토콜별 지연 (HTTP/1.1 vs h2c prior-knowledge)
+ * - 로컬 h2c/HTTP/1.1 겸용 서버(응답 2ms 지연)를 RoomClient.getRoom 대용으로 사용
+ * - 64개 스레드가 동시에 호출, SampleTime 결과의 p0.99로 p99 지연 비교
+ * - 반복(iteration)마다 새 커넥션 풀로 시작하고, 서버가 받은 TCP 커넥션 수를 serverConnections 카운터로 기록
+ *   (results.json의 secondaryMetrics, 반복별 값은 rawData. HTTP/1.1은 동시 호출 수만큼, h2c는 max-connections 이하)
+ * - 실행: ./gradlew jmh -PjmhIncludes=DownstreamProtocol
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(64)
+public class DownstreamProtocolBenchmark {
+
+    private static final String BODY = "{\"roomId\":7,\"roomName\":\"A\",\"status\":\"OPEN\"}";
+
+    @Param({"DISABLED", "PRIOR_KNOWLEDGE"})
+    public Http2Properties.Mode mode;
+
+    private DisposableServer server;
+    private Http2Properties http2;
+    private ConnectionPoolProperties pool;
+    private ConnectionProvider connectionProvider;
+    private WebClient webClient;
+    // 아직 카운터에 반영하지 않은 서버 커넥션 수
+    private final AtomicInteger unreportedConnections = new AtomicInteger();
+
+    /**
+     * 스레드별 카운터. JMH가 스레드/반복 합계를 결과에 기록
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Connections {
+
+        public int serverConnections;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            serverConnections = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                .doOnChannelInit((observer, channel, address) -> unreportedConnections.incrementAndGet())
+                .handle((request, response) -> response.sendString(
+                        Mono.just(BODY).delayElement(Duration.ofMillis(2))))
+                .bindNow();
+
+        http2 = new Http2Properties();
+        http2.setMode(mode);
+        pool = new ConnectionPoolProperties();
+        pool.setMaxConnections(100);
+        pool.setPendingAcquireMaxCount(1000);
+    }
+
+    @Setup(Level.Iteration)
+    public void openClient() {
+        unreportedConnections.set(0);
+        connectionProvider = DownstreamHttpClients.connectionProvider("room-info-service", pool, http2, 100);
+        webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.port())
+                .clientConnector(new ReactorClientHttpConnector(DownstreamHttpClients.httpClient(connectionProvider, http2, false)))
+                .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeClient() {
+        connectionProvider.disposeLater().block();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public String getRoom(Connections counters) {
+        String room = webClient.get()
+                .uri("/api/v1/rooms/{roomId}", 7)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+        counters.serverConnections += unreportedConnections.getAndSet(0);
+        return room;
+    }
+}
@@ -0,0 +1,128 @@
+package com.teambind.springproject.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.auth.TokenRevocationList;
+import com.teambind.springproject.auth.VerifiedTokenCache;
+import com.teambind.springproject.auth.VerifiedTokenResolver;
+import com.teambind.springproject.config.properties.JwtProperties;
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import com.teambind.springproject.config.properties.RoutingProperties;
+import com.teambind.springproject.filter.JwtAuthenticationFilter;
+import com.teambind.springproject.filter.RateLimitFilter;
+import com.teambind.springproject.ratelimit.Quota;
+import com.teambind.springproject.ratelimit.RateLimitResult;
+import com.teambind.springproject.ratelimit.RateLimiterService;
+import com.teambind.springproject.routing.RouteClassifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RateLimitFilter -> JwtAuthenticationFilter 핫패스 성능
+ * - RateLimiterService는 Redis 없이 항상 허용하는 스텁으로 대체
+ * - exchange 생성 비용은 baselineExchange로 따로 측정해 차감해서 해석
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FilterChainBenchmark {
+
+    private static final String PATH = "/api/v1/places/77";
+    private static final WebFilterChain TERMINAL = exchange -> Mono.empty();
+
+    @Param({"true", "false"})
+    public boolean tokenCache;
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private RateLimitFilter rateLimitFilter;
+    private WebFilterChain authenticatedChain;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        RouteClassifier routeClassifier = new RouteClassifier(
+                new RoutingProperties(), rateLimitProperties, new GatewayProperties());
+
+        JwtProperties jwtProperties = BenchmarkTokens.properties();
+        jwtProperties.getCache().setEnabled(tokenCache);
+        VerifiedTokenResolver verifiedTokenResolver = new VerifiedTokenResolver(
+                BenchmarkTokens.validator(jwtProperties),
+                new VerifiedTokenCache(jwtProperties, meterRegistry));
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+                verifiedTokenResolver,
+                // revocation 비활성화 상태이므로 Redis 템플릿 불필요
+                new TokenRevocationList(jwtProperties, null, meterRegistry),
+                routeClassifier,
+                objectMapper
+        );
+
+        rateLimitFilter = new RateLimitFilter(
+                new AllowingRateLimiterService(), rateLimitProperties, routeClassifier, verifiedTokenResolver, objectMapper);
+        authenticatedChain = exchange -> jwtAuthenticationFilter.filter(exchange, TERMINAL);
+        authorization = "Bearer " + BenchmarkTokens.valid();
+    }
+
+    @Benchmark
+    public ServerWebExchange baselineExchange() {
+        return exchange();
+    }
+
+    @Benchmark
+    public Void jwtAuthenticationFilter() {
+        return jwtAuthenticationFilter.filter(exchange(), TERMINAL).block();
+    }
+
+    @Benchmark
+    public Void rateLimitFilter() {
+        return rateLimitFilter.filter(exchange(), TERMINAL).block();
+    }
+
+    @Benchmark
+    public Void rateLimitThenAuthentication() {
+        return rateLimitFilter.filter(exchange(), authenticatedChain).block();
+    }
+
+    private MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .header("X-App-Type", "PLACE_MANAGER")
+                .header("X-Forwarded-For", "203.0.113.7"));
+    }
+
+    /**
+     * Redis 호출 없이 항상 허용
+     */
+    private static final class AllowingRateLimiterService extends RateLimiterService {
+
+        private static final Mono<RateLimitResult> ALLOWED = Mono.just(RateLimitResult.allowed(99, 0));
+
+        private AllowingRateLimiterService() {
+            super(null, new RateLimitProperties(), new SimpleMeterRegistry());
+        }
+
+        @Override
+        public Mono<RateLimitResult> isAllowed(List<Quota> quotas) {
+            return ALLOWED;
+        }
+    }
+}
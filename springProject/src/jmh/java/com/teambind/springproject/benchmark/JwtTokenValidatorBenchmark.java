@@ -0,0 +1,57 @@
+package com.teambind.springproject.benchmark;
+
+import com.teambind.springproject.auth.JwtTokenValidator;
+import com.teambind.springproject.auth.ValidatedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenValidator.validate 단독 성능 (캐시 미적용 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenValidatorBenchmark {
+
+    private JwtTokenValidator validator;
+    private String validToken;
+    private String expiredToken;
+    private String badSignatureToken;
+    private String largePayloadToken;
+
+    @Setup
+    public void setUp() {
+        validator = BenchmarkTokens.validator(BenchmarkTokens.properties());
+        validToken = BenchmarkTokens.valid();
+        expiredToken = BenchmarkTokens.expired();
+        badSignatureToken = BenchmarkTokens.badSignature();
+        largePayloadToken = BenchmarkTokens.largePayload();
+    }
+
+    @Benchmark
+    public ValidatedToken valid() {
+        return validator.validate(validToken);
+    }
+
+    @Benchmark
+    public ValidatedToken expired() {
+        return validator.validate(expiredToken);
+    }
+
+    @Benchmark
+    public ValidatedToken badSignature() {
+        return validator.validate(badSignatureToken);
+    }
+
+    @Benchmark
+    public ValidatedToken largePayload() {
+        return validator.validate(largePayloadToken);
+    }
+}
@@ -0,0 +1,99 @@
+package com.teambind.springproject.benchmark;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import com.teambind.springproject.ratelimit.Quota;
+import com.teambind.springproject.ratelimit.RateLimiterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis Cluster에서 Rate Limit 판정 처리량 (판정/초)
+ * - 클러스터: ./scripts/redis-cluster.sh start N 후 REDIS_CLUSTER_NODES 환경변수로 지정
+ * - 샤드 수(N)를 바꿔 가며 실행해 partitions=64의 처리량이 샤드 수에 따라 늘어나는지 확인
+ *   partitions=1은 모든 키가 한 슬롯(한 샤드)에 모이는 기준선
+ * - 실행: ./gradlew jmh -PjmhIncludes=RateLimiterCluster
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RateLimiterClusterBenchmark {
+
+    private static final int REQUESTS = 512;
+    private static final int USERS = 100_000;
+
+    @Param({"1", "64"})
+    public int partitions;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RateLimiterService rateLimiterService;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitProperties.Policy policy;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String nodes = System.getenv().getOrDefault("REDIS_CLUSTER_NODES", "127.0.0.1:7001");
+        connectionFactory = new LettuceConnectionFactory(new RedisClusterConfiguration(Arrays.asList(nodes.split(","))));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getCluster().setEnabled(true);
+        properties.getCluster().setPartitions(partitions);
+        // 로컬 대체 판정이 처리량에 섞이지 않도록 비활성화 (실패는 tearDown에서 확인)
+        properties.getFallback().setEnabled(false);
+        properties.getFallback().setTimeout(Duration.ofSeconds(5));
+
+        policy = new RateLimitProperties.Policy();
+        policy.setLimit(1_000_000);
+        policy.setDuration(Duration.ofMinutes(1));
+        policy.setBurstCapacity(1_000_000);
+
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiterService = new RateLimiterService(
+                new ReactiveStringRedisTemplate(connectionFactory), properties, meterRegistry);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+        double failOpen = meterRegistry.find("gateway.ratelimit.fail.open").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+        if (failOpen > 0) {
+            throw new IllegalStateException(failOpen + " decisions failed open; results are not valid");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public Long decisions() {
+        return Flux.range(0, REQUESTS)
+                .flatMap(i -> {
+                    String user = "user:" + (sequence.getAndIncrement() % USERS);
+                    return rateLimiterService.isAllowed(List.of(new Quota("user", user, "benchmark", policy)));
+                }, REQUESTS)
+                .count()
+                .block();
+    }
+}
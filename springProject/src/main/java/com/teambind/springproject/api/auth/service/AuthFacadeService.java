@@ -4,23 +4,34 @@ import com.teambind.springproject.api.auth.client.AuthClient;
 import com.teambind.springproject.api.auth.dto.request.LoginRequest;
 import com.teambind.springproject.api.auth.dto.request.TokenRefreshRequest;
 import com.teambind.springproject.api.auth.dto.response.LoginResponse;
+import com.teambind.springproject.circuitbreaker.AbstractFacadeService;
+import com.teambind.springproject.circuitbreaker.EndpointCircuitBreakerRegistry;
+import com.teambind.springproject.circuitbreaker.ServiceBulkheadRegistry;
 import com.teambind.springproject.common.response.ApiResponse;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
-@Slf4j
 @Service
-@RequiredArgsConstructor
-public class AuthFacadeService {
+public class AuthFacadeService extends AbstractFacadeService {
 
     private final AuthClient authClient;
 
+    public AuthFacadeService(
+            AuthClient authClient,
+            @Qualifier("authServiceCircuitBreaker") CircuitBreaker circuitBreaker,
+            EndpointCircuitBreakerRegistry endpointCircuitBreakers,
+            ServiceBulkheadRegistry bulkheadRegistry
+    ) {
+        super(circuitBreaker, endpointCircuitBreakers, bulkheadRegistry, "auth-service");
+        this.authClient = authClient;
+    }
+
     public Mono<ApiResponse<LoginResponse>> login(LoginRequest request) {
         log.info("Login request - email: {}", request.getEmail());
 
-        return authClient.login(request)
+        return withCircuitBreaker("login", authClient.login(request))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Login successful for email: {}", request.getEmail()))
                 .doOnError(error -> log.error("Login failed for email: {}, error: {}", request.getEmail(), error.getMessage()));
@@ -29,7 +40,7 @@ public class AuthFacadeService {
     public Mono<ApiResponse<LoginResponse>> refreshToken(TokenRefreshRequest request) {
         log.info("Token refresh request - deviceId: {}", request.getDeviceId());
 
-        return authClient.refreshToken(request)
+        return withCircuitBreaker("refreshToken", authClient.refreshToken(request))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Token refresh successful for deviceId: {}", request.getDeviceId()))
                 .doOnError(error -> log.error("Token refresh failed for deviceId: {}, error: {}", request.getDeviceId(), error.getMessage()));
@@ -1,20 +1,31 @@
 package com.teambind.springproject.api.image.service;
 
 import com.teambind.springproject.api.image.client.ImageClient;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import com.teambind.springproject.circuitbreaker.AbstractFacadeService;
+import com.teambind.springproject.circuitbreaker.EndpointCircuitBreakerRegistry;
+import com.teambind.springproject.circuitbreaker.ServiceBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
 
-@Slf4j
 @Service
-@RequiredArgsConstructor
-public class ImageConfirmService {
+public class ImageConfirmService extends AbstractFacadeService {
 
     private final ImageClient imageClient;
 
+    public ImageConfirmService(
+            ImageClient imageClient,
+            @Qualifier("imageServiceCircuitBreaker") CircuitBreaker circuitBreaker,
+            EndpointCircuitBreakerRegistry endpointCircuitBreakers,
+            ServiceBulkheadRegistry bulkheadRegistry
+    ) {
+        super(circuitBreaker, endpointCircuitBreakers, bulkheadRegistry, "image-service");
+        this.imageClient = imageClient;
+    }
+
     public Mono<Void> confirmImage(String referenceId, List<String> imageIds) {
         if (imageIds == null || imageIds.isEmpty()) {
             log.debug("No images to confirm for referenceId: {}", referenceId);
@@ -24,8 +35,8 @@ public class ImageConfirmService {
         log.info("Confirming images - referenceId: {}, imageIds: {}", referenceId, imageIds);
 
         if (imageIds.size() == 1) {
-            return imageClient.confirmImage(referenceId, imageIds.get(0));
+            return withCircuitBreaker("confirmImage", imageClient.confirmImage(referenceId, imageIds.get(0)));
         }
-        return imageClient.confirmImage(referenceId, imageIds);
+        return withCircuitBreaker("confirmImage", imageClient.confirmImage(referenceId, imageIds));
     }
 }
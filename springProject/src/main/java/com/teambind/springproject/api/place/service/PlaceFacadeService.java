@@ -6,9 +6,14 @@ import com.teambind.springproject.api.place.client.PlaceClient;
 import com.teambind.springproject.api.place.dto.request.PlaceRegisterRequest;
 import com.teambind.springproject.api.place.dto.request.PlaceUpdateRequest;
 import com.teambind.springproject.api.place.dto.response.PlaceResponse;
+import com.teambind.springproject.circuitbreaker.AbstractFacadeService;
+import com.teambind.springproject.circuitbreaker.EndpointCircuitBreakerRegistry;
+import com.teambind.springproject.circuitbreaker.LastKnownGoodCache;
+import com.teambind.springproject.circuitbreaker.ServiceBulkheadRegistry;
 import com.teambind.springproject.common.response.ApiResponse;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -16,14 +21,33 @@ import reactor.core.publisher.Mono;
 import java.util.List;
 import java.util.Map;
 
-@Slf4j
 @Service
-@RequiredArgsConstructor
-public class PlaceFacadeService {
+public class PlaceFacadeService extends AbstractFacadeService {
+
+    private static final ParameterizedTypeReference<PlaceResponse> PLACE =
+            new ParameterizedTypeReference<>() {
+            };
 
     private final PlaceClient placeClient;
     private final ImageConfirmService imageConfirmService;
     private final ObjectMapper objectMapper;
+    private final LastKnownGoodCache lastKnownGood;
+
+    public PlaceFacadeService(
+            PlaceClient placeClient,
+            ImageConfirmService imageConfirmService,
+            ObjectMapper objectMapper,
+            LastKnownGoodCache lastKnownGood,
+            @Qualifier("placeServiceCircuitBreaker") CircuitBreaker circuitBreaker,
+            EndpointCircuitBreakerRegistry endpointCircuitBreakers,
+            ServiceBulkheadRegistry bulkheadRegistry
+    ) {
+        super(circuitBreaker, endpointCircuitBreakers, bulkheadRegistry, "place-info-service");
+        this.placeClient = placeClient;
+        this.imageConfirmService = imageConfirmService;
+        this.objectMapper = objectMapper;
+        this.lastKnownGood = lastKnownGood;
+    }
 
     /**
      * 공간 등록 (순차 처리: 등록 성공 후 이미지 확정)
@@ -37,7 +61,7 @@ public class PlaceFacadeService {
         @SuppressWarnings("unchecked")
         Map<String, Object> requestBody = objectMapper.convertValue(placeRegisterRequest, Map.class);
 
-        return placeClient.registerPlace(userId, appType, requestBody)
+        return withCircuitBreaker("registerPlace", placeClient.registerPlace(userId, appType, requestBody))
                 .flatMap(response -> confirmImagesSequential(response, placeRegisterRequest.getImageIds()))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Place registered successfully for userId: {}", userId))
@@ -53,19 +77,19 @@ public class PlaceFacadeService {
 
         log.info("Get my places request - userId: {}", userId);
 
-        return placeClient.getMyPlaces(userId, appType)
+        return withCircuitBreaker("getMyPlaces", placeClient.getMyPlaces(userId, appType))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("My places retrieved for userId: {}", userId))
                 .doOnError(error -> log.error("Failed to get my places for userId: {}, error: {}", userId, error.getMessage()));
     }
 
     /**
-     * 공간 상세 조회
+     * 공간 상세 조회 (서비스 불가 시 마지막 성공 응답으로 대체)
      */
     public Mono<ApiResponse<PlaceResponse>> getPlace(String placeId) {
         log.info("Get place request - placeId: {}", placeId);
 
-        return placeClient.getPlace(placeId)
+        return lastKnownGood.withFallback("place:" + placeId, PLACE, withCircuitBreaker("getPlace", placeClient.getPlace(placeId)))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Place retrieved: {}", placeId))
                 .doOnError(error -> log.error("Failed to get place {}: {}", placeId, error.getMessage()));
@@ -83,7 +107,7 @@ public class PlaceFacadeService {
         @SuppressWarnings("unchecked")
         Map<String, Object> requestBody = objectMapper.convertValue(updateRequest, Map.class);
 
-        Mono<PlaceResponse> updateMono = placeClient.updatePlace(placeId, userId, appType, requestBody);
+        Mono<PlaceResponse> updateMono = withCircuitBreaker("updatePlace", placeClient.updatePlace(placeId, userId, appType, requestBody));
 
         List<String> imageIds = updateRequest.getImageIds();
         if (imageIds != null && !imageIds.isEmpty()) {
@@ -113,7 +137,7 @@ public class PlaceFacadeService {
 
         log.info("Location update request - placeId: {}, userId: {}", placeId, userId);
 
-        return placeClient.updateLocation(placeId, userId, appType, requestBody)
+        return withCircuitBreaker("updateLocation", placeClient.updateLocation(placeId, userId, appType, requestBody))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Location updated for placeId: {}", placeId))
                 .doOnError(error -> log.error("Failed to update location for placeId {}: {}", placeId, error.getMessage()));
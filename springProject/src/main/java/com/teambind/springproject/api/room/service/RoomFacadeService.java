@@ -9,9 +9,14 @@ import com.teambind.springproject.api.room.dto.request.RoomUpdateRequest;
 import com.teambind.springproject.api.room.dto.response.ReservationFieldResponse;
 import com.teambind.springproject.api.room.dto.response.RoomDetailResponse;
 import com.teambind.springproject.api.room.dto.response.RoomSimpleResponse;
+import com.teambind.springproject.circuitbreaker.AbstractFacadeService;
+import com.teambind.springproject.circuitbreaker.EndpointCircuitBreakerRegistry;
+import com.teambind.springproject.circuitbreaker.LastKnownGoodCache;
+import com.teambind.springproject.circuitbreaker.ServiceBulkheadRegistry;
 import com.teambind.springproject.common.response.ApiResponse;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -20,14 +25,39 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-@Slf4j
 @Service
-@RequiredArgsConstructor
-public class RoomFacadeService {
+public class RoomFacadeService extends AbstractFacadeService {
+
+    private static final ParameterizedTypeReference<RoomDetailResponse> ROOM =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final ParameterizedTypeReference<List<RoomSimpleResponse>> ROOMS =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final ParameterizedTypeReference<List<ReservationFieldResponse>> RESERVATION_FIELDS =
+            new ParameterizedTypeReference<>() {
+            };
 
     private final RoomClient roomClient;
     private final ImageConfirmService imageConfirmService;
     private final ObjectMapper objectMapper;
+    private final LastKnownGoodCache lastKnownGood;
+
+    public RoomFacadeService(
+            RoomClient roomClient,
+            ImageConfirmService imageConfirmService,
+            ObjectMapper objectMapper,
+            LastKnownGoodCache lastKnownGood,
+            @Qualifier("roomServiceCircuitBreaker") CircuitBreaker circuitBreaker,
+            EndpointCircuitBreakerRegistry endpointCircuitBreakers,
+            ServiceBulkheadRegistry bulkheadRegistry
+    ) {
+        super(circuitBreaker, endpointCircuitBreakers, bulkheadRegistry, "room-info-service");
+        this.roomClient = roomClient;
+        this.imageConfirmService = imageConfirmService;
+        this.objectMapper = objectMapper;
+        this.lastKnownGood = lastKnownGood;
+    }
 
     /**
      * Room 등록 (순차 처리: 등록 성공 후 이미지 확정)
@@ -41,7 +71,7 @@ public class RoomFacadeService {
         Map<String, Object> requestBody = convertToMapWithoutImageIds(createRequest);
         List<String> imageIds = createRequest.getImageIds();
 
-        return roomClient.createRoom(userId, appType, requestBody)
+        return withCircuitBreaker("createRoom", roomClient.createRoom(userId, appType, requestBody))
                 .flatMap(roomId -> confirmImagesSequential(roomId, imageIds))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Room created successfully for userId: {}", userId))
@@ -60,7 +90,7 @@ public class RoomFacadeService {
         Map<String, Object> requestBody = convertToMapWithoutImageIds(updateRequest);
         List<String> imageIds = updateRequest.getImageIds();
 
-        Mono<Long> updateMono = roomClient.updateRoom(roomId, userId, appType, requestBody);
+        Mono<Long> updateMono = withCircuitBreaker("updateRoom", roomClient.updateRoom(roomId, userId, appType, requestBody));
 
         if (imageIds != null && !imageIds.isEmpty()) {
             Mono<Void> imageConfirmMono = imageConfirmService.confirmImage(String.valueOf(roomId), imageIds)
@@ -81,28 +111,30 @@ public class RoomFacadeService {
     }
 
     /**
-     * Room 상세 조회
+     * Room 상세 조회 (서비스 불가 시 마지막 성공 응답으로 대체)
      */
     public Mono<ApiResponse<RoomDetailResponse>> getRoom(Long roomId, ServerHttpRequest request) {
         String appType = request.getHeaders().getFirst("X-App-Type");
 
         log.info("Get room request - roomId: {}", roomId);
 
-        return roomClient.getRoom(roomId, appType)
+        return lastKnownGood.withFallback("room:" + roomId + ":" + appType, ROOM,
+                        withCircuitBreaker("getRoom", roomClient.getRoom(roomId, appType)))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Room retrieved: {}", roomId))
                 .doOnError(error -> log.error("Failed to get room {}: {}", roomId, error.getMessage()));
     }
 
     /**
-     * Place별 Room 목록 조회
+     * Place별 Room 목록 조회 (서비스 불가 시 마지막 성공 응답으로 대체)
      */
     public Mono<ApiResponse<List<RoomSimpleResponse>>> getRoomsByPlace(Long placeId, ServerHttpRequest request) {
         String appType = request.getHeaders().getFirst("X-App-Type");
 
         log.info("Get rooms by place request - placeId: {}", placeId);
 
-        return roomClient.getRoomsByPlace(placeId, appType)
+        return lastKnownGood.withFallback("rooms-by-place:" + placeId + ":" + appType, ROOMS,
+                        withCircuitBreaker("getRoomsByPlace", roomClient.getRoomsByPlace(placeId, appType)))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Rooms retrieved for placeId: {}", placeId))
                 .doOnError(error -> log.error("Failed to get rooms for placeId {}: {}", placeId, error.getMessage()));
@@ -117,7 +149,7 @@ public class RoomFacadeService {
 
         log.info("Update room status request - roomId: {}, status: {}", roomId, status);
 
-        return roomClient.updateRoomStatus(roomId, userId, appType, status)
+        return withCircuitBreaker("updateRoomStatus", roomClient.updateRoomStatus(roomId, userId, appType, status))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Room status updated: {} to {}", roomId, status))
                 .doOnError(error -> log.error("Failed to update room status {}: {}", roomId, error.getMessage()));
@@ -132,19 +164,20 @@ public class RoomFacadeService {
 
         log.info("Delete room request - roomId: {}", roomId);
 
-        return roomClient.deleteRoom(roomId, userId, appType)
+        return withCircuitBreaker("deleteRoom", roomClient.deleteRoom(roomId, userId, appType))
                 .then(Mono.just(ApiResponse.<Void>ok(null)))
                 .doOnSuccess(r -> log.info("Room deleted: {}", roomId))
                 .doOnError(error -> log.error("Failed to delete room {}: {}", roomId, error.getMessage()));
     }
 
     /**
-     * 예약 필드 조회
+     * 예약 필드 조회 (서비스 불가 시 마지막 성공 응답으로 대체)
      */
     public Mono<ApiResponse<List<ReservationFieldResponse>>> getReservationFields(Long roomId) {
         log.info("Get reservation fields request - roomId: {}", roomId);
 
-        return roomClient.getReservationFields(roomId)
+        return lastKnownGood.withFallback("reservation-fields:" + roomId, RESERVATION_FIELDS,
+                        withCircuitBreaker("getReservationFields", roomClient.getReservationFields(roomId)))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Reservation fields retrieved for roomId: {}", roomId))
                 .doOnError(error -> log.error("Failed to get reservation fields for roomId {}: {}", roomId, error.getMessage()));
@@ -159,7 +192,7 @@ public class RoomFacadeService {
 
         log.info("Add reservation field request - roomId: {}", roomId);
 
-        return roomClient.addReservationField(roomId, userId, appType, requestBody)
+        return withCircuitBreaker("addReservationField", roomClient.addReservationField(roomId, userId, appType, requestBody))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Reservation field added for roomId: {}", roomId))
                 .doOnError(error -> log.error("Failed to add reservation field for roomId {}: {}", roomId, error.getMessage()));
@@ -174,7 +207,7 @@ public class RoomFacadeService {
 
         log.info("Delete reservation field request - roomId: {}, fieldId: {}", roomId, fieldId);
 
-        return roomClient.deleteReservationField(roomId, fieldId, userId, appType)
+        return withCircuitBreaker("deleteReservationField", roomClient.deleteReservationField(roomId, fieldId, userId, appType))
                 .then(Mono.just(ApiResponse.<Void>ok(null)))
                 .doOnSuccess(r -> log.info("Reservation field deleted: {}", fieldId))
                 .doOnError(error -> log.error("Failed to delete reservation field {}: {}", fieldId, error.getMessage()));
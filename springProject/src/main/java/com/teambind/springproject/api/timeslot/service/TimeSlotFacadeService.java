@@ -13,9 +13,12 @@ import com.teambind.springproject.api.timeslot.dto.response.MultiSlotReservation
 import com.teambind.springproject.api.timeslot.dto.response.OperatingHoursUpdateResponse;
 import com.teambind.springproject.api.timeslot.dto.response.RoomSetupResponse;
 import com.teambind.springproject.api.timeslot.dto.response.SlotGenerationStatusResponse;
+import com.teambind.springproject.circuitbreaker.AbstractFacadeService;
+import com.teambind.springproject.circuitbreaker.EndpointCircuitBreakerRegistry;
+import com.teambind.springproject.circuitbreaker.ServiceBulkheadRegistry;
 import com.teambind.springproject.common.response.ApiResponse;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -23,20 +26,28 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDate;
 import java.util.List;
 
-@Slf4j
 @Service
-@RequiredArgsConstructor
-public class TimeSlotFacadeService {
+public class TimeSlotFacadeService extends AbstractFacadeService {
 
     private final TimeSlotClient timeSlotClient;
 
+    public TimeSlotFacadeService(
+            TimeSlotClient timeSlotClient,
+            @Qualifier("reservationServiceCircuitBreaker") CircuitBreaker circuitBreaker,
+            EndpointCircuitBreakerRegistry endpointCircuitBreakers,
+            ServiceBulkheadRegistry bulkheadRegistry
+    ) {
+        super(circuitBreaker, endpointCircuitBreakers, bulkheadRegistry, "lee-yong-gwan-lee-service");
+        this.timeSlotClient = timeSlotClient;
+    }
+
     /**
      * 예약 가능 슬롯 조회.
      */
     public Mono<ApiResponse<List<AvailableSlotResponse>>> getAvailableSlots(Long roomId, LocalDate date) {
         log.info("Get available slots - roomId: {}, date: {}", roomId, date);
 
-        return timeSlotClient.getAvailableSlots(roomId, date)
+        return withCircuitBreaker("getAvailableSlots", timeSlotClient.getAvailableSlots(roomId, date))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Available slots retrieved for roomId: {}", roomId))
                 .doOnError(error -> log.error("Failed to get available slots: {}", error.getMessage()));
@@ -49,7 +60,7 @@ public class TimeSlotFacadeService {
         log.info("Create reservation - roomId: {}, date: {}, time: {}",
                 request.roomId(), request.slotDate(), request.slotTime());
 
-        return timeSlotClient.createReservation(request)
+        return withCircuitBreaker("createReservation", timeSlotClient.createReservation(request))
                 .then(Mono.just(ApiResponse.<Void>ok(null)))
                 .doOnSuccess(r -> log.info("Reservation created successfully"))
                 .doOnError(error -> log.error("Failed to create reservation: {}", error.getMessage()));
@@ -62,7 +73,7 @@ public class TimeSlotFacadeService {
         log.info("Create multi-slot reservation - roomId: {}, date: {}, times: {}",
                 request.roomId(), request.slotDate(), request.slotTimes());
 
-        return timeSlotClient.createMultiSlotReservation(request)
+        return withCircuitBreaker("createMultiSlotReservation", timeSlotClient.createMultiSlotReservation(request))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Multi-slot reservation created: {}", r.getData().reservationId()))
                 .doOnError(error -> log.error("Failed to create multi-slot reservation: {}", error.getMessage()));
@@ -77,7 +88,7 @@ public class TimeSlotFacadeService {
 
         log.info("Setup room - roomId: {}, userId: {}", setupRequest.roomId(), userId);
 
-        return timeSlotClient.setupRoom(userId, appType, setupRequest)
+        return withCircuitBreaker("setupRoom", timeSlotClient.setupRoom(userId, appType, setupRequest))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Room setup accepted: {}", r.getData().requestId()))
                 .doOnError(error -> log.error("Failed to setup room: {}", error.getMessage()));
@@ -89,7 +100,7 @@ public class TimeSlotFacadeService {
     public Mono<ApiResponse<SlotGenerationStatusResponse>> getSetupStatus(String requestId) {
         log.info("Get setup status - requestId: {}", requestId);
 
-        return timeSlotClient.getSetupStatus(requestId)
+        return withCircuitBreaker("getSetupStatus", timeSlotClient.getSetupStatus(requestId))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Setup status: {}", r.getData().status()))
                 .doOnError(error -> log.error("Failed to get setup status: {}", error.getMessage()));
@@ -104,7 +115,7 @@ public class TimeSlotFacadeService {
 
         log.info("Setup closed dates - roomId: {}, userId: {}", setupRequest.roomId(), userId);
 
-        return timeSlotClient.setupClosedDates(userId, appType, setupRequest)
+        return withCircuitBreaker("setupClosedDates", timeSlotClient.setupClosedDates(userId, appType, setupRequest))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Closed dates setup accepted: {}", r.getData().requestId()))
                 .doOnError(error -> log.error("Failed to setup closed dates: {}", error.getMessage()));
@@ -119,7 +130,7 @@ public class TimeSlotFacadeService {
 
         log.info("Ensure slots - roomId: {}, userId: {}", roomId, userId);
 
-        return timeSlotClient.ensureSlots(roomId, userId, appType)
+        return withCircuitBreaker("ensureSlots", timeSlotClient.ensureSlots(roomId, userId, appType))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Slots ensured: {} generated", r.getData().generatedCount()))
                 .doOnError(error -> log.error("Failed to ensure slots: {}", error.getMessage()));
@@ -134,7 +145,7 @@ public class TimeSlotFacadeService {
 
         log.info("Update operating hours - roomId: {}, userId: {}", updateRequest.roomId(), userId);
 
-        return timeSlotClient.updateOperatingHours(userId, appType, updateRequest)
+        return withCircuitBreaker("updateOperatingHours", timeSlotClient.updateOperatingHours(userId, appType, updateRequest))
                 .map(ApiResponse::ok)
                 .doOnSuccess(r -> log.info("Operating hours update accepted: {}", r.getData().requestId()))
                 .doOnError(error -> log.error("Failed to update operating hours: {}", error.getMessage()));
@@ -0,0 +1,72 @@
+package com.teambind.springproject.auth;
+
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * RS256 / ES256 서명 검증기
+ * - 공개키는 JwksKeyProvider가 미리 파싱해 둔 PublicKey를 그대로 사용
+ * - 알고리즘별 Signature 인스턴스와 작업 버퍼를 스레드별로 재사용 (프로바이더 조회는 스레드당 1회)
+ */
+final class AsymmetricSignatureVerifier {
+
+    // RSA 8192비트 서명까지 수용
+    private static final int MAX_SIGNATURE_LENGTH = 1024;
+    private static final int INITIAL_INPUT_CAPACITY = 1024;
+
+    private final ThreadLocal<Engine> engines = ThreadLocal.withInitial(Engine::new);
+
+    /**
+     * token[0, signingInputEnd) 서명 입력과 token[signatureStart, signatureEnd) 서명을 key로 검증
+     */
+    boolean verify(CharSequence token, int signingInputEnd, int signatureStart, int signatureEnd, VerificationKey key) {
+        Engine engine = engines.get();
+
+        int signatureLength = Base64Url.decode(token, signatureStart, signatureEnd, engine.signatureBytes, true);
+        if (signatureLength <= 0) {
+            return false;
+        }
+
+        byte[] input = engine.input(signingInputEnd);
+        for (int i = 0; i < signingInputEnd; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7F) {
+                return false;
+            }
+            input[i] = (byte) c;
+        }
+
+        try {
+            Signature signature = engine.signature(key.algorithm());
+            signature.initVerify(key.publicKey());
+            signature.update(input, 0, signingInputEnd);
+            return signature.verify(engine.signatureBytes, 0, signatureLength);
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    private static final class Engine {
+        private final Map<JwsAlgorithm, Signature> signatures = new EnumMap<>(JwsAlgorithm.class);
+        private final byte[] signatureBytes = new byte[MAX_SIGNATURE_LENGTH];
+        private byte[] input = new byte[INITIAL_INPUT_CAPACITY];
+
+        private Signature signature(JwsAlgorithm algorithm) throws GeneralSecurityException {
+            Signature signature = signatures.get(algorithm);
+            if (signature == null) {
+                signature = Signature.getInstance(algorithm.getJcaName());
+                signatures.put(algorithm, signature);
+            }
+            return signature;
+        }
+
+        private byte[] input(int length) {
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+            return input;
+        }
+    }
+}
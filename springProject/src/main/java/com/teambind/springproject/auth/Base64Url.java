@@ -0,0 +1,69 @@
+package com.teambind.springproject.auth;
+
+import java.util.Arrays;
+
+/**
+ * 할당 없는 base64url(패딩 없음) 디코더
+ * - 토큰 문자열의 일부 구간을 호출자가 제공한 버퍼로 직접 디코딩
+ */
+final class Base64Url {
+
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            DECODE_TABLE[ALPHABET.charAt(i)] = (byte) i;
+        }
+    }
+
+    private Base64Url() {
+    }
+
+    /**
+     * 인코딩 길이로부터 디코딩 후 바이트 수 계산. 불가능한 길이면 -1
+     */
+    static int decodedLength(int encodedLength) {
+        if (encodedLength < 0 || encodedLength % 4 == 1) {
+            return -1;
+        }
+        return encodedLength / 4 * 3 + Math.max(0, encodedLength % 4 - 1);
+    }
+
+    /**
+     * src[from, to) 구간을 dst에 디코딩
+     *
+     * @param strict true면 마지막 문자의 사용되지 않는 비트가 0이 아닐 때 거부 (서명 변조 방지)
+     * @return 기록한 바이트 수, 형식이 잘못되었거나 버퍼가 작으면 -1
+     */
+    static int decode(CharSequence src, int from, int to, byte[] dst, boolean strict) {
+        int length = decodedLength(to - from);
+        if (length < 0 || length > dst.length) {
+            return -1;
+        }
+
+        int out = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            char c = src.charAt(i);
+            int value = c < 128 ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                dst[out++] = (byte) (bits >> bitCount);
+                bits &= (1 << bitCount) - 1;
+            }
+        }
+
+        if (strict && bits != 0) {
+            return -1;
+        }
+        return out;
+    }
+}
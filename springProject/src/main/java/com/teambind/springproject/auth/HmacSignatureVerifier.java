@@ -0,0 +1,110 @@
+package com.teambind.springproject.auth;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+/**
+ * HS256 서명 검증기
+ * - 비밀 키는 생성 시 한 번만 SecretKeySpec으로 만들고 초기화된 Mac을 프로토타입으로 보관
+ * - 이벤트 루프 스레드마다 프로토타입을 복제한 Mac과 작업 버퍼를 재사용 (ThreadLocal)
+ * - 서명은 문자열로 인코딩하지 않고 바이트로 디코딩하여 MessageDigest.isEqual로 비교
+ * - 검증 성공 경로에서 추가 할당 없음
+ */
+public final class HmacSignatureVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int INITIAL_INPUT_CAPACITY = 1024;
+
+    private final SecretKeySpec keySpec;
+    private final Mac prototype;
+    private final ThreadLocal<Engine> engines;
+
+    public HmacSignatureVerifier(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("gateway.jwt.secret must be configured");
+        }
+        this.keySpec = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(keySpec);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+        }
+        this.engines = ThreadLocal.withInitial(() -> new Engine(newMac()));
+    }
+
+    /**
+     * token[0, signingInputEnd)를 서명 입력으로, token[signingInputEnd + 1, length)를 서명으로 보고 검증
+     */
+    public boolean verify(String token, int signingInputEnd) {
+        return verify(token, signingInputEnd, signingInputEnd + 1, token.length());
+    }
+
+    /**
+     * token[0, signingInputEnd) 서명 입력과 token[signatureStart, signatureEnd) 서명을 검증
+     */
+    public boolean verify(CharSequence token, int signingInputEnd, int signatureStart, int signatureEnd) {
+        Engine engine = engines.get();
+
+        if (Base64Url.decode(token, signatureStart, signatureEnd, engine.actual, true) != SIGNATURE_LENGTH) {
+            return false;
+        }
+
+        // 서명 입력은 base64url 문자(ASCII)만 포함하므로 1:1로 바이트 변환
+        byte[] input = engine.input(signingInputEnd);
+        for (int i = 0; i < signingInputEnd; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7F) {
+                return false;
+            }
+            input[i] = (byte) c;
+        }
+
+        try {
+            engine.mac.update(input, 0, signingInputEnd);
+            engine.mac.doFinal(engine.expected, 0);
+        } catch (GeneralSecurityException e) {
+            engine.mac.reset();
+            return false;
+        }
+
+        return MessageDigest.isEqual(engine.expected, engine.actual);
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            // 복제를 지원하지 않는 프로바이더는 스레드당 한 번만 새로 초기화
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM, prototype.getProvider());
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("Failed to create " + ALGORITHM + " engine", ex);
+            }
+        }
+    }
+
+    private static final class Engine {
+        private final Mac mac;
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private final byte[] actual = new byte[SIGNATURE_LENGTH];
+        private byte[] input = new byte[INITIAL_INPUT_CAPACITY];
+
+        private Engine(Mac mac) {
+            this.mac = mac;
+        }
+
+        private byte[] input(int length) {
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+            return input;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.teambind.springproject.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.config.properties.JwtProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URLConnection;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * kid 기준 공개키 캐시 (JWKS)
+ * - 기동 시 1회 로드 후 boundedElastic 스케줄러에서 주기적으로 갱신
+ * - 키셋은 불변 Map으로 통째로 교체하므로 요청 경로는 락/IO 없이 조회만 수행
+ * - JWKS에 여러 키를 두면 키 교체 기간 동안 이전/신규 키 모두 유효
+ * - 모르는 kid가 들어오면 최소 간격을 지켜 비동기 갱신만 요청하고 현재 요청은 거부
+ */
+@Component
+public class JwksKeyProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksKeyProvider.class);
+
+    // kid가 없는 키/토큰용 키
+    private static final String NO_KID = "";
+
+    private final String location;
+    private final Duration minRefreshInterval;
+    private final Duration fetchTimeout;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong lastRefreshRequested = new AtomicLong();
+    private final Disposable refreshTask;
+
+    private volatile Map<String, VerificationKey> keys = Map.of();
+
+    public JwksKeyProvider(JwtProperties jwtProperties, ResourceLoader resourceLoader, ObjectMapper objectMapper) {
+        JwtProperties.Jwks jwks = jwtProperties.getJwks();
+        this.location = jwks.getLocation();
+        this.minRefreshInterval = jwks.getMinRefreshInterval();
+        this.fetchTimeout = jwks.getFetchTimeout();
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+
+        if (!isEnabled()) {
+            this.refreshTask = null;
+            return;
+        }
+
+        // 기동 시 동기 로드 (실패해도 백그라운드 갱신에서 재시도)
+        reload();
+
+        long intervalMillis = jwks.getRefreshInterval().toMillis();
+        this.refreshTask = Schedulers.boundedElastic()
+                .schedulePeriodically(this::reload, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return StringUtils.hasText(location);
+    }
+
+    /**
+     * kid와 알고리즘이 모두 일치하는 키 조회. 없으면 null
+     */
+    public VerificationKey find(String kid, JwsAlgorithm algorithm) {
+        VerificationKey key = keys.get(kid != null ? kid : NO_KID);
+        if (key == null) {
+            requestRefresh();
+            return null;
+        }
+        return key.algorithm() == algorithm ? key : null;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * 최소 간격 이내의 중복 요청은 무시하고 백그라운드 갱신 예약
+     */
+    void requestRefresh() {
+        if (!isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastRefreshRequested.get();
+        if (now - last < minRefreshInterval.toMillis() || !lastRefreshRequested.compareAndSet(last, now)) {
+            return;
+        }
+        Schedulers.boundedElastic().schedule(this::reload);
+    }
+
+    synchronized void reload() {
+        try (InputStream in = open()) {
+            Map<String, VerificationKey> loaded = parse(objectMapper.readTree(in));
+            if (loaded.isEmpty()) {
+                // 빈 키셋으로 교체하면 모든 비대칭 토큰이 거부되므로 기존 키 유지
+                log.warn("JWKS at {} contains no usable keys. Keeping {} existing keys", location, keys.size());
+                return;
+            }
+            keys = Map.copyOf(loaded);
+            log.info("Loaded {} JWKS keys from {}: {}", loaded.size(), location, loaded.keySet());
+        } catch (Exception e) {
+            log.error("Failed to load JWKS from {}: {}", location, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    private InputStream open() throws IOException {
+        if (location.startsWith("http://") || location.startsWith("https://")) {
+            URLConnection connection = URI.create(location).toURL().openConnection();
+            connection.setConnectTimeout((int) fetchTimeout.toMillis());
+            connection.setReadTimeout((int) fetchTimeout.toMillis());
+            return connection.getInputStream();
+        }
+        return resourceLoader.getResource(location).getInputStream();
+    }
+
+    private Map<String, VerificationKey> parse(JsonNode jwks) {
+        Map<String, VerificationKey> loaded = new HashMap<>();
+        for (JsonNode jwk : jwks.path("keys")) {
+            String kid = jwk.path("kid").asText(NO_KID);
+            String use = jwk.path("use").asText("sig");
+            if (!"sig".equals(use)) {
+                continue;
+            }
+            try {
+                VerificationKey key = toVerificationKey(kid, jwk);
+                if (key != null) {
+                    loaded.put(kid, key);
+                }
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                log.warn("Skipping invalid JWK kid={}: {}", kid, e.getMessage());
+            }
+        }
+        return loaded;
+    }
+
+    private VerificationKey toVerificationKey(String kid, JsonNode jwk) throws GeneralSecurityException {
+        String kty = jwk.path("kty").asText();
+        JwsAlgorithm declared = JwsAlgorithm.fromString(jwk.path("alg").asText(null));
+
+        return switch (kty) {
+            case "RSA" -> {
+                if (declared != null && declared != JwsAlgorithm.RS256) {
+                    yield unsupported(kid, jwk);
+                }
+                RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                        unsignedInt(jwk, "n"),
+                        unsignedInt(jwk, "e"));
+                yield new VerificationKey(kid, JwsAlgorithm.RS256, KeyFactory.getInstance("RSA").generatePublic(spec));
+            }
+            case "EC" -> {
+                if (!"P-256".equals(jwk.path("crv").asText()) || (declared != null && declared != JwsAlgorithm.ES256)) {
+                    yield unsupported(kid, jwk);
+                }
+                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec("secp256r1"));
+                ECPublicKeySpec spec = new ECPublicKeySpec(
+                        new ECPoint(unsignedInt(jwk, "x"), unsignedInt(jwk, "y")),
+                        parameters.getParameterSpec(ECParameterSpec.class));
+                PublicKey publicKey = KeyFactory.getInstance("EC").generatePublic(spec);
+                yield new VerificationKey(kid, JwsAlgorithm.ES256, publicKey);
+            }
+            default -> unsupported(kid, jwk);
+        };
+    }
+
+    private VerificationKey unsupported(String kid, JsonNode jwk) {
+        log.warn("Skipping unsupported JWK kid={}, kty={}, alg={}, crv={}",
+                kid, jwk.path("kty").asText(), jwk.path("alg").asText(), jwk.path("crv").asText());
+        return null;
+    }
+
+    private static BigInteger unsignedInt(JsonNode jwk, String field) {
+        String value = jwk.path(field).asText(null);
+        if (value == null) {
+            throw new IllegalArgumentException("missing '" + field + "'");
+        }
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+}
@@ -0,0 +1,36 @@
+package com.teambind.springproject.auth;
+
+/**
+ * 게이트웨이가 허용하는 JWS 서명 알고리즘
+ */
+public enum JwsAlgorithm {
+    HS256(null),
+    RS256("SHA256withRSA"),
+    // JWS의 ES256 서명은 DER가 아닌 R||S 고정 길이 형식
+    ES256("SHA256withECDSAinP1363Format");
+
+    private final String jcaName;
+
+    JwsAlgorithm(String jcaName) {
+        this.jcaName = jcaName;
+    }
+
+    /**
+     * 비대칭 알고리즘의 JCA Signature 이름 (HS256은 null)
+     */
+    public String getJcaName() {
+        return jcaName;
+    }
+
+    public static JwsAlgorithm fromString(String alg) {
+        if (alg == null) {
+            return null;
+        }
+        return switch (alg) {
+            case "HS256" -> HS256;
+            case "RS256" -> RS256;
+            case "ES256" -> ES256;
+            default -> null;
+        };
+    }
+}
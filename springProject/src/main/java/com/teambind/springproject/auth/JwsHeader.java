@@ -0,0 +1,38 @@
+package com.teambind.springproject.auth;
+
+/**
+ * JWT header에서 alg, kid만 담는 가변 홀더 (스레드별 재사용)
+ */
+final class JwsHeader implements JwtPayloadScanner.ClaimSink {
+
+    private static final int ALG = 0;
+    private static final int KID = 1;
+
+    static final JwtPayloadScanner.ClaimNames NAMES = new JwtPayloadScanner.ClaimNames("alg", "kid");
+
+    String alg;
+    String kid;
+
+    void reset() {
+        alg = null;
+        kid = null;
+    }
+
+    @Override
+    public void onString(int claim, String value) {
+        assign(claim, value);
+    }
+
+    @Override
+    public void onLiteral(int claim, byte[] json, int start, int end) {
+        assign(claim, JwtPayloadScanner.literalAsString(json, start, end));
+    }
+
+    private void assign(int claim, String value) {
+        if (claim == ALG) {
+            alg = value;
+        } else if (claim == KID) {
+            kid = value;
+        }
+    }
+}
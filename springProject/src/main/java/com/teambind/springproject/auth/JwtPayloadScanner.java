@@ -0,0 +1,230 @@
+package com.teambind.springproject.auth;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 디코딩된 JWT 세그먼트(header/payload) 바이트에서 필요한 키만 추출하는 스캐너
+ * - 평면(flat) JSON 객체 기준, 기존 문자열 파서와 동일한 해석 규칙
+ * - Map/StringBuilder를 만들지 않고 바이트 인덱스로만 탐색
+ * - 관심 있는 키의 값만 ClaimSink로 전달 (이스케이프가 있는 경우에만 추가 할당)
+ */
+final class JwtPayloadScanner {
+
+    static final int NONE = -1;
+
+    /**
+     * 스캔 결과를 받는 대상
+     */
+    interface ClaimSink {
+        /** 문자열 값 (이스케이프 제거 후) */
+        void onString(int claim, String value);
+
+        /** 따옴표 없는 리터럴 값 json[start, end) (앞뒤 공백 제거 후) */
+        void onLiteral(int claim, byte[] json, int start, int end);
+    }
+
+    /**
+     * 관심 있는 키 목록. 배열 인덱스가 claim 번호
+     */
+    static final class ClaimNames {
+        private final String[] keys;
+        private final byte[][] bytes;
+
+        ClaimNames(String... keys) {
+            this.keys = keys;
+            this.bytes = new byte[keys.length][];
+            for (int i = 0; i < keys.length; i++) {
+                bytes[i] = keys[i].getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+    }
+
+    private JwtPayloadScanner() {
+    }
+
+    static void scan(byte[] json, int length, PayloadClaims claims) {
+        claims.reset();
+        scan(json, length, PayloadClaims.NAMES, claims);
+    }
+
+    static void scan(byte[] json, int length, ClaimNames names, ClaimSink sink) {
+
+        int start = 0;
+        int end = length;
+        while (start < end && isTrimmable(json[start])) start++;
+        while (end > start && isTrimmable(json[end - 1])) end--;
+        if (end - start < 2 || json[start] != '{' || json[end - 1] != '}') {
+            return;
+        }
+        start++;
+        end--;
+        while (start < end && isTrimmable(json[start])) start++;
+        while (end > start && isTrimmable(json[end - 1])) end--;
+
+        int i = start;
+        while (i < end) {
+            // key
+            if (json[i] != '"') break;
+            int keyStart = ++i;
+            int keyEnd = findStringEnd(json, i, end);
+            i = keyEnd < end ? keyEnd + 1 : end;
+            int claim = matchClaim(json, keyStart, keyEnd, names);
+
+            // colon
+            i = skipWhitespace(json, i, end);
+            if (i >= end || json[i] != ':') break;
+            i = skipWhitespace(json, i + 1, end);
+
+            // value
+            if (i < end && json[i] == '"') {
+                int valueStart = i + 1;
+                int valueEnd = findStringEnd(json, valueStart, end);
+                i = valueEnd < end ? valueEnd + 1 : end;
+                if (claim != NONE) {
+                    sink.onString(claim, decodeString(json, valueStart, valueEnd));
+                }
+            } else {
+                int literalStart = i;
+                while (i < end && json[i] != ',' && json[i] != '}') i++;
+                int literalEnd = i;
+                while (literalStart < literalEnd && isTrimmable(json[literalStart])) literalStart++;
+                while (literalEnd > literalStart && isTrimmable(json[literalEnd - 1])) literalEnd--;
+                if (claim != NONE) {
+                    sink.onLiteral(claim, json, literalStart, literalEnd);
+                }
+            }
+
+            // separator
+            i = skipWhitespace(json, i, end);
+            if (i < end && json[i] == ',') {
+                i = skipWhitespace(json, i + 1, end);
+            }
+        }
+    }
+
+    /**
+     * 숫자/불리언/null 리터럴 해석 (숫자로 해석할 수 없으면 문자열 그대로)
+     */
+    static Object literalValue(String literal) {
+        if (literal.equals("null")) {
+            return null;
+        }
+        if (literal.equals("true") || literal.equals("false")) {
+            return Boolean.valueOf(literal);
+        }
+        try {
+            if (literal.contains(".") || literal.contains("e") || literal.contains("E")) {
+                return Double.valueOf(literal);
+            }
+            return Long.valueOf(literal);
+        } catch (NumberFormatException ex) {
+            return literal;
+        }
+    }
+
+    /**
+     * 리터럴 구간을 literalValue 규칙으로 해석한 뒤 문자열로 변환 (null 리터럴은 null)
+     */
+    static String literalAsString(byte[] json, int start, int end) {
+        Object value = literalValue(new String(json, start, end - start, StandardCharsets.UTF_8));
+        return value != null ? value.toString() : null;
+    }
+
+    private static int matchClaim(byte[] json, int start, int end, ClaimNames names) {
+        if (indexOf(json, start, end, (byte) '\\') >= 0) {
+            // 이스케이프가 포함된 키는 드물기 때문에 문자열로 풀어서 비교
+            String key = decodeString(json, start, end);
+            for (int claim = 0; claim < names.keys.length; claim++) {
+                if (key.equals(names.keys[claim])) {
+                    return claim;
+                }
+            }
+            return NONE;
+        }
+
+        int length = end - start;
+        for (int claim = 0; claim < names.bytes.length; claim++) {
+            byte[] name = names.bytes[claim];
+            if (name.length == length && regionMatches(json, start, name)) {
+                return claim;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * 문자열 구간을 디코딩하고 백슬래시 이스케이프를 제거 (다음 문자를 그대로 사용)
+     */
+    private static String decodeString(byte[] json, int start, int end) {
+        String raw = new String(json, start, end - start, StandardCharsets.UTF_8);
+        if (raw.indexOf('\\') < 0) {
+            return raw;
+        }
+
+        StringBuilder sb = new StringBuilder(raw.length());
+        boolean escaped = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (escaped) {
+                sb.append(c);
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 닫는 따옴표의 위치, 닫히지 않았으면 end
+     */
+    private static int findStringEnd(byte[] json, int i, int end) {
+        boolean escaped = false;
+        for (; i < end; i++) {
+            byte c = json[i];
+            if (escaped) {
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static int skipWhitespace(byte[] json, int i, int end) {
+        while (i < end && isWhitespace(json[i])) i++;
+        return i;
+    }
+
+    private static int indexOf(byte[] json, int start, int end, byte target) {
+        for (int i = start; i < end; i++) {
+            if (json[i] == target) return i;
+        }
+        return -1;
+    }
+
+    private static boolean regionMatches(byte[] json, int start, byte[] name) {
+        for (int i = 0; i < name.length; i++) {
+            if (json[start + i] != name[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Character.isWhitespace와 동일한 ASCII 범위
+     */
+    private static boolean isWhitespace(byte b) {
+        return (b >= 0x09 && b <= 0x0D) || (b >= 0x1C && b <= 0x20);
+    }
+
+    /**
+     * String.trim과 동일한 범위 (0x20 이하)
+     */
+    private static boolean isTrimmable(byte b) {
+        return b >= 0 && b <= 0x20;
+    }
+}
@@ -1,263 +1,135 @@
 package com.teambind.springproject.auth;
 
+import com.teambind.springproject.config.properties.JwtProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
 
 @Component
 public class JwtTokenValidator {
 
     private static final Logger log = LoggerFactory.getLogger(JwtTokenValidator.class);
 
-    @Value("${gateway.jwt.secret}")
-    private String jwtSecret;
+    private final HmacSignatureVerifier hmacVerifier;
+    private final AsymmetricSignatureVerifier asymmetricVerifier = new AsymmetricSignatureVerifier();
+    private final JwksKeyProvider jwksKeyProvider;
 
-    private static String base64UrlEncode(byte[] bytes) {
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
-    }
-
-    private static byte[] base64UrlDecode(String str) {
-        return Base64.getUrlDecoder().decode(str);
-    }
+    public JwtTokenValidator(JwtProperties jwtProperties, JwksKeyProvider jwksKeyProvider) {
+        this.jwksKeyProvider = jwksKeyProvider;
 
-    /**
-     * Minimal JSON parser for flat objects with string/number/boolean/null values
-     */
-    private static Map<String, Object> parseJsonObject(String json) {
-        Map<String, Object> map = new HashMap<>();
-        if (json == null) return map;
-        String s = json.trim();
-        if (s.length() < 2 || s.charAt(0) != '{' || s.charAt(s.length() - 1) != '}') return map;
-        s = s.substring(1, s.length() - 1).trim();
-        if (s.isEmpty()) return map;
-        int i = 0;
-        while (i < s.length()) {
-            // parse key
-            if (s.charAt(i) != '"') break;
-            int keyStart = ++i;
-            StringBuilder keySb = new StringBuilder();
-            boolean escaped = false;
-            for (; i < s.length(); i++) {
-                char c = s.charAt(i);
-                if (escaped) {
-                    keySb.append(c);
-                    escaped = false;
-                } else if (c == '\\') {
-                    escaped = true;
-                } else if (c == '"') {
-                    i++;
-                    break;
-                } else {
-                    keySb.append(c);
-                }
-            }
-            // skip colon
-            while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
-            if (i >= s.length() || s.charAt(i) != ':') break;
-            i++;
-            while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
-            // parse value
-            Object value;
-            if (i < s.length() && s.charAt(i) == '"') {
-                // string
-                i++;
-                StringBuilder valSb = new StringBuilder();
-                boolean esc = false;
-                for (; i < s.length(); i++) {
-                    char c = s.charAt(i);
-                    if (esc) {
-                        valSb.append(c);
-                        esc = false;
-                    } else if (c == '\\') {
-                        esc = true;
-                    } else if (c == '"') {
-                        i++;
-                        break;
-                    } else {
-                        valSb.append(c);
-                    }
-                }
-                value = valSb.toString();
-            } else {
-                // literal (number, boolean, null)
-                int start = i;
-                while (i < s.length() && ",}".indexOf(s.charAt(i)) == -1) i++;
-                String literal = s.substring(start, i).trim();
-                if (literal.equals("null")) {
-                    value = null;
-                } else if (literal.equals("true") || literal.equals("false")) {
-                    value = Boolean.valueOf(literal);
-                } else {
-                    try {
-                        if (literal.contains(".") || literal.contains("e") || literal.contains("E")) {
-                            value = Double.valueOf(literal);
-                        } else {
-                            value = Long.valueOf(literal);
-                        }
-                    } catch (NumberFormatException ex) {
-                        value = literal;
-                    }
-                }
-            }
-            map.put(keySb.toString(), value);
-            // skip spaces and comma
-            while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
-            if (i < s.length() && s.charAt(i) == ',') {
-                i++;
-                while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
-            }
+        // 비밀 키는 기동 시 한 번만 초기화 (JWKS만 사용하는 경우 HS256 비활성화)
+        boolean hasSecret = StringUtils.hasText(jwtProperties.getSecret());
+        if (!hasSecret && !jwksKeyProvider.isEnabled()) {
+            throw new IllegalStateException("Either gateway.jwt.secret or gateway.jwt.jwks.location must be configured");
         }
-        return map;
+        this.hmacVerifier = hasSecret ? new HmacSignatureVerifier(jwtProperties.getSecret()) : null;
     }
 
     public boolean isValid(String token) {
         return validate(token).isValid();
     }
 
-    public TokenValidationResult validate(String token) {
+    /**
+     * 토큰을 한 번만 파싱하여 검증 결과와 클레임을 함께 반환
+     * - 세그먼트 분리, payload 디코딩, 클레임 추출 모두 스레드별 버퍼에서 수행
+     */
+    public ValidatedToken validate(String token) {
         try {
             // 토큰 형식 검증
-            String[] parts;
-            try {
-                parts = splitToken(token);
-            } catch (IllegalArgumentException e) {
-                log.debug("Invalid token format: {}", e.getMessage());
-                return TokenValidationResult.INVALID_FORMAT;
+            JwtTokenizer tokenizer = JwtTokenizer.current();
+            if (!tokenizer.split(token)) {
+                log.debug("Invalid token format");
+                return ValidatedToken.invalid(TokenValidationResult.INVALID_FORMAT);
             }
 
             // 서명 검증
-            String unsigned = parts[0] + "." + parts[1];
-            String expectedSig = sign(unsigned, jwtSecret);
-            if (!constantTimeEquals(expectedSig, parts[2])) {
-                log.debug("Token signature validation failed");
-                return TokenValidationResult.INVALID_SIGNATURE;
+            TokenValidationResult signatureResult = verifySignature(token, tokenizer);
+            if (signatureResult != TokenValidationResult.VALID) {
+                return ValidatedToken.invalid(signatureResult);
             }
 
             // Payload 파싱
-            Map<String, Object> payload;
-            try {
-                payload = parsePayload(parts[1]);
-            } catch (Exception e) {
-                log.debug("Failed to parse token payload: {}", e.getMessage());
-                return TokenValidationResult.MALFORMED;
+            if (!tokenizer.decodePayload(token)) {
+                log.debug("Failed to decode token payload");
+                return ValidatedToken.invalid(TokenValidationResult.MALFORMED);
             }
+            PayloadClaims claims = tokenizer.scanClaims();
 
             // 필수 클레임 검증 (sub, exp)
-            Object subObj = payload.get("sub");
-            Object expObj = payload.get("exp");
-
-            if (subObj == null || expObj == null) {
-                log.debug("Token missing required claims. sub: {}, exp: {}", subObj, expObj);
-                return TokenValidationResult.MISSING_CLAIMS;
+            if (claims.sub == null || claims.expState == PayloadClaims.ExpState.ABSENT) {
+                log.debug("Token missing required claims. sub: {}, exp: {}", claims.sub, claims.expState);
+                return ValidatedToken.invalid(TokenValidationResult.MISSING_CLAIMS);
             }
 
             // 만료 시간 검증
-            if (expObj instanceof Number) {
-                long exp = ((Number) expObj).longValue();
+            if (claims.expState == PayloadClaims.ExpState.NUMBER) {
                 long now = Instant.now().getEpochSecond();
-                if (now >= exp) {
-                    log.debug("Token has expired. Current: {}, Expiration: {}", now, exp);
-                    return TokenValidationResult.EXPIRED;
+                if (now >= claims.exp) {
+                    log.debug("Token has expired. Current: {}, Expiration: {}", now, claims.exp);
+                    return ValidatedToken.invalid(TokenValidationResult.EXPIRED);
                 }
-                return TokenValidationResult.VALID;
+                return new ValidatedToken(
+                        TokenValidationResult.VALID,
+                        claims.sub,
+                        claims.role,
+                        claims.deviceId,
+                        claims.placeId,
+                        claims.exp,
+                        claims.jti,
+                        claims.iat
+                );
             }
 
             log.debug("Token expiration claim is not a number");
-            return TokenValidationResult.MALFORMED;
+            return ValidatedToken.invalid(TokenValidationResult.MALFORMED);
         } catch (Exception e) {
             log.error("Unexpected token validation error: {}", e.getMessage(), e);
-            return TokenValidationResult.MALFORMED;
+            return ValidatedToken.invalid(TokenValidationResult.MALFORMED);
         }
     }
 
-    public String extractUserId(String token) {
-        Map<String, Object> payload = safePayload(token);
-        Object sub = payload.get("sub");
-        return sub != null ? sub.toString() : null;
-    }
-
-    public String extractRole(String token) {
-        Map<String, Object> payload = safePayload(token);
-        Object role = payload.get("role");
-        return role != null ? role.toString() : null;
-    }
-
-    public String extractDeviceId(String token) {
-        Map<String, Object> payload = safePayload(token);
-        Object deviceId = payload.get("deviceId");
-        return deviceId != null ? deviceId.toString() : null;
-    }
-
-    public String extractPlaceId(String token) {
-        Map<String, Object> payload = safePayload(token);
-        Object placeId = payload.get("placeId");
-        return placeId != null ? placeId.toString() : null;
-    }
-
-    public long extractExpiration(String token) {
-        Map<String, Object> payload = safePayload(token);
-        Object expObj = payload.get("exp");
-        if (expObj instanceof Number) {
-            long exp = ((Number) expObj).longValue();
-            long now = Instant.now().getEpochSecond();
-            return (exp - now);
+    /**
+     * header의 alg/kid에 맞는 검증기로 서명 확인
+     * - JWKS 미사용 시 header를 해석하지 않고 HS256으로 검증 (기존 동작)
+     */
+    private TokenValidationResult verifySignature(String token, JwtTokenizer tokenizer) {
+        JwsAlgorithm algorithm = JwsAlgorithm.HS256;
+        String kid = null;
+
+        if (jwksKeyProvider.isEnabled()) {
+            JwsHeader header = tokenizer.decodeHeader(token);
+            if (header == null) {
+                log.debug("Failed to decode token header");
+                return TokenValidationResult.INVALID_FORMAT;
+            }
+            algorithm = JwsAlgorithm.fromString(header.alg);
+            kid = header.kid;
         }
-        return 0;
-    }
 
-    private Map<String, Object> safePayload(String token) {
-        try {
-            String[] parts = splitToken(token);
-            return parsePayload(parts[1]);
-        } catch (Exception e) {
-            log.error("Error parsing token payload: {}", e.getMessage());
-            return new HashMap<>();
-        }
-    }
-
-    private String[] splitToken(String token) {
-        if (token == null) throw new IllegalArgumentException("token is null");
-        String[] parts = token.split("\\.");
-        if (parts.length != 3) throw new IllegalArgumentException("invalid JWT format");
-        return parts;
-    }
-
-    private Map<String, Object> parsePayload(String payloadB64) {
-        byte[] jsonBytes = base64UrlDecode(payloadB64);
-        String json = new String(jsonBytes, StandardCharsets.UTF_8);
-        return parseJsonObject(json);
-    }
-
-    private boolean constantTimeEquals(String a, String b) {
-        if (a == null || b == null) return false;
-        if (a.length() != b.length()) return false;
-        int result = 0;
-        for (int i = 0; i < a.length(); i++) {
-            result |= a.charAt(i) ^ b.charAt(i);
+        boolean verified;
+        if (algorithm == null) {
+            log.debug("Unsupported token algorithm");
+            verified = false;
+        } else if (algorithm == JwsAlgorithm.HS256) {
+            verified = hmacVerifier != null && hmacVerifier.verify(token, tokenizer.signingInputEnd());
+        } else {
+            VerificationKey key = jwksKeyProvider.find(kid, algorithm);
+            if (key == null) {
+                log.debug("No {} verification key for kid: {}", algorithm, kid);
+                verified = false;
+            } else {
+                verified = asymmetricVerifier.verify(
+                        token, tokenizer.signingInputEnd(), tokenizer.signatureStart(), token.length(), key);
+            }
         }
-        return result == 0;
-    }
 
-    private String sign(String data, String secret) {
-        try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec keySpec =
-                    new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            mac.init(keySpec);
-            byte[] sig = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-            return base64UrlEncode(sig);
-        } catch (Exception e) {
-            log.error("Error signing token: {}", e.getMessage());
-            return "";
+        if (!verified) {
+            log.debug("Token signature validation failed");
+            return TokenValidationResult.INVALID_SIGNATURE;
         }
+        return TokenValidationResult.VALID;
     }
 }
@@ -0,0 +1,112 @@
+package com.teambind.springproject.auth;
+
+/**
+ * 정규식/split 없이 JWT 문자열을 구간 단위로 다루는 토크나이저
+ * - 두 개의 '.' 위치만 인덱스 스캔으로 찾고 세그먼트 문자열은 만들지 않음
+ * - header/payload는 스레드별로 재사용하는 바이트 버퍼에 직접 디코딩
+ * - 스레드별 인스턴스이므로 한 요청 처리 안에서만 사용
+ */
+final class JwtTokenizer {
+
+    private static final int INITIAL_PAYLOAD_SIZE = 1024;
+    private static final int INITIAL_HEADER_SIZE = 256;
+    private static final ThreadLocal<JwtTokenizer> INSTANCES = ThreadLocal.withInitial(JwtTokenizer::new);
+
+    private final PayloadClaims claims = new PayloadClaims();
+    private final JwsHeader header = new JwsHeader();
+    private byte[] payload = new byte[INITIAL_PAYLOAD_SIZE];
+    private byte[] headerBytes = new byte[INITIAL_HEADER_SIZE];
+    private int payloadLength;
+    private int headerLength;
+    private int firstDot;
+    private int secondDot;
+
+    private JwtTokenizer() {
+    }
+
+    static JwtTokenizer current() {
+        return INSTANCES.get();
+    }
+
+    /**
+     * header.payload.signature 형식인지 확인하고 구분자 위치를 기록
+     */
+    boolean split(String token) {
+        if (token == null) {
+            return false;
+        }
+        firstDot = token.indexOf('.');
+        secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        return secondDot > 0
+                && secondDot < token.length() - 1
+                && token.indexOf('.', secondDot + 1) < 0;
+    }
+
+    /**
+     * 서명 대상(header.payload)의 끝 위치 = 두 번째 '.'의 위치
+     */
+    int signingInputEnd() {
+        return secondDot;
+    }
+
+    int signatureStart() {
+        return secondDot + 1;
+    }
+
+    /**
+     * header 세그먼트를 디코딩하여 alg, kid 추출. 디코딩 실패 시 null
+     */
+    JwsHeader decodeHeader(String token) {
+        int end = stripPadding(token, 0, firstDot);
+        int length = Base64Url.decodedLength(end);
+        if (length < 0) {
+            return null;
+        }
+        if (headerBytes.length < length) {
+            headerBytes = new byte[Math.max(length, headerBytes.length * 2)];
+        }
+        headerLength = Base64Url.decode(token, 0, end, headerBytes, false);
+        if (headerLength < 0) {
+            return null;
+        }
+
+        header.reset();
+        JwtPayloadScanner.scan(headerBytes, headerLength, JwsHeader.NAMES, header);
+        return header;
+    }
+
+    /**
+     * payload 세그먼트를 내부 버퍼로 디코딩 (base64url, 패딩 허용)
+     */
+    boolean decodePayload(String token) {
+        int start = firstDot + 1;
+        int end = stripPadding(token, start, secondDot);
+
+        int length = Base64Url.decodedLength(end - start);
+        if (length < 0) {
+            return false;
+        }
+        if (payload.length < length) {
+            payload = new byte[Math.max(length, payload.length * 2)];
+        }
+        payloadLength = Base64Url.decode(token, start, end, payload, false);
+        return payloadLength >= 0;
+    }
+
+    /**
+     * 디코딩된 payload에서 필요한 클레임만 추출
+     */
+    PayloadClaims scanClaims() {
+        JwtPayloadScanner.scan(payload, payloadLength, claims);
+        return claims;
+    }
+
+    private static int stripPadding(String token, int start, int end) {
+        if ((end - start) % 4 == 0) {
+            for (int pad = 0; pad < 2 && end > start && token.charAt(end - 1) == '='; pad++) {
+                end--;
+            }
+        }
+        return end;
+    }
+}
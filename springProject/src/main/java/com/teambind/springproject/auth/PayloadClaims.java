@@ -0,0 +1,128 @@
+package com.teambind.springproject.auth;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JWT payload에서 게이트웨이가 사용하는 클레임만 담는 가변 홀더
+ * - 스레드별로 재사용되므로 외부로 노출하지 않고 ValidatedToken으로 복사해서 전달
+ */
+final class PayloadClaims implements JwtPayloadScanner.ClaimSink {
+
+    enum ExpState {
+        /** exp 클레임이 없거나 null */
+        ABSENT,
+        /** 숫자 값 */
+        NUMBER,
+        /** 숫자가 아닌 값 */
+        NOT_NUMBER
+    }
+
+    private static final int SUB = 0;
+    private static final int ROLE = 1;
+    private static final int DEVICE_ID = 2;
+    private static final int PLACE_ID = 3;
+    private static final int EXP = 4;
+    private static final int JTI = 5;
+    private static final int IAT = 6;
+
+    static final JwtPayloadScanner.ClaimNames NAMES =
+            new JwtPayloadScanner.ClaimNames("sub", "role", "deviceId", "placeId", "exp", "jti", "iat");
+
+    private static final int MAX_FAST_DIGITS = 18;
+
+    String sub;
+    String role;
+    String deviceId;
+    String placeId;
+    String jti;
+    ExpState expState = ExpState.ABSENT;
+    long exp;
+    // 숫자가 아니거나 없으면 0
+    long iat;
+
+    // parseEpoch 결과 값
+    private long parsed;
+
+    void reset() {
+        sub = null;
+        role = null;
+        deviceId = null;
+        placeId = null;
+        jti = null;
+        expState = ExpState.ABSENT;
+        exp = 0;
+        iat = 0;
+    }
+
+    @Override
+    public void onString(int claim, String value) {
+        if (claim == EXP) {
+            expState = ExpState.NOT_NUMBER;
+        } else if (claim == IAT) {
+            iat = 0;
+        } else {
+            assign(claim, value);
+        }
+    }
+
+    @Override
+    public void onLiteral(int claim, byte[] json, int start, int end) {
+        if (claim == EXP) {
+            expState = parseEpoch(json, start, end);
+            exp = expState == ExpState.NUMBER ? parsed : 0;
+        } else if (claim == IAT) {
+            iat = parseEpoch(json, start, end) == ExpState.NUMBER ? parsed : 0;
+        } else {
+            assign(claim, JwtPayloadScanner.literalAsString(json, start, end));
+        }
+    }
+
+    private void assign(int claim, String value) {
+        switch (claim) {
+            case SUB -> sub = value;
+            case ROLE -> role = value;
+            case DEVICE_ID -> deviceId = value;
+            case PLACE_ID -> placeId = value;
+            case JTI -> jti = value;
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 숫자 리터럴이면 parsed에 값을 기록하고 NUMBER 반환
+     */
+    private ExpState parseEpoch(byte[] json, int start, int end) {
+        // 일반적인 정수 타임스탬프는 문자열 생성 없이 바로 파싱
+        int digitsStart = start;
+        boolean negative = false;
+        if (digitsStart < end && (json[digitsStart] == '-' || json[digitsStart] == '+')) {
+            negative = json[digitsStart] == '-';
+            digitsStart++;
+        }
+        int digits = end - digitsStart;
+        if (digits > 0 && digits <= MAX_FAST_DIGITS) {
+            long value = 0;
+            int i = digitsStart;
+            for (; i < end; i++) {
+                int d = json[i] - '0';
+                if (d < 0 || d > 9) break;
+                value = value * 10 + d;
+            }
+            if (i == end) {
+                parsed = negative ? -value : value;
+                return ExpState.NUMBER;
+            }
+        }
+
+        Object value = JwtPayloadScanner.literalValue(new String(json, start, end - start, StandardCharsets.UTF_8));
+        if (value == null) {
+            return ExpState.ABSENT;
+        }
+        if (value instanceof Number number) {
+            parsed = number.longValue();
+            return ExpState.NUMBER;
+        }
+        return ExpState.NOT_NUMBER;
+    }
+}
@@ -0,0 +1,358 @@
+package com.teambind.springproject.auth;
+
+import com.teambind.springproject.config.properties.JwtProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 폐기 목록 (jti 단위 / 디바이스 단위)
+ * - 원본은 Redis, 각 노드는 Bloom filter 사본을 들고 대부분의 요청을 네트워크 호출 없이 통과시킴
+ * - Bloom filter 양성일 때만 Redis에서 정확히 확인
+ * - 변경분은 pub/sub으로 즉시 반영하고, 재구독 시와 주기적으로 전체 재동기화 (만료 원소 제거 포함)
+ *
+ * Redis 구조 (prefix 기본값 "{jwt:revoked}", 클러스터에서도 같은 슬롯)
+ * - {prefix}:jti:{jti}        = 폐기 시각(epoch 초), 토큰 exp에 만료
+ * - {prefix}:device:{deviceId} = 폐기 시각(epoch 초), 이 시각 이전에 발급된(iat) 토큰 모두 거부
+ * - {prefix}:index            = ZSET(member: "jti:{jti}" | "device:{deviceId}", score: 만료 시각)
+ * - 채널 메시지               = "{member}|{발행 시각(epoch ms)}"
+ * 폐기 기록은 인증 서버 등 다른 서비스가 위 구조로 직접 수행 (게이트웨이는 읽기만 함)
+ * revokeToken/revokeDevice는 같은 구조를 쓰는 참조 구현 (테스트용, 패키지 외부 비공개)
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private static final String JTI_MEMBER = "jti:";
+    private static final String DEVICE_MEMBER = "device:";
+    private static final char JTI = 'j';
+    private static final char DEVICE = 'd';
+
+    private final boolean enabled;
+    private final String keyPrefix;
+    private final String indexKey;
+    private final String channel;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration lookupTimeout;
+    private final boolean failClosed;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisScript<Long> revokeScript;
+
+    private final Counter bloomNegatives;
+    private final Counter bloomPositives;
+    private final Counter revokedLookups;
+    private final Counter falsePositiveLookups;
+    private final Counter failedLookups;
+    private final Timer syncLag;
+
+    private final Sinks.Many<Boolean> resyncRequests = Sinks.many().unicast().onBackpressureBuffer();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    private volatile BloomFilter filter;
+    // 전체 재동기화 중인 새 필터 (그 사이 도착한 메시지도 함께 반영)
+    private volatile BloomFilter rebuilding;
+    // 첫 전체 동기화 전에는 모든 토큰을 Redis로 확인
+    private volatile boolean ready;
+    private volatile long lastSyncMillis;
+
+    public TokenRevocationList(
+            JwtProperties jwtProperties,
+            ReactiveStringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+        this.enabled = revocation.isEnabled();
+        this.keyPrefix = revocation.getKeyPrefix();
+        this.indexKey = keyPrefix + ":index";
+        this.channel = revocation.getChannel();
+        this.expectedInsertions = revocation.getExpectedInsertions();
+        this.falsePositiveRate = revocation.getFalsePositiveRate();
+        this.lookupTimeout = revocation.getLookupTimeout();
+        this.failClosed = revocation.isFailClosed();
+        this.redisTemplate = redisTemplate;
+        this.revokeScript = createRevokeScript();
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+
+        this.bloomNegatives = Counter.builder("gateway.jwt.revocation.bloom.checks")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.bloomPositives = Counter.builder("gateway.jwt.revocation.bloom.checks")
+                .tag("result", "positive")
+                .register(meterRegistry);
+        this.revokedLookups = Counter.builder("gateway.jwt.revocation.lookups")
+                .tag("result", "revoked")
+                .register(meterRegistry);
+        this.falsePositiveLookups = Counter.builder("gateway.jwt.revocation.lookups")
+                .tag("result", "false_positive")
+                .register(meterRegistry);
+        this.failedLookups = Counter.builder("gateway.jwt.revocation.lookups")
+                .tag("result", "error")
+                .register(meterRegistry);
+        this.syncLag = Timer.builder("gateway.jwt.revocation.sync.lag")
+                .description("폐기 발행부터 로컬 Bloom filter 반영까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("gateway.jwt.revocation.bloom.false_positive_rate", this, TokenRevocationList::observedFalsePositiveRate)
+                .description("폐기되지 않은 토큰 중 Redis 확인이 필요했던 비율")
+                .register(meterRegistry);
+        Gauge.builder("gateway.jwt.revocation.bloom.expected_false_positive_rate", this, list -> list.filter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+        Gauge.builder("gateway.jwt.revocation.bloom.entries", this, list -> list.filter.approximateSize())
+                .register(meterRegistry);
+        Gauge.builder("gateway.jwt.revocation.sync.age", this, TokenRevocationList::secondsSinceLastSync)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        if (enabled) {
+            start(revocation.getResyncInterval());
+        }
+        log.info("Token revocation list enabled: {}, expectedInsertions: {}, falsePositiveRate: {}",
+                enabled, expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 로컬 Bloom filter만으로 판단. false면 폐기되지 않은 것이 확실함
+     */
+    public boolean mightBeRevoked(ValidatedToken token) {
+        if (!enabled) {
+            return false;
+        }
+        if (!ready) {
+            return true;
+        }
+        BloomFilter current = filter;
+        boolean positive = (hasText(token.tokenId()) && current.mightContain(JTI, token.tokenId()))
+                || (hasText(token.deviceId()) && current.mightContain(DEVICE, token.deviceId()));
+        (positive ? bloomPositives : bloomNegatives).increment();
+        return positive;
+    }
+
+    /**
+     * Redis에서 정확히 확인 (mightBeRevoked가 true일 때만 호출)
+     * - 확인 실패 시 fail-closed 설정에 따라 거부. 단, 첫 동기화 전에는 허용
+     */
+    public Mono<Boolean> isRevoked(ValidatedToken token) {
+        boolean synced = ready;
+        List<String> keys = new ArrayList<>(2);
+        if (hasText(token.tokenId())) {
+            keys.add(jtiKey(token.tokenId()));
+        }
+        if (hasText(token.deviceId())) {
+            keys.add(deviceKey(token.deviceId()));
+        }
+        if (keys.isEmpty()) {
+            return Mono.just(false);
+        }
+
+        return redisTemplate.opsForValue().multiGet(keys)
+                .timeout(lookupTimeout)
+                .map(values -> isRevoked(token, values))
+                .doOnNext(revoked -> {
+                    if (revoked) {
+                        revokedLookups.increment();
+                    } else if (synced) {
+                        falsePositiveLookups.increment();
+                    }
+                })
+                .onErrorResume(e -> {
+                    failedLookups.increment();
+                    boolean deny = failClosed && synced;
+                    log.error("Revocation lookup failed, {} request: {}", deny ? "denying" : "allowing", e.getMessage());
+                    return Mono.just(deny);
+                });
+    }
+
+    /**
+     * 단일 토큰 폐기 (토큰 만료 시각까지 유지)
+     */
+    Mono<Void> revokeToken(String jti, long expiresAtEpochSecond) {
+        return revoke(JTI_MEMBER + jti, jtiKey(jti), expiresAtEpochSecond);
+    }
+
+    /**
+     * 디바이스 폐기 - 지금까지 해당 디바이스로 발급된 토큰 모두 거부
+     * - ttl은 발급 가능한 토큰의 최대 수명 이상이어야 함
+     */
+    Mono<Void> revokeDevice(String deviceId, Duration ttl) {
+        return revoke(DEVICE_MEMBER + deviceId, deviceKey(deviceId), Instant.now().getEpochSecond() + ttl.toSeconds());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscriptions.dispose();
+    }
+
+    private Mono<Void> revoke(String member, String key, long expiresAtEpochSecond) {
+        long nowMillis = System.currentTimeMillis();
+        return redisTemplate.execute(
+                        revokeScript,
+                        List.of(key, indexKey),
+                        member,
+                        String.valueOf(nowMillis / 1000),
+                        String.valueOf(expiresAtEpochSecond),
+                        channel,
+                        String.valueOf(nowMillis)
+                )
+                .then();
+    }
+
+    private void start(Duration resyncInterval) {
+        // 구독이 등록된 뒤 전체 동기화 (끊겼던 동안 놓친 메시지 보정)
+        subscriptions.add(redisTemplate.listenToChannelLater(channel)
+                .doOnNext(messages -> requestResync())
+                .flatMapMany(messages -> messages)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Revocation channel subscription failed, retrying: {}",
+                                signal.failure().getMessage())))
+                .subscribe(message -> onMessage(message.getMessage())));
+
+        // 재동기화 요청은 직렬로 처리하고, 진행 중 들어온 요청은 하나로 합침
+        subscriptions.add(Flux.merge(Flux.interval(resyncInterval, resyncInterval).map(tick -> true), resyncRequests.asFlux())
+                .onBackpressureLatest()
+                .concatMap(request -> resync(), 1)
+                .subscribe());
+    }
+
+    private void requestResync() {
+        resyncRequests.emitNext(true, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+    private void onMessage(String message) {
+        int separator = message.lastIndexOf('|');
+        String member = separator < 0 ? message : message.substring(0, separator);
+
+        // rebuilding을 먼저 읽어야 재동기화 완료 직후 교체된 필터에도 반영됨
+        BloomFilter next = rebuilding;
+        BloomFilter current = filter;
+        if (!add(current, member)) {
+            log.warn("Ignoring unknown revocation message: {}", message);
+            return;
+        }
+        if (next != null && next != current) {
+            add(next, member);
+        }
+
+        if (separator >= 0) {
+            try {
+                long publishedAt = Long.parseLong(message, separator + 1, message.length(), 10);
+                syncLag.record(Math.max(0, System.currentTimeMillis() - publishedAt), TimeUnit.MILLISECONDS);
+            } catch (NumberFormatException e) {
+                log.debug("Revocation message without publish time: {}", message);
+            }
+        }
+    }
+
+    /**
+     * 만료 원소를 정리하고 남은 폐기 목록으로 새 필터를 만들어 교체
+     */
+    private Mono<Void> resync() {
+        long nowSeconds = Instant.now().getEpochSecond();
+        return redisTemplate.opsForZSet()
+                .removeRangeByScore(indexKey, Range.leftUnbounded(Range.Bound.inclusive((double) nowSeconds)))
+                .then(redisTemplate.opsForZSet().size(indexKey))
+                .flatMap(size -> {
+                    BloomFilter next = BloomFilter.create(Math.max(expectedInsertions, size * 2), falsePositiveRate);
+                    rebuilding = next;
+                    return redisTemplate.opsForZSet()
+                            .rangeByScore(indexKey, Range.rightUnbounded(Range.Bound.exclusive((double) nowSeconds)))
+                            .doOnNext(member -> add(next, member))
+                            .then(Mono.fromRunnable(() -> {
+                                filter = next;
+                                ready = true;
+                                lastSyncMillis = System.currentTimeMillis();
+                                log.debug("Revocation list synced: {} entries", next.approximateSize());
+                            }));
+                })
+                .doFinally(signal -> rebuilding = null)
+                .then()
+                .onErrorResume(e -> {
+                    log.error("Failed to sync revocation list: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static boolean add(BloomFilter target, String member) {
+        if (member.startsWith(JTI_MEMBER)) {
+            target.put(JTI, member.substring(JTI_MEMBER.length()));
+            return true;
+        }
+        if (member.startsWith(DEVICE_MEMBER)) {
+            target.put(DEVICE, member.substring(DEVICE_MEMBER.length()));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param values MGET 결과 (jti 키, 디바이스 키 순서, 토큰에 없는 항목은 생략)
+     */
+    static boolean isRevoked(ValidatedToken token, List<String> values) {
+        int i = 0;
+        if (hasText(token.tokenId()) && values.get(i++) != null) {
+            return true;
+        }
+        if (hasText(token.deviceId())) {
+            String revokedAt = values.get(i);
+            // iat가 없으면 언제 발급됐는지 알 수 없으므로 거부
+            return revokedAt != null && (token.issuedAt() == 0 || token.issuedAt() <= Long.parseLong(revokedAt));
+        }
+        return false;
+    }
+
+    private double observedFalsePositiveRate() {
+        double falsePositives = falsePositiveLookups.count();
+        double notRevoked = bloomNegatives.count() + falsePositives;
+        return notRevoked == 0 ? 0 : falsePositives / notRevoked;
+    }
+
+    private double secondsSinceLastSync() {
+        long last = lastSyncMillis;
+        return last == 0 ? Double.NaN : (System.currentTimeMillis() - last) / 1000.0;
+    }
+
+    private String jtiKey(String jti) {
+        return keyPrefix + ":" + JTI_MEMBER + jti;
+    }
+
+    private String deviceKey(String deviceId) {
+        return keyPrefix + ":" + DEVICE_MEMBER + deviceId;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private RedisScript<Long> createRevokeScript() {
+        String script = """
+                redis.call('SET', KEYS[1], ARGV[2], 'EXAT', ARGV[3])
+                redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+                redis.call('PUBLISH', ARGV[4], ARGV[1] .. '|' .. ARGV[5])
+                return 1
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+}
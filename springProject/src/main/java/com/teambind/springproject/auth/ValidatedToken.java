@@ -0,0 +1,33 @@
+package com.teambind.springproject.auth;
+
+/**
+ * 한 번의 파싱으로 얻은 JWT 검증 결과와 클레임
+ * - 검증 실패 시 result만 채워지고 클레임은 null
+ * - 불변 객체이므로 필터 체인 전체에서 재사용 가능
+ * - tokenId(jti)는 없을 수 있고, issuedAt(iat)은 없으면 0
+ */
+public record ValidatedToken(
+        TokenValidationResult result,
+        String userId,
+        String role,
+        String deviceId,
+        String placeId,
+        long expiresAt,
+        String tokenId,
+        long issuedAt
+) {
+    public static ValidatedToken invalid(TokenValidationResult result) {
+        return new ValidatedToken(result, null, null, null, null, 0, null, 0);
+    }
+
+    public boolean isValid() {
+        return result.isValid();
+    }
+
+    /**
+     * 만료까지 남은 시간 (초)
+     */
+    public long secondsUntilExpiry(long nowEpochSecond) {
+        return expiresAt - nowEpochSecond;
+    }
+}
@@ -0,0 +1,13 @@
+package com.teambind.springproject.auth;
+
+import java.security.PublicKey;
+
+/**
+ * JWKS에서 읽어 파싱까지 끝낸 검증용 공개키
+ */
+public record VerificationKey(
+        String kid,
+        JwsAlgorithm algorithm,
+        PublicKey publicKey
+) {
+}
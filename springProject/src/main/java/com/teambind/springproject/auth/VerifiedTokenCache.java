@@ -0,0 +1,180 @@
+package com.teambind.springproject.auth;
+
+import com.teambind.springproject.common.cache.BoundedLruCache;
+import com.teambind.springproject.config.properties.JwtProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 토큰의 클레임 캐시
+ * - 키: 토큰의 서명 세그먼트, 값: 원본 토큰 + 검증 결과
+ * - 캐시 히트 시 HMAC 계산과 payload 파싱을 모두 생략
+ * - exp 시각 이후에는 절대 반환하지 않음 (조회 시 즉시 제거)
+ * - 엔트리 수 / 추정 메모리 상한 초과 시 가장 오래 사용하지 않은 엔트리부터 제거 (LRU)
+ * - 만료 엔트리 전체 정리는 purge-interval 주기 작업에서만 수행
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Logger log = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    // 엔트리 1개당 객체 헤더, 레퍼런스, 맵 노드 등의 대략적인 고정 비용
+    private static final long ENTRY_OVERHEAD_BYTES = 192;
+
+    private final boolean enabled;
+    private final int maxEntries;
+
+    private final BoundedLruCache<String, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expiredEvictions;
+    private final Counter capacityEvictions;
+
+    private final Disposable purgeTask;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        JwtProperties.Cache cache = jwtProperties.getCache();
+        this.enabled = cache.isEnabled();
+        this.maxEntries = cache.getMaxEntries();
+        this.entries = new BoundedLruCache<>(Math.max(1, maxEntries), cache.getMaxMemory().toBytes(), Entry::bytes);
+
+        this.hits = Counter.builder("gateway.jwt.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("gateway.jwt.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.expiredEvictions = Counter.builder("gateway.jwt.cache.evictions")
+                .tag("cause", "expired")
+                .register(meterRegistry);
+        this.capacityEvictions = Counter.builder("gateway.jwt.cache.evictions")
+                .tag("cause", "capacity")
+                .register(meterRegistry);
+        Gauge.builder("gateway.jwt.cache.size", entries, BoundedLruCache::size)
+                .register(meterRegistry);
+        Gauge.builder("gateway.jwt.cache.memory", entries, BoundedLruCache::weight)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        long purgeMillis = cache.getPurgeInterval().toMillis();
+        this.purgeTask = enabled
+                ? Schedulers.parallel().schedulePeriodically(this::purgeExpired, purgeMillis, purgeMillis, TimeUnit.MILLISECONDS)
+                : null;
+
+        log.info("Verified token cache enabled: {}, maxEntries: {}, maxMemory: {}",
+                enabled, maxEntries, cache.getMaxMemory());
+    }
+
+    /**
+     * 캐시된 검증 결과 조회. 없거나 만료되었으면 null
+     */
+    public ValidatedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        String key = signatureOf(token);
+        Entry entry = key != null ? entries.get(key) : null;
+
+        // 서명이 같아도 header/payload가 다르면 다른 토큰으로 취급
+        if (entry == null || !entry.token.equals(token)) {
+            misses.increment();
+            return null;
+        }
+
+        if (Instant.now().getEpochSecond() >= entry.claims.expiresAt()) {
+            if (entries.remove(key, entry)) {
+                expiredEvictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.claims;
+    }
+
+    /**
+     * 유효한 검증 결과만 저장
+     */
+    public void put(String token, ValidatedToken claims) {
+        if (!enabled || claims == null || !claims.isValid()) {
+            return;
+        }
+
+        String key = signatureOf(token);
+        if (key == null) {
+            return;
+        }
+
+        int evicted = entries.put(key, new Entry(token, claims, estimateSize(key, token, claims)));
+        if (evicted > 0) {
+            capacityEvictions.increment(evicted);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long estimatedBytes() {
+        return entries.weight();
+    }
+
+    /**
+     * 만료된 엔트리 일괄 제거 (주기 실행)
+     */
+    void purgeExpired() {
+        long now = Instant.now().getEpochSecond();
+        int removed = entries.removeIf(entry -> now >= entry.claims.expiresAt());
+        if (removed > 0) {
+            expiredEvictions.increment(removed);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (purgeTask != null) {
+            purgeTask.dispose();
+        }
+    }
+
+    private static String signatureOf(String token) {
+        if (token == null) {
+            return null;
+        }
+        int lastDot = token.lastIndexOf('.');
+        if (lastDot < 0 || lastDot == token.length() - 1) {
+            return null;
+        }
+        return token.substring(lastDot + 1);
+    }
+
+    private static long estimateSize(String key, String token, ValidatedToken claims) {
+        return ENTRY_OVERHEAD_BYTES
+                + key.length()
+                + token.length()
+                + length(claims.userId())
+                + length(claims.role())
+                + length(claims.deviceId())
+                + length(claims.placeId());
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private record Entry(String token, ValidatedToken claims, long bytes) {
+    }
+}
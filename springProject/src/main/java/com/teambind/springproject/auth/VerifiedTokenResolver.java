@@ -0,0 +1,70 @@
+package com.teambind.springproject.auth;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * Authorization 헤더의 Bearer 토큰 검증 (요청당 한 번)
+ * - 결과는 exchange attribute에 두어 Rate Limit 필터와 인증 필터가 공유
+ * - VerifiedTokenCache 히트 시 서명 검증/파싱 생략
+ * - 폐기 여부는 확인하지 않음 (인증 필터에서 확인)
+ */
+@Component
+public class VerifiedTokenResolver {
+
+    /**
+     * exchange attribute 키
+     */
+    public static final String ATTRIBUTE = ValidatedToken.class.getName();
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenValidator jwtTokenValidator;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public VerifiedTokenResolver(JwtTokenValidator jwtTokenValidator, VerifiedTokenCache verifiedTokenCache) {
+        this.jwtTokenValidator = jwtTokenValidator;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * @return Bearer 토큰이 없으면 null
+     */
+    public static String bearerToken(ServerHttpRequest request) {
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return authHeader.substring(BEARER_PREFIX.length());
+    }
+
+    /**
+     * 요청 토큰의 검증 결과 (이미 검증했으면 exchange attribute에서 반환)
+     */
+    public ValidatedToken resolve(ServerWebExchange exchange, String token) {
+        ValidatedToken validatedToken = exchange.getAttribute(ATTRIBUTE);
+        if (validatedToken == null) {
+            validatedToken = verifiedTokenCache.get(token);
+            if (validatedToken == null) {
+                validatedToken = jwtTokenValidator.validate(token);
+                verifiedTokenCache.put(token, validatedToken);
+            }
+            exchange.getAttributes().put(ATTRIBUTE, validatedToken);
+        }
+        return validatedToken;
+    }
+
+    /**
+     * 유효한 토큰의 클레임. 토큰이 없거나 유효하지 않으면 null
+     */
+    public ValidatedToken authenticated(ServerWebExchange exchange) {
+        String token = bearerToken(exchange.getRequest());
+        if (token == null) {
+            return null;
+        }
+        ValidatedToken validatedToken = resolve(exchange, token);
+        return validatedToken.isValid() ? validatedToken : null;
+    }
+}
@@ -4,7 +4,6 @@ import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -15,43 +14,63 @@ import java.time.Duration;
  * - Circuit Breaker 자동 적용
  * - 타임아웃 처리
  * - 에러 핸들링
+ * - 다운스트림 서비스별 Bulkhead로 동시 호출 수 제한 (라우트 프록시와 공유)
+ * - 실제 호출은 서비스별 Client가 담당하고, Facade는 Client 호출을 withCircuitBreaker로 감쌈
+ * - Circuit Breaker는 Facade 메서드(operation)별로 분리, 설정은 서비스 단위 인스턴스에서 상속
  */
 public abstract class AbstractFacadeService {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
-    protected final WebClient webClient;
     protected final CircuitBreaker circuitBreaker;
     protected final String serviceName;
     protected final Duration timeout;
+    // Bulkhead 비활성화 시 null
+    protected final ServiceBulkhead bulkhead;
+    protected final EndpointCircuitBreakerRegistry endpointCircuitBreakers;
 
     protected AbstractFacadeService(
-            WebClient webClient,
             CircuitBreaker circuitBreaker,
             String serviceName,
-            Duration timeout
+            Duration timeout,
+            ServiceBulkhead bulkhead,
+            EndpointCircuitBreakerRegistry endpointCircuitBreakers
     ) {
-        this.webClient = webClient;
         this.circuitBreaker = circuitBreaker;
         this.serviceName = serviceName;
         this.timeout = timeout;
+        this.bulkhead = bulkhead;
+        this.endpointCircuitBreakers = endpointCircuitBreakers;
     }
 
+    /**
+     * 서비스명은 Circuit Breaker 인스턴스 이름, 타임아웃은 같은 이름의 resilience4j.timelimiter 설정 사용
+     * @param downstream Bulkhead 이름 (게이트웨이 라우트 ID)
+     */
     protected AbstractFacadeService(
-            WebClient webClient,
             CircuitBreaker circuitBreaker,
-            String serviceName
+            EndpointCircuitBreakerRegistry endpointCircuitBreakers,
+            ServiceBulkheadRegistry bulkheadRegistry,
+            String downstream
     ) {
-        this(webClient, circuitBreaker, serviceName, Duration.ofSeconds(30));
+        this(
+                circuitBreaker,
+                circuitBreaker.getName(),
+                endpointCircuitBreakers.timeout(circuitBreaker.getName()),
+                bulkheadRegistry.isEnabled() ? bulkheadRegistry.bulkhead(downstream) : null,
+                endpointCircuitBreakers
+        );
     }
 
     /**
      * Circuit Breaker가 적용된 Mono 반환
+     * - Bulkhead 대기 시간은 호출 타임아웃에 포함하지 않음
+     * @param operation Facade 메서드 이름 (Circuit Breaker 인스턴스 "{서비스명}.{operation}")
      */
-    protected <T> Mono<T> withCircuitBreaker(Mono<T> mono) {
-        return mono
-                .timeout(timeout)
-                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+    protected <T> Mono<T> withCircuitBreaker(String operation, Mono<T> mono) {
+        Mono<T> call = mono.timeout(timeout);
+        return (bulkhead != null ? bulkhead.decorate(call) : call)
+                .transformDeferred(CircuitBreakerOperator.of(endpointCircuitBreakers.circuitBreaker(circuitBreaker, operation)))
                 .doOnSubscribe(s -> log.debug("[{}] Request started", serviceName))
                 .doOnSuccess(r -> log.debug("[{}] Request succeeded", serviceName))
                 .doOnError(e -> log.warn("[{}] Request failed: {}", serviceName, e.getMessage()))
@@ -61,10 +80,10 @@ public abstract class AbstractFacadeService {
     /**
      * Circuit Breaker가 적용된 Flux 반환
      */
-    protected <T> Flux<T> withCircuitBreaker(Flux<T> flux) {
-        return flux
-                .timeout(timeout)
-                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+    protected <T> Flux<T> withCircuitBreaker(String operation, Flux<T> flux) {
+        Flux<T> call = flux.timeout(timeout);
+        return (bulkhead != null ? bulkhead.decorate(call) : call)
+                .transformDeferred(CircuitBreakerOperator.of(endpointCircuitBreakers.circuitBreaker(circuitBreaker, operation)))
                 .doOnSubscribe(s -> log.debug("[{}] Stream request started", serviceName))
                 .doOnComplete(() -> log.debug("[{}] Stream request completed", serviceName))
                 .doOnError(e -> log.warn("[{}] Stream request failed: {}", serviceName, e.getMessage()))
@@ -72,7 +91,7 @@ public abstract class AbstractFacadeService {
     }
 
     /**
-     * Circuit Breaker 상태 조회
+     * 서비스 단위 Circuit Breaker 상태 조회
      */
     public CircuitBreaker.State getCircuitState() {
         return circuitBreaker.getState();
@@ -0,0 +1,112 @@
+package com.teambind.springproject.circuitbreaker;
+
+import com.teambind.springproject.config.properties.CircuitBreakerProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엔드포인트(Facade 메서드 / 게이트웨이 라우트)별 Circuit Breaker
+ * - 이름: "{기준 인스턴스}.{엔드포인트}", 예) "room-service.getRoom", "reservation-service.ye-yak-manage-service"
+ * - 설정은 기준 인스턴스(resilience4j.circuitbreaker.instances)에서 상속, 타임아웃은 같은 이름의 timelimiter 설정
+ * - 한 엔드포인트의 장애로 같은 서비스의 다른 엔드포인트까지 OPEN 되지 않음
+ * - Facade 인스턴스 수는 max-instances로 제한하고, 초과 시 기준 인스턴스를 공유
+ *   (라우트 인스턴스는 설정에 있는 라우트 수만큼만 생성)
+ */
+@Component
+public class EndpointCircuitBreakerRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointCircuitBreakerRegistry.class);
+
+    private static final char SEPARATOR = '.';
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final boolean perEndpoint;
+    private final int maxInstances;
+
+    // 기준 인스턴스 -> 엔드포인트 -> Circuit Breaker
+    private final Map<String, Map<String, CircuitBreaker>> breakers = new ConcurrentHashMap<>();
+    private final AtomicInteger instances = new AtomicInteger();
+    private final AtomicBoolean capacityWarned = new AtomicBoolean();
+
+    public EndpointCircuitBreakerRegistry(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            TimeLimiterRegistry timeLimiterRegistry,
+            CircuitBreakerProperties properties
+    ) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.perEndpoint = properties.isPerEndpoint();
+        this.maxInstances = properties.getMaxInstances();
+    }
+
+    /**
+     * 기준 인스턴스 설정을 상속한 엔드포인트 Circuit Breaker (처음 호출 시 생성)
+     */
+    public CircuitBreaker circuitBreaker(CircuitBreaker base, String endpoint) {
+        if (!perEndpoint) {
+            return base;
+        }
+        Map<String, CircuitBreaker> byEndpoint = breakers.get(base.getName());
+        if (byEndpoint == null) {
+            byEndpoint = breakers.computeIfAbsent(base.getName(), name -> new ConcurrentHashMap<>());
+        }
+        CircuitBreaker breaker = byEndpoint.get(endpoint);
+        if (breaker == null) {
+            breaker = byEndpoint.computeIfAbsent(endpoint, name -> create(base, name));
+        }
+        return breaker != null ? breaker : base;
+    }
+
+    /**
+     * 이름의 기준 인스턴스 Circuit Breaker 설정 (라우트 CircuitBreaker 필터용)
+     */
+    public CircuitBreakerConfig circuitBreakerConfig(String name) {
+        return circuitBreakerRegistry.circuitBreaker(baseName(name)).getCircuitBreakerConfig();
+    }
+
+    /**
+     * 이름의 기준 인스턴스 TimeLimiter 설정
+     */
+    public TimeLimiterConfig timeLimiterConfig(String name) {
+        return timeLimiterRegistry.timeLimiter(baseName(name)).getTimeLimiterConfig();
+    }
+
+    public Duration timeout(String name) {
+        return timeLimiterConfig(name).getTimeoutDuration();
+    }
+
+    public int size() {
+        return instances.get();
+    }
+
+    static String baseName(String name) {
+        int separator = name.indexOf(SEPARATOR);
+        return separator > 0 ? name.substring(0, separator) : name;
+    }
+
+    private CircuitBreaker create(CircuitBreaker base, String endpoint) {
+        if (instances.incrementAndGet() > maxInstances) {
+            instances.decrementAndGet();
+            if (capacityWarned.compareAndSet(false, true)) {
+                log.warn("Endpoint circuit breaker limit ({}) reached, sharing service-level breakers from now on",
+                        maxInstances);
+            }
+            return null;
+        }
+        return circuitBreakerRegistry.circuitBreaker(
+                base.getName() + SEPARATOR + endpoint, base.getCircuitBreakerConfig());
+    }
+}
@@ -26,6 +26,11 @@ public final class FallbackHandler {
      * - 기타: Bad Gateway
      */
     public static <T> Mono<T> handleError(String serviceName, Throwable throwable) {
+        // 게이트웨이에서 이미 분류한 에러 (동시 처리 한도 초과 등)
+        if (throwable instanceof CustomException) {
+            return Mono.error(throwable);
+        }
+
         // Circuit Breaker가 OPEN 상태
         if (throwable instanceof CallNotPermittedException) {
             log.warn("[{}] Circuit breaker is OPEN. Service temporarily unavailable.", serviceName);
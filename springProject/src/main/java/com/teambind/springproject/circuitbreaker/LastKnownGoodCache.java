@@ -0,0 +1,262 @@
+package com.teambind.springproject.circuitbreaker;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.common.cache.BoundedLruCache;
+import com.teambind.springproject.config.properties.LastKnownGoodProperties;
+import com.teambind.springproject.exception.CustomException;
+import com.teambind.springproject.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 전용 Facade 호출의 마지막 성공 응답 (last-known-good)
+ * - 호출이 성공할 때마다 갱신, Circuit OPEN / 타임아웃 / Bulkhead 초과 시 대신 반환
+ * - max-age보다 오래된 응답은 반환하지 않음 (원래 에러 그대로 전파)
+ * - max-entries 초과 시 가장 오래 사용하지 않은 키부터 제거 (LRU), 만료 엔트리 정리는 주기 작업에서만 수행
+ * - 대체 응답에는 X-Stale-Response: true, Age(초) 헤더를 붙임
+ * - 선택적으로 Redis에 JSON 사본을 두어 노드 재시작 후나 다른 노드에서도 사용
+ *   (값: {"storedAt": epoch ms, "value": 응답}, TTL = max-age)
+ */
+@Component
+public class LastKnownGoodCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LastKnownGoodCache.class);
+
+    public static final String STALE_HEADER = "X-Stale-Response";
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxAgeMillis;
+    private final boolean redisEnabled;
+    private final String redisKeyPrefix;
+    private final Duration redisTimeout;
+    private final long redisWriteIntervalMillis;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final BoundedLruCache<String, Entry> entries;
+
+    private final Counter memoryHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter expiredEvictions;
+    private final Counter capacityEvictions;
+
+    private final Disposable purgeTask;
+
+    public LastKnownGoodCache(
+            LastKnownGoodProperties properties,
+            ReactiveStringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        LastKnownGoodProperties.Redis redis = properties.getRedis();
+        this.enabled = properties.isEnabled();
+        this.maxEntries = properties.getMaxEntries();
+        this.maxAgeMillis = properties.getMaxAge().toMillis();
+        this.redisEnabled = redis.isEnabled() && redisTemplate != null;
+        this.redisKeyPrefix = redis.getKeyPrefix();
+        this.redisTimeout = redis.getTimeout();
+        this.redisWriteIntervalMillis = redis.getMinWriteInterval().toMillis();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.entries = new BoundedLruCache<>(Math.max(1, maxEntries), Long.MAX_VALUE, entry -> 0);
+
+        this.memoryHits = Counter.builder("gateway.last.known.good.requests")
+                .tag("result", "hit")
+                .tag("source", "memory")
+                .register(meterRegistry);
+        this.redisHits = Counter.builder("gateway.last.known.good.requests")
+                .tag("result", "hit")
+                .tag("source", "redis")
+                .register(meterRegistry);
+        this.misses = Counter.builder("gateway.last.known.good.requests")
+                .tag("result", "miss")
+                .tag("source", "none")
+                .register(meterRegistry);
+        this.expiredEvictions = Counter.builder("gateway.last.known.good.evictions")
+                .tag("cause", "expired")
+                .register(meterRegistry);
+        this.capacityEvictions = Counter.builder("gateway.last.known.good.evictions")
+                .tag("cause", "capacity")
+                .register(meterRegistry);
+        Gauge.builder("gateway.last.known.good.size", entries, BoundedLruCache::size)
+                .register(meterRegistry);
+
+        long purgeMillis = properties.getPurgeInterval().toMillis();
+        this.purgeTask = enabled
+                ? Schedulers.parallel().schedulePeriodically(this::purgeExpired, purgeMillis, purgeMillis, TimeUnit.MILLISECONDS)
+                : null;
+
+        log.info("Last-known-good cache enabled: {}, maxEntries: {}, maxAge: {}, redis: {}",
+                enabled, maxEntries, properties.getMaxAge(), redisEnabled);
+    }
+
+    /**
+     * 성공 응답을 저장하고, 서비스 불가 에러일 때 저장된 응답으로 대체
+     * @param key 호출 단위 키 (예: "place:{placeId}"), 응답에 영향을 주는 파라미터를 모두 포함해야 함
+     * @param type Redis 사본 역직렬화 타입
+     * @param call withCircuitBreaker로 감싼 호출
+     */
+    public <T> Mono<T> withFallback(String key, ParameterizedTypeReference<T> type, Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return call
+                .doOnNext(value -> put(key, value))
+                .onErrorResume(LastKnownGoodCache::isUnavailable, error -> this.<T>lookup(key, type)
+                        .switchIfEmpty(Mono.error(error))
+                        .flatMap(entry -> Mono.deferContextual(context -> serveStale(key, entry, context, error))));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * max-age가 지난 엔트리 일괄 제거 (주기 실행)
+     */
+    void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int removed = entries.removeIf(entry -> isExpired(entry, now));
+        if (removed > 0) {
+            expiredEvictions.increment(removed);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (purgeTask != null) {
+            purgeTask.dispose();
+        }
+    }
+
+    /**
+     * Circuit OPEN, 타임아웃, Bulkhead 초과만 대체 대상 (4xx, 연결 실패 등은 그대로 전파)
+     */
+    static boolean isUnavailable(Throwable error) {
+        if (!(error instanceof CustomException customException)) {
+            return false;
+        }
+        ErrorCode code = customException.getErrorCode();
+        return code == ErrorCode.SERVICE_UNAVAILABLE
+                || code == ErrorCode.GATEWAY_TIMEOUT
+                || code == ErrorCode.BULKHEAD_FULL;
+    }
+
+    private void put(String key, Object value) {
+        long now = System.currentTimeMillis();
+        Entry previous = entries.get(key);
+        boolean writeRedis = redisEnabled
+                && (previous == null || now - previous.redisWrittenAt >= redisWriteIntervalMillis);
+        long redisWrittenAt = writeRedis ? now : previous != null ? previous.redisWrittenAt : 0;
+        int evicted = entries.put(key, new Entry(value, now, redisWrittenAt));
+        if (evicted > 0) {
+            capacityEvictions.increment(evicted);
+        }
+        if (writeRedis) {
+            writeRedis(key, value, now);
+        }
+    }
+
+    private <T> Mono<Entry> lookup(String key, ParameterizedTypeReference<T> type) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!isExpired(entry, now)) {
+                memoryHits.increment();
+                return Mono.just(entry);
+            }
+            if (entries.remove(key, entry)) {
+                expiredEvictions.increment();
+            }
+        }
+        if (!redisEnabled) {
+            misses.increment();
+            return Mono.empty();
+        }
+        return redisTemplate.opsForValue().get(redisKeyPrefix + key)
+                .timeout(redisTimeout)
+                .mapNotNull(json -> readRedis(key, json, type))
+                .filter(found -> !isExpired(found, System.currentTimeMillis()))
+                .doOnNext(found -> {
+                    redisHits.increment();
+                    entries.putIfAbsent(key, found);
+                })
+                .onErrorResume(e -> {
+                    log.warn("Last-known-good Redis lookup failed for {}: {}", key, e.getMessage());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.<Entry>fromRunnable(misses::increment));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> serveStale(String key, Entry entry, ContextView context, Throwable error) {
+        long ageSeconds = Math.max(0, System.currentTimeMillis() - entry.storedAt) / 1000;
+        log.warn("Serving last-known-good response for {} (age {}s) instead of: {}", key, ageSeconds, error.getMessage());
+        ServerWebExchangeContextFilter.getExchange(context).ifPresent(exchange -> {
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            headers.set(STALE_HEADER, "true");
+            headers.set(HttpHeaders.AGE, String.valueOf(ageSeconds));
+        });
+        return Mono.just((T) entry.value);
+    }
+
+    private void writeRedis(String key, Object value, long storedAt) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(new RedisEntry(storedAt, value));
+        } catch (Exception e) {
+            log.warn("Failed to serialize last-known-good response for {}: {}", key, e.getMessage());
+            return;
+        }
+        redisTemplate.opsForValue().set(redisKeyPrefix + key, json, Duration.ofMillis(maxAgeMillis))
+                .timeout(redisTimeout)
+                .subscribe(
+                        ok -> { },
+                        e -> log.debug("Last-known-good Redis write failed for {}: {}", key, e.getMessage())
+                );
+    }
+
+    private Entry readRedis(String key, String json, ParameterizedTypeReference<?> type) {
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            JavaType javaType = objectMapper.getTypeFactory().constructType(type.getType());
+            Object value = objectMapper.convertValue(node.get("value"), javaType);
+            long storedAt = node.path("storedAt").asLong();
+            return value != null ? new Entry(value, storedAt, storedAt) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read last-known-good response for {} from Redis: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.storedAt > maxAgeMillis;
+    }
+
+    private record Entry(Object value, long storedAt, long redisWrittenAt) {
+    }
+
+    private record RedisEntry(long storedAt, Object value) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.teambind.springproject.circuitbreaker;
+
+import com.teambind.springproject.exception.CustomException;
+import com.teambind.springproject.exception.ErrorCode;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다운스트림 서비스 하나의 세마포어 Bulkhead (논블로킹)
+ * - 동시 호출은 maxConcurrentCalls까지, 자리가 없으면 maxWait 동안 도착 순서대로 대기
+ * - 대기는 스레드를 막지 않음 (Resilience4j SemaphoreBulkhead는 대기 시 호출 스레드를 블로킹해 이벤트 루프에서 쓸 수 없음)
+ * - 대기 시간을 넘기면 BULKHEAD_FULL로 실패
+ */
+public final class ServiceBulkhead {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final Duration maxWait;
+    private final Runnable onRejected;
+    private final AtomicInteger available;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    ServiceBulkhead(String name, int maxConcurrentCalls, Duration maxWait, Runnable onRejected) {
+        this.name = name;
+        this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+        this.maxWait = maxWait;
+        this.onRejected = onRejected;
+        this.available = new AtomicInteger(this.maxConcurrentCalls);
+    }
+
+    public <T> Mono<T> decorate(Mono<T> call) {
+        return acquire().then(Mono.defer(() -> call.doFinally(signal -> release())));
+    }
+
+    public <T> Flux<T> decorate(Flux<T> call) {
+        return acquire().thenMany(Flux.defer(() -> call.doFinally(signal -> release())));
+    }
+
+    /**
+     * 자리를 얻으면 완료, 대기 시간 초과 시 BULKHEAD_FULL 에러
+     * - 완료 후에는 반드시 release 호출
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            if (waiters.isEmpty() && tryAcquire()) {
+                return Mono.empty();
+            }
+            if (maxWait.isZero() || maxWait.isNegative()) {
+                return rejected();
+            }
+            return Mono.<Void>create(sink -> {
+                        Waiter waiter = new Waiter(sink);
+                        sink.onCancel(waiter::cancel);
+                        waiting.incrementAndGet();
+                        waiters.offer(waiter);
+                        // 대기열에 넣는 사이 반환된 자리 처리
+                        drain();
+                    })
+                    .timeout(maxWait, Mono.defer(this::rejected));
+        });
+    }
+
+    public void release() {
+        available.incrementAndGet();
+        drain();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getActiveCalls() {
+        return maxConcurrentCalls - available.get();
+    }
+
+    public int getWaitingCalls() {
+        return waiting.get();
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = available.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!available.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    /**
+     * 남은 자리를 대기 중인 호출에 순서대로 넘김 (이미 취소된 대기는 건너뜀)
+     */
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            Waiter waiter = waiters.poll();
+            if (waiter == null || !waiter.grant()) {
+                available.incrementAndGet();
+            }
+        }
+    }
+
+    private <T> Mono<T> rejected() {
+        onRejected.run();
+        return Mono.error(new CustomException(ErrorCode.BULKHEAD_FULL,
+                String.format("Too many concurrent calls to '%s'.", name)));
+    }
+
+    private final class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final MonoSink<Void> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Waiter(MonoSink<Void> sink) {
+            this.sink = sink;
+        }
+
+        private boolean grant() {
+            if (!state.compareAndSet(WAITING, GRANTED)) {
+                return false;
+            }
+            waiting.decrementAndGet();
+            sink.success();
+            return true;
+        }
+
+        /**
+         * 대기 시간 초과/구독 취소. 자리를 받은 직후 취소됐으면 (success 전달 실패) 자리를 돌려줌
+         */
+        private void cancel() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                waiting.decrementAndGet();
+            } else if (state.get() == GRANTED) {
+                release();
+            }
+        }
+    }
+}
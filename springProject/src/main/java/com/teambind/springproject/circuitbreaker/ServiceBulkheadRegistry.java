@@ -0,0 +1,75 @@
+package com.teambind.springproject.circuitbreaker;
+
+import com.teambind.springproject.config.properties.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다운스트림 서비스별 Bulkhead
+ * - 서비스 이름은 게이트웨이 라우트 ID (Facade 호출과 라우트 프록시가 같은 Bulkhead를 공유)
+ * - 메트릭 (service 태그): gateway.bulkhead.max.calls, active.calls, waiting.calls (gauge), gateway.bulkhead.rejected (counter)
+ *   포화도 = active.calls / max.calls
+ */
+@Component
+public class ServiceBulkheadRegistry {
+
+    private final BulkheadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ServiceBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public ServiceBulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public ServiceBulkhead bulkhead(String service) {
+        ServiceBulkhead bulkhead = bulkheads.get(service);
+        if (bulkhead == null) {
+            bulkhead = bulkheads.computeIfAbsent(service, this::create);
+        }
+        return bulkhead;
+    }
+
+    /**
+     * 서비스 전용 커넥션 풀 크기 (Bulkhead가 동시 호출을 이 수 이하로 제한)
+     */
+    public int maxConcurrentCalls(String service) {
+        return properties.bulkheadFor(service).getMaxConcurrentCalls();
+    }
+
+    private ServiceBulkhead create(String service) {
+        BulkheadProperties.Bulkhead config = properties.bulkheadFor(service);
+        Counter rejected = Counter.builder("gateway.bulkhead.rejected")
+                .description("Bulkhead 대기 시간 초과로 거절한 호출")
+                .tag("service", service)
+                .register(meterRegistry);
+        ServiceBulkhead bulkhead = new ServiceBulkhead(
+                service, config.getMaxConcurrentCalls(), config.getMaxWait(), rejected::increment);
+
+        Gauge.builder("gateway.bulkhead.max.calls", bulkhead, ServiceBulkhead::getMaxConcurrentCalls)
+                .description("Bulkhead 최대 동시 호출 수")
+                .tag("service", service)
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("gateway.bulkhead.active.calls", bulkhead, ServiceBulkhead::getActiveCalls)
+                .description("Bulkhead 진행 중 호출 수")
+                .tag("service", service)
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("gateway.bulkhead.waiting.calls", bulkhead, ServiceBulkhead::getWaitingCalls)
+                .description("Bulkhead 자리 대기 중 호출 수")
+                .tag("service", service)
+                .strongReference(true)
+                .register(meterRegistry);
+        return bulkhead;
+    }
+}
@@ -0,0 +1,188 @@
+package com.teambind.springproject.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 엔트리 수 / 가중치(추정 메모리) 상한이 있는 LRU 캐시
+ * - 키 해시로 나눈 세그먼트마다 접근 순서 LinkedHashMap + 락, 상한도 세그먼트별로 나눠 적용
+ * - 상한 초과 시 해당 세그먼트에서 가장 오래 사용하지 않은 엔트리부터 제거 (put당 O(제거 수))
+ * - 만료 엔트리 전체 정리는 호출 측의 주기 작업에서 removeIf로 수행
+ * - 작은 캐시(세그먼트당 엔트리가 너무 적어지는 경우)는 세그먼트 하나만 사용
+ */
+public final class BoundedLruCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_ENTRIES_PER_SEGMENT = 64;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final ToLongFunction<? super V> weigher;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong weight = new AtomicLong();
+
+    /**
+     * @param maxWeight 가중치 상한 (사용하지 않으면 Long.MAX_VALUE)
+     * @param weigher 엔트리 가중치 (put 시 한 번 계산)
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedLruCache(int maxEntries, long maxWeight, ToLongFunction<? super V> weigher) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        int count = 1;
+        while (count < MAX_SEGMENTS && maxEntries / (count * 2) >= MIN_ENTRIES_PER_SEGMENT) {
+            count *= 2;
+        }
+        this.segments = new Segment[count];
+        this.segmentMask = count - 1;
+        this.weigher = weigher;
+
+        int entriesPerSegment = (maxEntries + count - 1) / count;
+        long weightPerSegment = maxWeight == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(1, maxWeight / count);
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(entriesPerSegment, weightPerSegment);
+        }
+    }
+
+    /**
+     * 조회 (최근 사용으로 갱신). 없으면 null
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Node<V> node = segment.map.get(key);
+            return node != null ? node.value : null;
+        }
+    }
+
+    /**
+     * 저장 후 상한을 넘으면 오래 사용하지 않은 엔트리 제거
+     * @return 상한 초과로 제거된 엔트리 수
+     */
+    public int put(K key, V value) {
+        Node<V> node = new Node<>(value, weigher.applyAsLong(value));
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Node<V> previous = segment.map.put(key, node);
+            if (previous != null) {
+                adjust(segment, 0, node.weight - previous.weight);
+            } else {
+                adjust(segment, 1, node.weight);
+            }
+            return evictOverflow(segment, key);
+        }
+    }
+
+    /**
+     * 없을 때만 저장
+     * @return 저장했으면 true
+     */
+    public boolean putIfAbsent(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            if (segment.map.containsKey(key)) {
+                return false;
+            }
+            put(key, value);
+            return true;
+        }
+    }
+
+    /**
+     * 현재 값이 value와 같은 객체일 때만 제거
+     */
+    public boolean remove(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Node<V> node = segment.map.get(key);
+            if (node == null || node.value != value) {
+                return false;
+            }
+            segment.map.remove(key);
+            adjust(segment, -1, -node.weight);
+            return true;
+        }
+    }
+
+    /**
+     * 조건에 맞는 엔트리 일괄 제거 (전체 순회, 주기 작업용)
+     * @return 제거한 엔트리 수
+     */
+    public int removeIf(Predicate<? super V> predicate) {
+        int removed = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                Iterator<Node<V>> iterator = segment.map.values().iterator();
+                while (iterator.hasNext()) {
+                    Node<V> node = iterator.next();
+                    if (predicate.test(node.value)) {
+                        iterator.remove();
+                        adjust(segment, -1, -node.weight);
+                        removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long weight() {
+        return weight.get();
+    }
+
+    private int evictOverflow(Segment<K, V> segment, K justAdded) {
+        int evicted = 0;
+        Iterator<Map.Entry<K, Node<V>>> iterator = segment.map.entrySet().iterator();
+        while ((segment.map.size() > segment.maxEntries || segment.weight > segment.maxWeight) && iterator.hasNext()) {
+            Map.Entry<K, Node<V>> eldest = iterator.next();
+            // 방금 넣은 엔트리 하나만 남았으면 가중치가 상한보다 커도 유지
+            if (segment.map.size() == 1 && eldest.getKey().equals(justAdded)) {
+                break;
+            }
+            iterator.remove();
+            adjust(segment, -1, -eldest.getValue().weight);
+            evicted++;
+        }
+        return evicted;
+    }
+
+    private void adjust(Segment<K, V> segment, int entries, long bytes) {
+        segment.weight += bytes;
+        if (entries != 0) {
+            size.addAndGet(entries);
+        }
+        if (bytes != 0) {
+            weight.addAndGet(bytes);
+        }
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & segmentMask];
+    }
+
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, Node<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        private final int maxEntries;
+        private final long maxWeight;
+        private long weight;
+
+        private Segment(int maxEntries, long maxWeight) {
+            this.maxEntries = maxEntries;
+            this.maxWeight = maxWeight;
+        }
+    }
+
+    private record Node<V>(V value, long weight) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.teambind.springproject.concurrency;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다운스트림 서비스 하나의 동시 처리 한도
+ * - 처리 중인 요청 수가 한도에 도달하면 tryAcquire가 null을 반환 (호출자는 즉시 503으로 거절)
+ * - 요청이 끝나면 Permit으로 결과를 알려 주고, 한도는 GradientLimit이 RTT로 조정
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final GradientLimit limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    AdaptiveConcurrencyLimiter(String name, GradientLimit limit) {
+        this.name = name;
+        this.limit = limit;
+    }
+
+    /**
+     * @return 한도 초과 시 null
+     */
+    public Permit tryAcquire() {
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= limit.getLimit()) {
+                return null;
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        return new Permit(current + 1);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * 요청 하나가 차지한 자리. complete/fail/cancel 중 처음 호출된 것만 반영
+     */
+    public final class Permit {
+
+        private final long startNanos = System.nanoTime();
+        private final int inflightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inflightAtStart) {
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * 응답 수신. 429/503/504는 다운스트림 과부하 신호로 보고 드롭 처리
+         */
+        public void complete(int statusCode) {
+            if (release()) {
+                boolean overloaded = statusCode == 429 || statusCode == 503 || statusCode == 504;
+                limit.onSample(System.nanoTime() - startNanos, inflightAtStart, overloaded);
+            }
+        }
+
+        /**
+         * 오류 종료. 타임아웃(Netty 읽기/쓰기 타임아웃 포함)/연결 오류만 드롭으로 반영하고 나머지는 RTT 표본에서 제외
+         */
+        public void fail(Throwable error) {
+            if (release() && isOverload(error)) {
+                limit.onSample(System.nanoTime() - startNanos, inflightAtStart, true);
+            }
+        }
+
+        /**
+         * 클라이언트 취소, 상위 타임아웃 등으로 응답 전에 종료
+         * - 허용 지연(rtt-tolerance * 기준 RTT)을 넘긴 뒤 취소되었으면 드롭으로 반영 (Circuit Breaker/facade 타임아웃은 취소로 전달됨)
+         */
+        public void cancel() {
+            if (release()) {
+                limit.onCancel(System.nanoTime() - startNanos);
+            }
+        }
+
+        private boolean release() {
+            if (released.compareAndSet(false, true)) {
+                inflight.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static boolean isOverload(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
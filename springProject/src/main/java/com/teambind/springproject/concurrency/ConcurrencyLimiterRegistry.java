@@ -0,0 +1,110 @@
+package com.teambind.springproject.concurrency;
+
+import com.teambind.springproject.config.properties.ConcurrencyProperties;
+import com.teambind.springproject.exception.CustomException;
+import com.teambind.springproject.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다운스트림 서비스별 적응형 동시 처리 한도
+ * - 서비스 이름은 게이트웨이 라우트 ID와 같게 사용 (라우트와 WebClient가 같은 한도를 공유)
+ * - 메트릭: gateway.concurrency.limit / inflight (gauge), gateway.concurrency.rejected (counter), 모두 service 태그
+ */
+@Component
+public class ConcurrencyLimiterRegistry {
+
+    private final ConcurrencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Entry> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiterRegistry(ConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * @return 한도 초과 시 null (거절 횟수 기록)
+     */
+    public AdaptiveConcurrencyLimiter.Permit tryAcquire(String service) {
+        Entry entry = limiters.get(service);
+        if (entry == null) {
+            entry = limiters.computeIfAbsent(service, this::create);
+        }
+        AdaptiveConcurrencyLimiter.Permit permit = entry.limiter.tryAcquire();
+        if (permit == null) {
+            entry.rejected.increment();
+        }
+        return permit;
+    }
+
+    /**
+     * WebClient용 필터. 한도 초과 시 요청을 보내지 않고 CONCURRENCY_LIMIT_EXCEEDED로 실패
+     */
+    public ExchangeFilterFunction filter(String service) {
+        return (request, next) -> {
+            if (!properties.isEnabled()) {
+                return next.exchange(request);
+            }
+            return Mono.defer(() -> {
+                AdaptiveConcurrencyLimiter.Permit permit = tryAcquire(service);
+                if (permit == null) {
+                    return Mono.error(new CustomException(ErrorCode.CONCURRENCY_LIMIT_EXCEEDED,
+                            String.format("Too many concurrent requests to '%s'.", service)));
+                }
+                return next.exchange(request)
+                        .doOnSuccess(response -> {
+                            if (response != null) {
+                                permit.complete(response.statusCode().value());
+                            } else {
+                                permit.cancel();
+                            }
+                        })
+                        .doOnError(permit::fail)
+                        .doOnCancel(permit::cancel);
+            });
+        };
+    }
+
+    private Entry create(String service) {
+        ConcurrencyProperties.Limit config = properties.limitFor(service);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(service, new GradientLimit(
+                config.getInitialLimit(),
+                config.getMinLimit(),
+                config.getMaxLimit(),
+                config.getRttTolerance(),
+                config.getSmoothing(),
+                config.getLongWindow()
+        ));
+
+        Gauge.builder("gateway.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("다운스트림 동시 처리 한도")
+                .tag("service", service)
+                .strongReference(true)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .description("다운스트림 처리 중 요청 수")
+                .tag("service", service)
+                .strongReference(true)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("gateway.concurrency.rejected")
+                .description("동시 처리 한도 초과로 거절한 요청")
+                .tag("service", service)
+                .register(meterRegistry);
+        return new Entry(limiter, rejected);
+    }
+
+    private record Entry(AdaptiveConcurrencyLimiter limiter, Counter rejected) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.teambind.springproject.concurrency;
+
+/**
+ * RTT 변화로 동시 처리 한도를 조정하는 Gradient2 방식 알고리즘
+ * - longRtt: RTT 지수 이동 평균(기준 지연), shortRtt: 이번 표본
+ * - gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0): 지연이 기준보다 커질수록 1보다 작아짐
+ * - newLimit = limit * gradient + sqrt(limit)(대기 여유분), 이전 값과 smoothing 비율로 섞어 급변 방지
+ * - 한도의 절반도 쓰지 않는 동안에는 조정하지 않음 (요청이 적어 낮게 나온 RTT로 한도가 부풀지 않도록)
+ * - 드롭(타임아웃/연결 실패/과부하 응답)은 RTT와 무관하게 즉시 0.9배로 축소
+ * - 응답 전 취소는 tolerance * longRtt를 넘겨 기다린 경우에만 드롭으로 반영 (상위 타임아웃으로 인한 취소)
+ */
+final class GradientLimit {
+
+    private static final double DROP_BACKOFF = 0.9;
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double longRttFactor;
+
+    private double estimatedLimit;
+    private double longRtt;
+    private int samples;
+    private volatile int limit;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longRttFactor = 2.0 / (longWindow + 1);
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    synchronized void onSample(long rttNanos, int inflight, boolean dropped) {
+        if (dropped) {
+            update(estimatedLimit * DROP_BACKOFF);
+            return;
+        }
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        double shortRtt = rttNanos;
+        double longRtt = addLongRtt(shortRtt);
+        // 부하가 풀려 단기 RTT가 크게 낮아지면 기준 지연도 빠르게 따라 내려감
+        if (longRtt / shortRtt > 2) {
+            this.longRtt *= 0.95;
+        }
+        if (inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        update(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    /**
+     * 응답 전에 취소된 요청. 허용 지연을 넘긴 뒤의 취소만 드롭 처리 (기준 지연이 아직 없으면 무시)
+     */
+    synchronized void onCancel(long elapsedNanos) {
+        if (longRtt > 0 && elapsedNanos > tolerance * longRtt) {
+            update(estimatedLimit * DROP_BACKOFF);
+        }
+    }
+
+    private double addLongRtt(double rtt) {
+        if (samples < WARMUP_SAMPLES) {
+            samples++;
+            longRtt += (rtt - longRtt) / samples;
+        } else {
+            longRtt += (rtt - longRtt) * longRttFactor;
+        }
+        return longRtt;
+    }
+
+    private void update(double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
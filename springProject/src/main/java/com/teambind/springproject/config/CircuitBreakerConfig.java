@@ -1,11 +1,18 @@
 package com.teambind.springproject.config;
 
+import com.teambind.springproject.circuitbreaker.EndpointCircuitBreakerRegistry;
+import com.teambind.springproject.config.properties.CircuitBreakerProperties;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(CircuitBreakerProperties.class)
 public class CircuitBreakerConfig {
 
     private final CircuitBreakerRegistry circuitBreakerRegistry;
@@ -14,6 +21,30 @@ public class CircuitBreakerConfig {
         this.circuitBreakerRegistry = circuitBreakerRegistry;
     }
 
+    /**
+     * 라우트 CircuitBreaker 필터 인스턴스("{기준 인스턴스}.{라우트 ID}")가 기준 인스턴스 설정을 상속하도록 설정
+     * - 설정에 없는 이름은 기존처럼 default 설정으로 생성됨
+     */
+    @Bean
+    public Customizer<ReactiveResilience4JCircuitBreakerFactory> endpointCircuitBreakerCustomizer(
+            EndpointCircuitBreakerRegistry endpointCircuitBreakers
+    ) {
+        return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+                .circuitBreakerConfig(endpointCircuitBreakers.circuitBreakerConfig(id))
+                .timeLimiterConfig(endpointCircuitBreakers.timeLimiterConfig(id))
+                .build());
+    }
+
+    @Bean
+    public CircuitBreaker authServiceCircuitBreaker() {
+        return circuitBreakerRegistry.circuitBreaker("auth-service");
+    }
+
+    @Bean
+    public CircuitBreaker imageServiceCircuitBreaker() {
+        return circuitBreakerRegistry.circuitBreaker("image-service");
+    }
+
     @Bean
     public CircuitBreaker placeServiceCircuitBreaker() {
         return circuitBreakerRegistry.circuitBreaker("place-service");
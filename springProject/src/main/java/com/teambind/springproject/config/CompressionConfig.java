@@ -0,0 +1,31 @@
+package com.teambind.springproject.config;
+
+import com.teambind.springproject.config.properties.CompressionProperties;
+import io.netty.handler.codec.compression.Brotli;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 응답 압축
+ * - 클라이언트 응답: Netty 서버 압축 (server.compression), Accept-Encoding에 따라 gzip/deflate,
+ *   brotli4j가 클래스패스에 있으면 br도 사용 (./gradlew build -Pbrotli)
+ * - 라우트 응답: 클라이언트 Accept-Encoding을 그대로 백엔드에 전달하고, 백엔드가 압축한 본문은
+ *   Content-Encoding과 함께 그대로 전달 (이미 인코딩된 응답은 다시 압축하지 않음)
+ * - Facade 응답: 백엔드 응답을 gzip으로 받아 역직렬화 후 새 응답을 압축
+ */
+@Configuration
+@EnableConfigurationProperties(CompressionProperties.class)
+public class CompressionConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressionConfig.class);
+
+    public CompressionConfig(ServerProperties serverProperties, CompressionProperties compressionProperties) {
+        log.info("Response compression enabled: {}, brotli available: {}, downstream gzip: {}",
+                serverProperties.getCompression().getEnabled(),
+                Brotli.isAvailable(),
+                compressionProperties.isDownstream());
+    }
+}
@@ -0,0 +1,76 @@
+package com.teambind.springproject.config;
+
+import com.teambind.springproject.config.properties.ConnectionPoolProperties;
+import com.teambind.springproject.config.properties.Http2Properties;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 다운스트림 서비스 호출용 Reactor Netty HttpClient 생성
+ * - 서비스마다 전용 ConnectionProvider (이름: webclient-{라우트 ID})
+ * - h2c prior-knowledge는 풀 크기를 커넥션 수 x 커넥션당 스트림 수로 관리 (Http2AllocationStrategy)
+ */
+public final class DownstreamHttpClients {
+
+    private static final int CONNECT_TIMEOUT_MS = 5000;
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
+
+    private DownstreamHttpClients() {
+    }
+
+    /**
+     * @param defaultMaxConnections pool.max-connections가 없을 때 HTTP/1.1 커넥션 수
+     */
+    public static ConnectionProvider connectionProvider(
+            String service,
+            ConnectionPoolProperties pool,
+            Http2Properties http2,
+            int defaultMaxConnections
+    ) {
+        int maxConnections = pool.getMaxConnections() != null ? pool.getMaxConnections() : defaultMaxConnections;
+        int pendingAcquireMaxCount = pool.getPendingAcquireMaxCount() != null
+                ? pool.getPendingAcquireMaxCount()
+                : maxConnections * 2;
+
+        ConnectionProvider.Builder provider = ConnectionProvider.builder("webclient-" + service)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .metrics(pool.isMetrics());
+        if (!pool.getEvictionInterval().isZero()) {
+            provider.evictInBackground(pool.getEvictionInterval());
+        }
+        // maxConnections 이후에 지정해야 적용됨
+        // upgrade 모드는 백엔드가 거절하면 HTTP/1.1 커넥션을 쓰므로 HTTP/1.1 풀 크기 유지
+        if (http2.getMode() == Http2Properties.Mode.PRIOR_KNOWLEDGE) {
+            provider.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(http2.getMaxConnections())
+                    .minConnections(Math.min(http2.getMinConnections(), http2.getMaxConnections()))
+                    .maxConcurrentStreams(http2.getMaxConcurrentStreams())
+                    .build());
+        }
+        return provider.build();
+    }
+
+    /**
+     * @param compress Accept-Encoding: gzip 전송 및 압축 응답 해제
+     */
+    public static HttpClient httpClient(ConnectionProvider connectionProvider, Http2Properties http2, boolean compress) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MS)
+                .responseTimeout(READ_TIMEOUT)
+                .compress(compress);
+        return switch (http2.getMode()) {
+            case DISABLED -> httpClient;
+            case PRIOR_KNOWLEDGE -> httpClient.protocol(HttpProtocol.H2C);
+            case UPGRADE -> httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        };
+    }
+}
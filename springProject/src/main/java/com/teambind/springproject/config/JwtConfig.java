@@ -0,0 +1,10 @@
+package com.teambind.springproject.config;
+
+import com.teambind.springproject.config.properties.JwtProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+public class JwtConfig {
+}
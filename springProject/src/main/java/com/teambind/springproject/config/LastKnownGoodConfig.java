@@ -0,0 +1,20 @@
+package com.teambind.springproject.config;
+
+import com.teambind.springproject.config.properties.LastKnownGoodProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+
+@Configuration
+@EnableConfigurationProperties(LastKnownGoodProperties.class)
+public class LastKnownGoodConfig {
+
+    /**
+     * 대체 응답에 stale 헤더를 붙일 수 있도록 Reactor Context에 exchange 저장
+     */
+    @Bean
+    public ServerWebExchangeContextFilter serverWebExchangeContextFilter() {
+        return new ServerWebExchangeContextFilter();
+    }
+}
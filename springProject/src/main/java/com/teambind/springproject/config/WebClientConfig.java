@@ -1,20 +1,34 @@
 package com.teambind.springproject.config;
 
-import io.netty.channel.ChannelOption;
+import com.teambind.springproject.circuitbreaker.ServiceBulkheadRegistry;
+import com.teambind.springproject.concurrency.ConcurrencyLimiterRegistry;
+import com.teambind.springproject.config.properties.CompressionProperties;
+import com.teambind.springproject.config.properties.ConnectionPoolProperties;
+import com.teambind.springproject.config.properties.Http2Properties;
+import com.teambind.springproject.loadbalancer.ServiceLoadBalancerRegistry;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Configuration
 public class WebClientConfig {
 
-    private static final int CONNECT_TIMEOUT_MS = 5000;
-    private static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
+    private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+    private final ServiceBulkheadRegistry bulkheadRegistry;
+    private final CompressionProperties compressionProperties;
+    private final ServiceLoadBalancerRegistry loadBalancers;
+    private final Binder binder;
+    private final List<ConnectionProvider> connectionProviders = new CopyOnWriteArrayList<>();
 
     // Auth Service
     @Value("${service.auth.url}")
@@ -76,6 +90,20 @@ public class WebClientConfig {
     @Value("${service.notification.port}")
     private String notificationPort;
 
+    public WebClientConfig(
+            ConcurrencyLimiterRegistry concurrencyLimiterRegistry,
+            ServiceBulkheadRegistry bulkheadRegistry,
+            CompressionProperties compressionProperties,
+            ServiceLoadBalancerRegistry loadBalancers,
+            Environment environment
+    ) {
+        this.concurrencyLimiterRegistry = concurrencyLimiterRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.compressionProperties = compressionProperties;
+        this.loadBalancers = loadBalancers;
+        this.binder = Binder.get(environment);
+    }
+
     private String normalizeHost(String raw) {
         if (raw == null) return "";
         String s = raw.trim();
@@ -83,67 +111,93 @@ public class WebClientConfig {
         return s;
     }
 
-    private WebClient createWebClient(WebClient.Builder builder, String dns, String port) {
+    /**
+     * 서비스마다 전용 커넥션 풀 사용 (느린 서비스가 공용 풀을 모두 점유하지 않도록)
+     * - 풀 설정은 service.{key}.pool.*, 풀 크기 기본값은 서비스 Bulkhead의 최대 동시 호출 수
+     * - h2c 설정은 service.{key}.http2.*
+     * - gateway.load-balancer.services.{라우트 ID}에 인스턴스 목록이 있으면 요청마다 인스턴스 선택 (풀 설정은 인스턴스별 적용)
+     * - 메트릭: reactor.netty.connection.provider.* (name=webclient-{라우트 ID})
+     * @param service 게이트웨이 라우트 ID (같은 서비스로 가는 라우트와 동시 처리 한도/Bulkhead 공유)
+     * @param key service.* 설정 키 (예: place-info)
+     */
+    private WebClient createWebClient(WebClient.Builder builder, String service, String key, String dns, String port) {
         String host = normalizeHost(dns);
-        String url = "http://%s:%s".formatted(host, port);
+        String url = loadBalancers.isBalanced(service)
+                ? "http://" + service
+                : "http://%s:%s".formatted(host, port);
+
+        ConnectionPoolProperties pool = binder.bind("service." + key + ".pool", ConnectionPoolProperties.class)
+                .orElseGet(ConnectionPoolProperties::new);
+        Http2Properties http2 = binder.bind("service." + key + ".http2", Http2Properties.class)
+                .orElseGet(Http2Properties::new);
 
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MS)
-                .responseTimeout(READ_TIMEOUT);
+        ConnectionProvider connectionProvider = DownstreamHttpClients.connectionProvider(
+                service, pool, http2, bulkheadRegistry.maxConcurrentCalls(service));
+        connectionProviders.add(connectionProvider);
+
+        HttpClient httpClient = DownstreamHttpClients.httpClient(
+                connectionProvider, http2, compressionProperties.isDownstream());
 
         return builder
                 .baseUrl(url)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(concurrencyLimiterRegistry.filter(service))
+                .filter(loadBalancers.filter(service))
                 .build();
     }
 
     @Bean
     public WebClient authWebClient(WebClient.Builder builder) {
-        return createWebClient(builder, authDns, authPort);
+        return createWebClient(builder, "auth-service", "auth", authDns, authPort);
     }
 
     @Bean
     public WebClient imageWebClient(WebClient.Builder builder) {
-        return createWebClient(builder, imageDns, imagePort);
+        return createWebClient(builder, "image-service", "image", imageDns, imagePort);
     }
 
     @Bean
     public WebClient placeInfoWebClient(WebClient.Builder builder) {
-        return createWebClient(builder, placeInfoDns, placeInfoPort);
+        return createWebClient(builder, "place-info-service", "place-info", placeInfoDns, placeInfoPort);
     }
 
     @Bean
     public WebClient roomInfoWebClient(WebClient.Builder builder) {
-        return createWebClient(builder, roomInfoDns, roomInfoPort);
+        return createWebClient(builder, "room-info-service", "room-info", roomInfoDns, roomInfoPort);
     }
 
     @Bean
     public WebClient leeYongGwanLeeWebClient(WebClient.Builder builder) {
-        return createWebClient(builder, leeYongGwanLeeDns, leeYongGwanLeePort);
+        return createWebClient(builder, "lee-yong-gwan-lee-service", "lee-yong-gwan-lee", leeYongGwanLeeDns, leeYongGwanLeePort);
     }
 
     @Bean
     public WebClient yeYakHaeYoWebClient(WebClient.Builder builder) {
-        return createWebClient(builder, yeYakHaeYoDns, yeYakHaeYoPort);
+        return createWebClient(builder, "ye-yak-hae-yo-service", "ye-yak-hae-yo", yeYakHaeYoDns, yeYakHaeYoPort);
     }
 
     @Bean
     public WebClient yeYakManageWebClient(WebClient.Builder builder) {
-        return createWebClient(builder, yeYakManageDns, yeYakManagePort);
+        return createWebClient(builder, "ye-yak-manage-service", "ye-yak-manage", yeYakManageDns, yeYakManagePort);
     }
 
     @Bean
     public WebClient couponWebClient(WebClient.Builder builder) {
-        return createWebClient(builder, couponDns, couponPort);
+        return createWebClient(builder, "coupon-service", "coupon", couponDns, couponPort);
     }
 
     @Bean
     public WebClient chatWebClient(WebClient.Builder builder) {
-        return createWebClient(builder, chatDns, chatPort);
+        return createWebClient(builder, "chat-service", "chat", chatDns, chatPort);
     }
 
     @Bean
     public WebClient notificationWebClient(WebClient.Builder builder) {
-        return createWebClient(builder, notificationDns, notificationPort);
+        return createWebClient(builder, "notification-service", "notification", notificationDns, notificationPort);
+    }
+
+    @PreDestroy
+    void disposeConnectionProviders() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
     }
 }
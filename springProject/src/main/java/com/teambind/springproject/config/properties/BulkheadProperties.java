@@ -0,0 +1,66 @@
+package com.teambind.springproject.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "gateway.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+    private Bulkhead defaultBulkhead = new Bulkhead();
+    // 서비스(라우트 ID) -> 설정. 없으면 default-bulkhead 사용
+    private Map<String, Bulkhead> services = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Bulkhead getDefaultBulkhead() {
+        return defaultBulkhead;
+    }
+
+    public void setDefaultBulkhead(Bulkhead defaultBulkhead) {
+        this.defaultBulkhead = defaultBulkhead;
+    }
+
+    public Map<String, Bulkhead> getServices() {
+        return services;
+    }
+
+    public void setServices(Map<String, Bulkhead> services) {
+        this.services = services;
+    }
+
+    public Bulkhead bulkheadFor(String service) {
+        return services.getOrDefault(service, defaultBulkhead);
+    }
+
+    public static class Bulkhead {
+        private int maxConcurrentCalls = 100;
+        // 0이면 대기 없이 즉시 거절
+        private Duration maxWait = Duration.ofMillis(100);
+
+        public int getMaxConcurrentCalls() {
+            return maxConcurrentCalls;
+        }
+
+        public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+}
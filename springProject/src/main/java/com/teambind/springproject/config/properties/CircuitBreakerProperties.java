@@ -0,0 +1,28 @@
+package com.teambind.springproject.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "gateway.circuit-breaker")
+public class CircuitBreakerProperties {
+
+    // Facade 메서드별 Circuit Breaker 사용 여부 (false면 서비스 단위 인스턴스 공유)
+    private boolean perEndpoint = true;
+    // 엔드포인트별로 만들 수 있는 최대 인스턴스 수, 초과 시 서비스 단위 인스턴스 사용
+    private int maxInstances = 200;
+
+    public boolean isPerEndpoint() {
+        return perEndpoint;
+    }
+
+    public void setPerEndpoint(boolean perEndpoint) {
+        this.perEndpoint = perEndpoint;
+    }
+
+    public int getMaxInstances() {
+        return maxInstances;
+    }
+
+    public void setMaxInstances(int maxInstances) {
+        this.maxInstances = maxInstances;
+    }
+}
@@ -0,0 +1,22 @@
+package com.teambind.springproject.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 응답 압축 중 게이트웨이 전용 설정
+ * - 클라이언트 응답 압축(gzip, 크기/MIME 조건)은 server.compression.*
+ */
+@ConfigurationProperties(prefix = "gateway.compression")
+public class CompressionProperties {
+
+    // Facade WebClient가 Accept-Encoding: gzip을 보내고 압축 응답을 받을지 여부
+    private boolean downstream = true;
+
+    public boolean isDownstream() {
+        return downstream;
+    }
+
+    public void setDownstream(boolean downstream) {
+        this.downstream = downstream;
+    }
+}
@@ -0,0 +1,102 @@
+package com.teambind.springproject.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "gateway.concurrency")
+public class ConcurrencyProperties {
+
+    private boolean enabled = true;
+    private Limit defaultLimit = new Limit();
+    // 서비스(라우트 ID) -> 한도 설정. 없으면 default-limit 사용
+    private Map<String, Limit> services = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Limit getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    public void setDefaultLimit(Limit defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    public Map<String, Limit> getServices() {
+        return services;
+    }
+
+    public void setServices(Map<String, Limit> services) {
+        this.services = services;
+    }
+
+    public Limit limitFor(String service) {
+        return services.getOrDefault(service, defaultLimit);
+    }
+
+    public static class Limit {
+        private int initialLimit = 20;
+        private int minLimit = 5;
+        private int maxLimit = 200;
+        // 기준 RTT 대비 이 배수까지의 지연 증가는 한도를 줄이지 않음
+        private double rttTolerance = 1.5;
+        private double smoothing = 0.2;
+        // 기준 RTT 이동 평균 창 (표본 수)
+        private int longWindow = 600;
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public double getRttTolerance() {
+            return rttTolerance;
+        }
+
+        public void setRttTolerance(double rttTolerance) {
+            this.rttTolerance = rttTolerance;
+        }
+
+        public double getSmoothing() {
+            return smoothing;
+        }
+
+        public void setSmoothing(double smoothing) {
+            this.smoothing = smoothing;
+        }
+
+        public int getLongWindow() {
+            return longWindow;
+        }
+
+        public void setLongWindow(int longWindow) {
+            this.longWindow = longWindow;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.teambind.springproject.config.properties;
+
+import java.time.Duration;
+
+/**
+ * 다운스트림 서비스별 WebClient 커넥션 풀 설정 (service.{서비스}.pool.*)
+ * - 서비스 키마다 WebClientConfig에서 바인딩, 지정하지 않은 값은 기본값 사용
+ * - max-idle-time은 백엔드 keep-alive 시간보다 짧게 (끊긴 커넥션 재사용 방지)
+ */
+public class ConnectionPoolProperties {
+
+    // 비어 있으면 서비스 Bulkhead의 최대 동시 호출 수
+    private Integer maxConnections;
+    // 커넥션을 기다리는 요청 수 상한, 비어 있으면 maxConnections의 2배
+    private Integer pendingAcquireMaxCount;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    // 유휴/수명 초과 커넥션을 백그라운드에서 정리하는 주기 (0이면 획득 시에만 확인)
+    private Duration evictionInterval = Duration.ofSeconds(30);
+    private boolean metrics = true;
+
+    public Integer getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public Integer getPendingAcquireMaxCount() {
+        return pendingAcquireMaxCount;
+    }
+
+    public void setPendingAcquireMaxCount(Integer pendingAcquireMaxCount) {
+        this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+    }
+
+    public Duration getPendingAcquireTimeout() {
+        return pendingAcquireTimeout;
+    }
+
+    public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+        this.pendingAcquireTimeout = pendingAcquireTimeout;
+    }
+
+    public Duration getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(Duration maxIdleTime) {
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    public Duration getMaxLifeTime() {
+        return maxLifeTime;
+    }
+
+    public void setMaxLifeTime(Duration maxLifeTime) {
+        this.maxLifeTime = maxLifeTime;
+    }
+
+    public Duration getEvictionInterval() {
+        return evictionInterval;
+    }
+
+    public void setEvictionInterval(Duration evictionInterval) {
+        this.evictionInterval = evictionInterval;
+    }
+
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(boolean metrics) {
+        this.metrics = metrics;
+    }
+}
@@ -0,0 +1,60 @@
+package com.teambind.springproject.config.properties;
+
+/**
+ * 다운스트림 서비스별 HTTP/2 cleartext(h2c) 설정 (service.{서비스}.http2.*)
+ * - disabled: HTTP/1.1 (동시 호출마다 커넥션 1개)
+ * - prior-knowledge: 처음부터 h2c로 연결 (백엔드가 h2c를 지원할 때만 사용)
+ * - upgrade: HTTP/1.1 Upgrade로 h2c 협상, 백엔드가 거절하면 HTTP/1.1로 계속 사용
+ * - prior-knowledge에서는 커넥션 수를 max-connections, 커넥션당 동시 스트림을 max-concurrent-streams로 제한
+ *   (백엔드 SETTINGS_MAX_CONCURRENT_STREAMS가 더 작으면 그 값을 따름)
+ * - upgrade에서는 HTTP/1.1 풀 설정(pool.*)을 그대로 사용
+ */
+public class Http2Properties {
+
+    private Mode mode = Mode.DISABLED;
+    private int maxConnections = 2;
+    private int minConnections = 1;
+    private long maxConcurrentStreams = 100;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMinConnections() {
+        return minConnections;
+    }
+
+    public void setMinConnections(int minConnections) {
+        this.minConnections = minConnections;
+    }
+
+    public long getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    public void setMaxConcurrentStreams(long maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.DISABLED;
+    }
+
+    public enum Mode {
+        DISABLED,
+        PRIOR_KNOWLEDGE,
+        UPGRADE
+    }
+}
@@ -0,0 +1,212 @@
+package com.teambind.springproject.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "gateway.jwt")
+public class JwtProperties {
+
+    private String secret;
+    private Cache cache = new Cache();
+    private Jwks jwks = new Jwks();
+    private Revocation revocation = new Revocation();
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public Jwks getJwks() {
+        return jwks;
+    }
+
+    public void setJwks(Jwks jwks) {
+        this.jwks = jwks;
+    }
+
+    public Revocation getRevocation() {
+        return revocation;
+    }
+
+    public void setRevocation(Revocation revocation) {
+        this.revocation = revocation;
+    }
+
+    /**
+     * 검증된 토큰 클레임 캐시 설정
+     */
+    public static class Cache {
+        private boolean enabled = true;
+        private int maxEntries = 10_000;
+        private DataSize maxMemory = DataSize.ofMegabytes(16);
+        private Duration purgeInterval = Duration.ofSeconds(30);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public DataSize getMaxMemory() {
+            return maxMemory;
+        }
+
+        public void setMaxMemory(DataSize maxMemory) {
+            this.maxMemory = maxMemory;
+        }
+
+        public Duration getPurgeInterval() {
+            return purgeInterval;
+        }
+
+        public void setPurgeInterval(Duration purgeInterval) {
+            this.purgeInterval = purgeInterval;
+        }
+    }
+
+    /**
+     * RS256/ES256 공개키(JWKS) 설정
+     * - location: file:, classpath:, http(s): 경로. 비어 있으면 비대칭 서명 비활성화
+     */
+    public static class Jwks {
+        private String location;
+        private Duration refreshInterval = Duration.ofMinutes(5);
+        private Duration minRefreshInterval = Duration.ofSeconds(30);
+        private Duration fetchTimeout = Duration.ofSeconds(5);
+
+        public String getLocation() {
+            return location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+
+        public Duration getMinRefreshInterval() {
+            return minRefreshInterval;
+        }
+
+        public void setMinRefreshInterval(Duration minRefreshInterval) {
+            this.minRefreshInterval = minRefreshInterval;
+        }
+
+        public Duration getFetchTimeout() {
+            return fetchTimeout;
+        }
+
+        public void setFetchTimeout(Duration fetchTimeout) {
+            this.fetchTimeout = fetchTimeout;
+        }
+    }
+
+    /**
+     * 토큰 폐기 목록(denylist) 설정
+     * - Redis에 저장된 폐기 목록을 노드별 Bloom filter로 복제
+     * - fail-closed: Bloom filter가 양성인데 Redis 확인에 실패하면 거부
+     */
+    public static class Revocation {
+        private boolean enabled = true;
+        private String keyPrefix = "{jwt:revoked}";
+        private String channel = "jwt:revocations";
+        private long expectedInsertions = 100_000;
+        private double falsePositiveRate = 0.01;
+        private Duration resyncInterval = Duration.ofMinutes(5);
+        private Duration lookupTimeout = Duration.ofMillis(200);
+        private boolean failClosed = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+
+        public void setChannel(String channel) {
+            this.channel = channel;
+        }
+
+        public long getExpectedInsertions() {
+            return expectedInsertions;
+        }
+
+        public void setExpectedInsertions(long expectedInsertions) {
+            this.expectedInsertions = expectedInsertions;
+        }
+
+        public double getFalsePositiveRate() {
+            return falsePositiveRate;
+        }
+
+        public void setFalsePositiveRate(double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+        }
+
+        public Duration getResyncInterval() {
+            return resyncInterval;
+        }
+
+        public void setResyncInterval(Duration resyncInterval) {
+            this.resyncInterval = resyncInterval;
+        }
+
+        public Duration getLookupTimeout() {
+            return lookupTimeout;
+        }
+
+        public void setLookupTimeout(Duration lookupTimeout) {
+            this.lookupTimeout = lookupTimeout;
+        }
+
+        public boolean isFailClosed() {
+            return failClosed;
+        }
+
+        public void setFailClosed(boolean failClosed) {
+            this.failClosed = failClosed;
+        }
+    }
+}
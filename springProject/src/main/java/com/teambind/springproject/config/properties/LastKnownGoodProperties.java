@@ -0,0 +1,99 @@
+package com.teambind.springproject.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "gateway.last-known-good")
+public class LastKnownGoodProperties {
+
+    private boolean enabled = true;
+    private int maxEntries = 10_000;
+    // 이보다 오래된 응답은 대체 응답으로 쓰지 않음
+    private Duration maxAge = Duration.ofMinutes(10);
+    private Duration purgeInterval = Duration.ofMinutes(1);
+    private Redis redis = new Redis();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+
+    public Redis getRedis() {
+        return redis;
+    }
+
+    public void setRedis(Redis redis) {
+        this.redis = redis;
+    }
+
+    /**
+     * Redis 사본 (노드 재시작/다른 노드에서도 대체 응답 사용)
+     */
+    public static class Redis {
+        private boolean enabled = false;
+        private String keyPrefix = "gateway:last-known-good:";
+        private Duration timeout = Duration.ofMillis(50);
+        // 같은 키를 이 간격 안에 다시 기록하지 않음 (성공할 때마다 직렬화/네트워크 비용이 들지 않도록)
+        private Duration minWriteInterval = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public Duration getMinWriteInterval() {
+            return minWriteInterval;
+        }
+
+        public void setMinWriteInterval(Duration minWriteInterval) {
+            this.minWriteInterval = minWriteInterval;
+        }
+    }
+}
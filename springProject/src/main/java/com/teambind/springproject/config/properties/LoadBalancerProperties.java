@@ -0,0 +1,110 @@
+package com.teambind.springproject.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "gateway.load-balancer")
+public class LoadBalancerProperties {
+
+    private boolean enabled = true;
+    private Ejection ejection = new Ejection();
+    // 서비스(라우트 ID) -> 인스턴스 목록. 없는 서비스는 service.{키}.url/port 단일 주소로 호출
+    private Map<String, Service> services = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Ejection getEjection() {
+        return ejection;
+    }
+
+    public void setEjection(Ejection ejection) {
+        this.ejection = ejection;
+    }
+
+    public Map<String, Service> getServices() {
+        return services;
+    }
+
+    public void setServices(Map<String, Service> services) {
+        this.services = services;
+    }
+
+    public static class Service {
+        // "host:port" 목록
+        private List<String> instances = new ArrayList<>();
+
+        public List<String> getInstances() {
+            return instances;
+        }
+
+        public void setInstances(List<String> instances) {
+            this.instances = instances;
+        }
+    }
+
+    /**
+     * 비정상 인스턴스 제외 (passive outlier detection)
+     */
+    public static class Ejection {
+        // 연속 실패(연결 실패, 타임아웃, 502/503/504, 느린 호출) 횟수
+        private int consecutiveFailures = 5;
+        // 이보다 오래 걸린 호출은 실패로 집계
+        private Duration slowCallThreshold = Duration.ofSeconds(3);
+        // 제외 시간 = base-ejection-time x 연속 제외 횟수 (최대 max-ejection-time)
+        private Duration baseEjectionTime = Duration.ofSeconds(30);
+        private Duration maxEjectionTime = Duration.ofMinutes(5);
+        // 동시에 제외할 수 있는 인스턴스 비율 (%), 최소 1개는 항상 남김
+        private int maxEjectionPercent = 50;
+
+        public int getConsecutiveFailures() {
+            return consecutiveFailures;
+        }
+
+        public void setConsecutiveFailures(int consecutiveFailures) {
+            this.consecutiveFailures = consecutiveFailures;
+        }
+
+        public Duration getSlowCallThreshold() {
+            return slowCallThreshold;
+        }
+
+        public void setSlowCallThreshold(Duration slowCallThreshold) {
+            this.slowCallThreshold = slowCallThreshold;
+        }
+
+        public Duration getBaseEjectionTime() {
+            return baseEjectionTime;
+        }
+
+        public void setBaseEjectionTime(Duration baseEjectionTime) {
+            this.baseEjectionTime = baseEjectionTime;
+        }
+
+        public Duration getMaxEjectionTime() {
+            return maxEjectionTime;
+        }
+
+        public void setMaxEjectionTime(Duration maxEjectionTime) {
+            this.maxEjectionTime = maxEjectionTime;
+        }
+
+        public int getMaxEjectionPercent() {
+            return maxEjectionPercent;
+        }
+
+        public void setMaxEjectionPercent(int maxEjectionPercent) {
+            this.maxEjectionPercent = maxEjectionPercent;
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.teambind.springproject.config.properties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @ConfigurationProperties(prefix = "gateway.rate-limit")
@@ -11,7 +13,15 @@ public class RateLimitProperties {
 
     private boolean enabled = true;
     private Policy defaultPolicy = new Policy();
+    // "[METHOD ]경로" -> 정책. 경로는 prefix 또는 Ant 패턴, 겹치면 가장 구체적인(긴) 규칙이 우선
     private Map<String, Policy> endpoints = new HashMap<>();
+    // Rate Limit 제외 경로 (prefix)
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator", "/health"));
+    private Batch batch = new Batch();
+    private Dimensions dimensions = new Dimensions();
+    private Reload reload = new Reload();
+    private Fallback fallback = new Fallback();
+    private Cluster cluster = new Cluster();
 
     public boolean isEnabled() {
         return enabled;
@@ -37,18 +47,258 @@ public class RateLimitProperties {
         this.endpoints = endpoints;
     }
 
-    public Policy getPolicyForPath(String path) {
-        return endpoints.entrySet().stream()
-                .filter(entry -> path.startsWith(entry.getKey()))
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(defaultPolicy);
+    public List<String> getExcludedPaths() {
+        return excludedPaths;
+    }
+
+    public void setExcludedPaths(List<String> excludedPaths) {
+        this.excludedPaths = excludedPaths;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public void setBatch(Batch batch) {
+        this.batch = batch;
+    }
+
+    public Dimensions getDimensions() {
+        return dimensions;
+    }
+
+    public void setDimensions(Dimensions dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    public Reload getReload() {
+        return reload;
+    }
+
+    public void setReload(Reload reload) {
+        this.reload = reload;
+    }
+
+    public Fallback getFallback() {
+        return fallback;
+    }
+
+    public void setFallback(Fallback fallback) {
+        this.fallback = fallback;
+    }
+
+    public Cluster getCluster() {
+        return cluster;
+    }
+
+    public void setCluster(Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * Redis 호출 제한 시간과 로컬 대체 판정 설정
+     * - timeout: Redis 판정 호출의 최대 대기 시간 (fallback 비활성화 시에도 적용, 초과 시 기존처럼 허용)
+     * - 시간 초과/연결 실패 시 노드 메모리의 Token Bucket으로 판정 (한도 / expected-nodes)
+     * - 로컬 모드에서는 retry-interval마다 요청 하나만 Redis로 보내 복구 여부 확인
+     */
+    public static class Fallback {
+        private boolean enabled = true;
+        private Duration timeout = Duration.ofMillis(50);
+        private int expectedNodes = 2;
+        private Duration retryInterval = Duration.ofSeconds(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getExpectedNodes() {
+            return expectedNodes;
+        }
+
+        public void setExpectedNodes(int expectedNodes) {
+            this.expectedNodes = expectedNodes;
+        }
+
+        public Duration getRetryInterval() {
+            return retryInterval;
+        }
+
+        public void setRetryInterval(Duration retryInterval) {
+            this.retryInterval = retryInterval;
+        }
+    }
+
+    /**
+     * Redis 해시에서 endpoints 정책을 주기적으로 읽어 재시작 없이 반영
+     * - 필드: endpoints와 같은 "[METHOD ]경로" 키, 값: Policy JSON (예: {"limit":10,"duration":"PT1M","burstCapacity":12})
+     * - 같은 키는 설정 파일보다 Redis 값이 우선
+     */
+    public static class Reload {
+        private boolean enabled = true;
+        private String redisKey = "gateway:rate-limit:policies";
+        private Duration interval = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getRedisKey() {
+            return redisKey;
+        }
+
+        public void setRedisKey(String redisKey) {
+            this.redisKey = redisKey;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+    }
+
+    /**
+     * 클라이언트 정책(default-policy/endpoints)과 함께 적용할 추가 한도
+     * - place: 토큰 placeId 클레임(테넌트)별 한도, null이면 미적용
+     * - routes: 라우트 ID별, 클라이언트마다 따로 적용하는 한도
+     * - global: 라우트 ID별, 모든 클라이언트가 공유하는 한도 (백엔드 보호용 상한)
+     * - 한 요청의 모든 한도는 한 번의 Lua 호출에서 전부 허용될 때만 차감
+     */
+    public static class Dimensions {
+        private Policy place;
+        private Map<String, Policy> routes = new HashMap<>();
+        private Map<String, Policy> global = new HashMap<>();
+
+        public Policy getPlace() {
+            return place;
+        }
+
+        public void setPlace(Policy place) {
+            this.place = place;
+        }
+
+        public Map<String, Policy> getRoutes() {
+            return routes;
+        }
+
+        public void setRoutes(Map<String, Policy> routes) {
+            this.routes = routes;
+        }
+
+        public Map<String, Policy> getGlobal() {
+            return global;
+        }
+
+        public void setGlobal(Map<String, Policy> global) {
+            this.global = global;
+        }
+    }
+
+    /**
+     * Redis 평가 마이크로 배칭 설정
+     * - window 동안 또는 max-size개가 모일 때까지 모아 한 번의 Lua 호출로 평가
+     */
+    public static class Batch {
+        private boolean enabled = true;
+        private Duration window = Duration.ofNanos(200_000);
+        private int maxSize = 64;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    /**
+     * Redis Cluster 키 분산
+     * - 키를 partitions개의 해시 태그로 나눠 저장 (같은 파티션 키는 같은 슬롯이라 한 번의 Lua 호출로 판정 가능)
+     * - 파티션이 적으면 배치 효율이 좋고, 많으면 샤드 간 분산이 고름 (샤드 수의 수십 배 권장)
+     */
+    public static class Cluster {
+        private boolean enabled = false;
+        private int partitions = 64;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getPartitions() {
+            return partitions;
+        }
+
+        public void setPartitions(int partitions) {
+            this.partitions = partitions;
+        }
+    }
+
+    /**
+     * Redis 판정 알고리즘
+     * - TOKEN_BUCKET: 키마다 (tokens, last_update) 해시, 게이트웨이 시계 사용
+     * - GCRA: 키마다 이론적 도착 시각(TAT) 값 하나, Redis TIME 사용 (노드 간 시계 차이 영향 없음)
+     */
+    public enum Algorithm {
+        TOKEN_BUCKET,
+        GCRA
     }
 
     public static class Policy {
+        private Algorithm algorithm = Algorithm.TOKEN_BUCKET;
         private int limit = 100;
         private Duration duration = Duration.ofMinutes(1);
         private int burstCapacity = 120;
+        // 노드별로 미리 임대해 둘 수 있는 토큰 수 (허용 초과량 상한). 0이면 매 요청 Redis에서 정확히 판정
+        private int maxOvershoot = 0;
+        // 임대한 토큰의 유효 시간. 지나면 남은 토큰은 Redis로 반환
+        private Duration leaseDuration = Duration.ofSeconds(1);
+
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public void setAlgorithm(Algorithm algorithm) {
+            this.algorithm = algorithm;
+        }
 
         public int getLimit() {
             return limit;
@@ -74,6 +324,22 @@ public class RateLimitProperties {
             this.burstCapacity = burstCapacity;
         }
 
+        public int getMaxOvershoot() {
+            return maxOvershoot;
+        }
+
+        public void setMaxOvershoot(int maxOvershoot) {
+            this.maxOvershoot = maxOvershoot;
+        }
+
+        public Duration getLeaseDuration() {
+            return leaseDuration;
+        }
+
+        public void setLeaseDuration(Duration leaseDuration) {
+            this.leaseDuration = leaseDuration;
+        }
+
         public double getRefillRate() {
             return (double) limit / duration.toSeconds();
         }
@@ -0,0 +1,45 @@
+package com.teambind.springproject.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로별 인증 요구 수준 설정
+ * - 경로는 prefix로 비교 ("/x/**"는 "/x"와 그 하위 경로)
+ */
+@ConfigurationProperties(prefix = "gateway.routing")
+public class RoutingProperties {
+
+    // 인증이 필요없는 경로 (헬스체크, Swagger 등)
+    private List<String> publicPaths = new ArrayList<>(List.of(
+            "/actuator",
+            "/health",
+            "/swagger-ui",
+            "/v3/api-docs",
+            "/webjars"
+    ));
+
+    // 점주 인증 관련 경로 (로그인 등) - X-App-Type 검증은 하지만 JWT는 불필요
+    private List<String> appTypeOnlyPaths = new ArrayList<>(List.of(
+            "/api/v1/auth/login",
+            "/api/v1/auth/refresh"
+    ));
+
+    public List<String> getPublicPaths() {
+        return publicPaths;
+    }
+
+    public void setPublicPaths(List<String> publicPaths) {
+        this.publicPaths = publicPaths;
+    }
+
+    public List<String> getAppTypeOnlyPaths() {
+        return appTypeOnlyPaths;
+    }
+
+    public void setAppTypeOnlyPaths(List<String> appTypeOnlyPaths) {
+        this.appTypeOnlyPaths = appTypeOnlyPaths;
+    }
+}
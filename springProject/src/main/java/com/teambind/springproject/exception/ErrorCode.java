@@ -11,6 +11,7 @@ public enum ErrorCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "Unauthorized access."),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "A002", "Invalid token."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "A003", "Token has expired."),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED, "A004", "Token has been revoked."),
 
     // Authorization Errors (Z0XX)
     FORBIDDEN(HttpStatus.FORBIDDEN, "Z001", "Access denied."),
@@ -22,7 +23,9 @@ public enum ErrorCode {
     // Gateway Errors (G0XX)
     SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "G001", "Service temporarily unavailable."),
     BAD_GATEWAY(HttpStatus.BAD_GATEWAY, "G002", "Bad gateway."),
-    GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "G003", "Gateway timeout.");
+    GATEWAY_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "G003", "Gateway timeout."),
+    CONCURRENCY_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "G004", "Service is overloaded. Please try again later."),
+    BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "G005", "Too many concurrent calls to the service. Please try again later.");
 
     private final HttpStatus httpStatus;
     private final String code;
@@ -0,0 +1,39 @@
+package com.teambind.springproject.exception;
+
+import com.teambind.springproject.common.response.ApiResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * 게이트웨이 API(Facade) 컨트롤러 에러 응답
+ * - CustomException: ErrorCode의 HTTP 상태 (FallbackHandler가 Circuit Breaker/타임아웃/연결 실패를 변환한 결과 포함)
+ * - WebClientResponseException: 백엔드 4xx는 상태와 본문을 그대로 전달
+ * - 그 외 예외(검증 실패 등)는 Spring 기본 처리
+ * - 라우트 프록시 요청은 이 핸들러를 거치지 않음 (Circuit Breaker fallbackUri로 처리)
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<ApiResponse<Void>> handleCustomException(CustomException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .body(ApiResponse.error(errorCode.getCode(), e.getMessage()));
+    }
+
+    @ExceptionHandler(WebClientResponseException.class)
+    public ResponseEntity<byte[]> handleWebClientResponseException(WebClientResponseException e) {
+        HttpHeaders headers = new HttpHeaders();
+        if (e.getHeaders().getContentType() != null) {
+            headers.setContentType(e.getHeaders().getContentType());
+        }
+        return ResponseEntity
+                .status(e.getStatusCode())
+                .headers(headers)
+                .body(e.getResponseBodyAsByteArray());
+    }
+}
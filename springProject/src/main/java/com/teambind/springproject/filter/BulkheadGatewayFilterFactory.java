@@ -0,0 +1,115 @@
+package com.teambind.springproject.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.circuitbreaker.ServiceBulkhead;
+import com.teambind.springproject.circuitbreaker.ServiceBulkheadRegistry;
+import com.teambind.springproject.exception.CustomException;
+import com.teambind.springproject.exception.ErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우트 프록시 호출에 다운스트림 서비스별 Bulkhead 적용
+ * - 사용: filters(또는 default-filters)에 "Bulkhead" 또는 "Bulkhead=<서비스명>", 서비스명 생략 시 라우트 ID
+ * - Circuit Breaker 필터 안쪽, 적응형 동시 처리 한도(ConcurrencyLimitFilter) 바로 앞에서 실행
+ * - 대기 시간 초과 시 다운스트림 호출 없이 503 응답
+ */
+@Component
+public class BulkheadGatewayFilterFactory extends AbstractGatewayFilterFactory<BulkheadGatewayFilterFactory.Config> {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadGatewayFilterFactory.class);
+
+    private final ServiceBulkheadRegistry bulkheadRegistry;
+    private final ObjectMapper objectMapper;
+
+    public BulkheadGatewayFilterFactory(ServiceBulkheadRegistry bulkheadRegistry, ObjectMapper objectMapper) {
+        super(Config.class);
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("name");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        GatewayFilter filter = (exchange, chain) -> {
+            String service = resolveService(exchange, config);
+            if (!bulkheadRegistry.isEnabled() || service == null) {
+                return chain.filter(exchange);
+            }
+
+            ServiceBulkhead bulkhead = bulkheadRegistry.bulkhead(service);
+            // 자리를 얻은 뒤에 하위 필터 실행 (NettyRoutingFilter는 filter 호출 시점에 일부 작업 수행)
+            return bulkhead.decorate(Mono.defer(() -> chain.filter(exchange)))
+                    .onErrorResume(CustomException.class, e -> e.getErrorCode() == ErrorCode.BULKHEAD_FULL
+                            ? handleBulkheadFull(exchange)
+                            : Mono.error(e));
+        };
+        return new OrderedGatewayFilter(filter, Ordered.LOWEST_PRECEDENCE - 2);
+    }
+
+    private static String resolveService(ServerWebExchange exchange, Config config) {
+        if (config.getName() != null && !config.getName().isBlank()) {
+            return config.getName();
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : null;
+    }
+
+    private Mono<Void> handleBulkheadFull(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        ErrorCode errorCode = ErrorCode.BULKHEAD_FULL;
+        response.setStatusCode(errorCode.getHttpStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> errorBody = Map.of(
+                "success", false,
+                "error", Map.of(
+                        "code", errorCode.getCode(),
+                        "message", errorCode.getMessage()
+                )
+        );
+
+        try {
+            String json = objectMapper.writeValueAsString(errorBody);
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            DataBuffer buffer = response.bufferFactory().wrap(bytes);
+            return response.writeWith(Mono.just(buffer));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize bulkhead error response", e);
+            return response.setComplete();
+        }
+    }
+
+    public static class Config {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
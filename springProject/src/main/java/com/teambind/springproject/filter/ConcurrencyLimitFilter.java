@@ -0,0 +1,95 @@
+package com.teambind.springproject.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.concurrency.AdaptiveConcurrencyLimiter;
+import com.teambind.springproject.concurrency.ConcurrencyLimiterRegistry;
+import com.teambind.springproject.exception.ErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 라우트(다운스트림 서비스)별 적응형 동시 처리 한도
+ * - 프록시 호출 직전(NettyRoutingFilter 앞)에 실행되어 Circuit Breaker 안쪽에서 실제 호출만 측정
+ * - RTT는 다운스트림 응답 헤더 수신까지의 시간
+ * - 한도 초과 시 다운스트림 호출 없이 503 응답
+ */
+@Component
+public class ConcurrencyLimitFilter implements GlobalFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final ConcurrencyLimiterRegistry limiterRegistry;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimiterRegistry limiterRegistry, ObjectMapper objectMapper) {
+        this.limiterRegistry = limiterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!limiterRegistry.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiterRegistry.tryAcquire(route.getId());
+        if (permit == null) {
+            return handleLimitExceeded(exchange);
+        }
+
+        return chain.filter(exchange)
+                .doOnSuccess(ignored -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    permit.complete(status != null ? status.value() : 200);
+                })
+                .doOnError(permit::fail)
+                .doOnCancel(permit::cancel);
+    }
+
+    private Mono<Void> handleLimitExceeded(ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        ErrorCode errorCode = ErrorCode.CONCURRENCY_LIMIT_EXCEEDED;
+        response.setStatusCode(errorCode.getHttpStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        Map<String, Object> errorBody = Map.of(
+                "success", false,
+                "error", Map.of(
+                        "code", errorCode.getCode(),
+                        "message", errorCode.getMessage()
+                )
+        );
+
+        try {
+            String json = objectMapper.writeValueAsString(errorBody);
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            DataBuffer buffer = response.bufferFactory().wrap(bytes);
+            return response.writeWith(Mono.just(buffer));
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize concurrency limit error response", e);
+            return response.setComplete();
+        }
+    }
+}
@@ -2,15 +2,18 @@ package com.teambind.springproject.filter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.teambind.springproject.auth.JwtTokenValidator;
 import com.teambind.springproject.auth.Role;
+import com.teambind.springproject.auth.TokenRevocationList;
 import com.teambind.springproject.auth.TokenValidationResult;
+import com.teambind.springproject.auth.ValidatedToken;
+import com.teambind.springproject.auth.VerifiedTokenResolver;
 import com.teambind.springproject.exception.ErrorCode;
+import com.teambind.springproject.routing.AuthRequirement;
+import com.teambind.springproject.routing.RouteClassifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -22,13 +25,13 @@ import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.Map;
 
 /**
  * 점주/관리자 전용 JWT 인증 필터
  * - PLACE_OWNER, ADMIN 역할만 접근 가능
  * - X-App-Type: PLACE_MANAGER 헤더 필수
+ * - 폐기된 토큰(jti/디바이스 단위)은 거부
  * - Rate Limit Filter 다음에 실행 (order: -100)
  */
 @Component
@@ -39,26 +42,20 @@ public class JwtAuthenticationFilter implements WebFilter, Ordered {
     private static final String X_APP_TYPE_HEADER = "X-App-Type";
     private static final String REQUIRED_APP_TYPE = "PLACE_MANAGER";
 
-    // 인증이 필요없는 경로 (헬스체크, Swagger 등)
-    private static final List<String> PUBLIC_PATHS = List.of(
-            "/actuator",
-            "/health",
-            "/swagger-ui",
-            "/v3/api-docs",
-            "/webjars"
-    );
-
-    // 점주 인증 관련 경로 (로그인 등) - X-App-Type 검증은 하지만 JWT는 불필요
-    private static final List<String> AUTH_PATHS = List.of(
-            "/api/v1/auth/login",
-            "/api/v1/auth/refresh"
-    );
-
-    private final JwtTokenValidator jwtTokenValidator;
+    private final VerifiedTokenResolver verifiedTokenResolver;
+    private final TokenRevocationList tokenRevocationList;
+    private final RouteClassifier routeClassifier;
     private final ObjectMapper objectMapper;
 
-    public JwtAuthenticationFilter(JwtTokenValidator jwtTokenValidator, ObjectMapper objectMapper) {
-        this.jwtTokenValidator = jwtTokenValidator;
+    public JwtAuthenticationFilter(
+            VerifiedTokenResolver verifiedTokenResolver,
+            TokenRevocationList tokenRevocationList,
+            RouteClassifier routeClassifier,
+            ObjectMapper objectMapper
+    ) {
+        this.verifiedTokenResolver = verifiedTokenResolver;
+        this.tokenRevocationList = tokenRevocationList;
+        this.routeClassifier = routeClassifier;
         this.objectMapper = objectMapper;
     }
 
@@ -80,7 +77,8 @@ public class JwtAuthenticationFilter implements WebFilter, Ordered {
         }
 
         // Public 경로 확인 (헬스체크, Swagger 등)
-        if (isPublicPath(path)) {
+        AuthRequirement authRequirement = routeClassifier.resolve(exchange).auth();
+        if (authRequirement == AuthRequirement.PUBLIC) {
             log.debug("Public path accessed: {}", path);
             return chain.filter(exchange);
         }
@@ -94,34 +92,31 @@ public class JwtAuthenticationFilter implements WebFilter, Ordered {
         }
 
         // 인증 경로는 X-App-Type만 검증하고 JWT는 불필요
-        if (isAuthPath(path)) {
+        if (authRequirement == AuthRequirement.APP_TYPE_ONLY) {
             log.debug("Auth path accessed with valid X-App-Type: {}", path);
             return chain.filter(exchange);
         }
 
         // Authorization 헤더에서 토큰 추출
-        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
-
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        String token = VerifiedTokenResolver.bearerToken(request);
+        if (token == null) {
             log.warn("Missing or invalid Authorization header for path: {}", path);
             return handleUnauthorized(exchange, ErrorCode.UNAUTHORIZED, "인증 토큰이 필요합니다");
         }
 
-        String token = authHeader.substring(7); // "Bearer " 제거
-
-        // 토큰 검증
-        TokenValidationResult validationResult = jwtTokenValidator.validate(token);
-        if (!validationResult.isValid()) {
+        // 토큰 검증 (Rate Limit 필터에서 이미 검증했거나 캐시 히트 시 서명 검증/파싱 생략)
+        ValidatedToken validatedToken = verifiedTokenResolver.resolve(exchange, token);
+        if (!validatedToken.isValid()) {
+            TokenValidationResult validationResult = validatedToken.result();
             log.warn("Token validation failed for path: {}. Reason: {}", path, validationResult.getMessage());
             ErrorCode errorCode = mapToErrorCode(validationResult);
             return handleUnauthorized(exchange, errorCode, validationResult.getMessage());
         }
 
         // 토큰에서 사용자 정보 추출
-        String userId = jwtTokenValidator.extractUserId(token);
-        String roleString = jwtTokenValidator.extractRole(token);
-        String deviceId = jwtTokenValidator.extractDeviceId(token);
-        String placeId = jwtTokenValidator.extractPlaceId(token);
+        String userId = validatedToken.userId();
+        String roleString = validatedToken.role();
+        String deviceId = validatedToken.deviceId();
 
         // 사용자 정보 검증
         if (userId == null || userId.isEmpty()) {
@@ -136,8 +131,35 @@ public class JwtAuthenticationFilter implements WebFilter, Ordered {
             return handleForbidden(exchange, "점주 또는 관리자만 접근할 수 있습니다");
         }
 
+        // 폐기 여부 확인 (캐시 히트여도 매번 확인, Bloom filter 양성일 때만 Redis 조회)
+        if (!tokenRevocationList.mightBeRevoked(validatedToken)) {
+            return forwardAuthenticated(exchange, chain, validatedToken, role);
+        }
+        ValidatedToken authenticated = validatedToken;
+        return tokenRevocationList.isRevoked(authenticated)
+                .flatMap(revoked -> {
+                    if (revoked) {
+                        log.warn("Revoked token used by user: {}, device: {} on path: {}",
+                                userId, deviceId, path);
+                        return handleUnauthorized(exchange, ErrorCode.REVOKED_TOKEN, "폐기된 토큰입니다");
+                    }
+                    return forwardAuthenticated(exchange, chain, authenticated, role);
+                });
+    }
+
+    private Mono<Void> forwardAuthenticated(
+            ServerWebExchange exchange,
+            WebFilterChain chain,
+            ValidatedToken validatedToken,
+            Role role
+    ) {
+        ServerHttpRequest request = exchange.getRequest();
+        String userId = validatedToken.userId();
+        String deviceId = validatedToken.deviceId();
+        String placeId = validatedToken.placeId();
+
         log.debug("Authenticated PlaceOwner request - UserId: {}, Role: {}, PlaceId: {}, Path: {}",
-                userId, role, placeId, path);
+                userId, role, placeId, request.getPath().value());
 
         // 요청 헤더에 사용자 정보 + 앱 타입 추가 (다운스트림 서비스로 전달)
         ServerHttpRequest mutatedRequest = request.mutate()
@@ -163,14 +185,6 @@ public class JwtAuthenticationFilter implements WebFilter, Ordered {
         return chain.filter(mutatedExchange);
     }
 
-    private boolean isPublicPath(String path) {
-        return PUBLIC_PATHS.stream().anyMatch(path::startsWith);
-    }
-
-    private boolean isAuthPath(String path) {
-        return AUTH_PATHS.stream().anyMatch(path::startsWith);
-    }
-
     private ErrorCode mapToErrorCode(TokenValidationResult result) {
         return switch (result) {
             case EXPIRED -> ErrorCode.EXPIRED_TOKEN;
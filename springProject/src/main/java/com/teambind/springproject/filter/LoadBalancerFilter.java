@@ -0,0 +1,68 @@
+package com.teambind.springproject.filter;
+
+import com.teambind.springproject.loadbalancer.ServiceLoadBalancer;
+import com.teambind.springproject.loadbalancer.ServiceLoadBalancerRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.support.NotFoundException;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientResponse;
+
+import java.net.URI;
+
+/**
+ * lb://{서비스} 라우트를 인스턴스 주소로 변경
+ * - RouteToRequestUrlFilter 다음에 실행 (spring-cloud-loadbalancer의 ReactiveLoadBalancerClientFilter와 같은 위치)
+ * - 인스턴스 선택/제외 상태는 같은 서비스의 WebClient와 공유 (ServiceLoadBalancerRegistry)
+ * - 다운스트림 응답을 받은 경우에만 결과 반영, 게이트웨이가 직접 만든 응답(Bulkhead, 동시 처리 한도 초과 등)은 무시
+ */
+@Component
+public class LoadBalancerFilter implements GlobalFilter, Ordered {
+
+    private static final String LB_SCHEME = "lb";
+
+    private final ServiceLoadBalancerRegistry loadBalancers;
+
+    public LoadBalancerFilter(ServiceLoadBalancerRegistry loadBalancers) {
+        this.loadBalancers = loadBalancers;
+    }
+
+    @Override
+    public int getOrder() {
+        return RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 150;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI url = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (url == null || !LB_SCHEME.equalsIgnoreCase(url.getScheme())) {
+            return chain.filter(exchange);
+        }
+
+        ServiceLoadBalancer balancer = loadBalancers.balancer(url.getHost());
+        if (balancer == null) {
+            return Mono.error(NotFoundException.create(false, "No instances configured for " + url.getHost()));
+        }
+
+        ServerWebExchangeUtils.addOriginalRequestUrl(exchange, url);
+        ServiceLoadBalancer.Call call = balancer.choose();
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR, call.uri(url));
+
+        return chain.filter(exchange)
+                .doOnSuccess(ignored -> {
+                    HttpClientResponse response = exchange.getAttribute(ServerWebExchangeUtils.CLIENT_RESPONSE_ATTR);
+                    if (response != null) {
+                        call.complete(response.status().code());
+                    } else {
+                        call.cancel();
+                    }
+                })
+                .doOnError(call::fail)
+                .doOnCancel(call::cancel);
+    }
+}
@@ -2,10 +2,15 @@ package com.teambind.springproject.filter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.auth.ValidatedToken;
+import com.teambind.springproject.auth.VerifiedTokenResolver;
 import com.teambind.springproject.config.properties.RateLimitProperties;
 import com.teambind.springproject.exception.ErrorCode;
+import com.teambind.springproject.ratelimit.Quota;
 import com.teambind.springproject.ratelimit.RateLimitResult;
 import com.teambind.springproject.ratelimit.RateLimiterService;
+import com.teambind.springproject.routing.RouteClassification;
+import com.teambind.springproject.routing.RouteClassifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.Ordered;
@@ -22,31 +27,45 @@ import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * 요청별 Rate Limit (인증 필터보다 먼저 실행)
+ * - 사용자/공간 한도 키는 검증된 토큰의 클레임에서만 가져옴 (X-User-Id, X-Place-Id 헤더는 클라이언트가 위조할 수 있음)
+ * - 토큰 검증 결과는 exchange attribute로 인증 필터와 공유하므로 요청당 한 번만 검증
+ * - 토큰이 없거나 유효하지 않으면 IP 기준
+ */
 @Component
 public class RateLimitFilter implements WebFilter, Ordered {
 
     private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
 
-    private static final String X_USER_ID = "X-User-Id";
     private static final String X_FORWARDED_FOR = "X-Forwarded-For";
     private static final String X_REAL_IP = "X-Real-IP";
     private static final String X_RATELIMIT_LIMIT = "X-RateLimit-Limit";
     private static final String X_RATELIMIT_REMAINING = "X-RateLimit-Remaining";
+    private static final String X_RATELIMIT_SCOPE = "X-RateLimit-Scope";
     private static final String RETRY_AFTER = "Retry-After";
 
     private final RateLimiterService rateLimiterService;
     private final RateLimitProperties rateLimitProperties;
+    private final RouteClassifier routeClassifier;
+    private final VerifiedTokenResolver verifiedTokenResolver;
     private final ObjectMapper objectMapper;
 
     public RateLimitFilter(
             RateLimiterService rateLimiterService,
             RateLimitProperties rateLimitProperties,
+            RouteClassifier routeClassifier,
+            VerifiedTokenResolver verifiedTokenResolver,
             ObjectMapper objectMapper
     ) {
         this.rateLimiterService = rateLimiterService;
         this.rateLimitProperties = rateLimitProperties;
+        this.routeClassifier = routeClassifier;
+        this.verifiedTokenResolver = verifiedTokenResolver;
         this.objectMapper = objectMapper;
     }
 
@@ -61,19 +80,17 @@ public class RateLimitFilter implements WebFilter, Ordered {
             return chain.filter(exchange);
         }
 
-        String path = exchange.getRequest().getPath().value();
-
-        // Skip rate limiting for health check and actuator
-        if (path.startsWith("/actuator") || path.equals("/health")) {
+        // Skip rate limiting for health check and actuator (gateway.rate-limit.excluded-paths)
+        RouteClassification classification = routeClassifier.resolve(exchange);
+        if (!classification.isRateLimited()) {
             return chain.filter(exchange);
         }
 
-        String key = resolveKey(exchange);
-        RateLimitProperties.Policy policy = rateLimitProperties.getPolicyForPath(path);
+        List<Quota> quotas = resolveQuotas(exchange, classification);
 
-        return rateLimiterService.isAllowed(key, policy)
+        return rateLimiterService.isAllowed(quotas)
                 .flatMap(result -> {
-                    addRateLimitHeaders(exchange, result, policy);
+                    addRateLimitHeaders(exchange, result, quotas.get(0));
 
                     if (result.allowed()) {
                         return chain.filter(exchange);
@@ -83,17 +100,55 @@ public class RateLimitFilter implements WebFilter, Ordered {
                 });
     }
 
-    private String resolveKey(ServerWebExchange exchange) {
+    /**
+     * 요청에 적용할 한도 목록 (첫 번째는 항상 클라이언트 한도)
+     * - place: 토큰에 placeId 클레임이 있고 gateway.rate-limit.dimensions.place가 설정된 경우
+     * - route/global: 게이트웨이 라우트 ID별 설정이 있는 경우
+     */
+    private List<Quota> resolveQuotas(ServerWebExchange exchange, RouteClassification classification) {
+        ValidatedToken token = verifiedTokenResolver.authenticated(exchange);
+        Quota clientQuota = resolveClientQuota(exchange, classification, token);
+        String client = clientQuota.key();
+        List<Quota> quotas = new ArrayList<>(4);
+        quotas.add(clientQuota);
+
+        RateLimitProperties.Dimensions dimensions = rateLimitProperties.getDimensions();
+        String placeId = token != null ? token.placeId() : null;
+        if (dimensions.getPlace() != null && placeId != null && !placeId.isBlank()) {
+            quotas.add(new Quota("place", "place:" + placeId, "place", dimensions.getPlace()));
+        }
+
+        String routeId = classification.routeId();
+        if (routeId != null) {
+            RateLimitProperties.Policy route = dimensions.getRoutes().get(routeId);
+            if (route != null) {
+                quotas.add(new Quota("route", "route:" + routeId + ":" + client, routeId, route));
+            }
+            RateLimitProperties.Policy global = dimensions.getGlobal().get(routeId);
+            if (global != null) {
+                quotas.add(new Quota("global", "global:" + routeId, routeId, global));
+            }
+        }
+        return quotas;
+    }
+
+    private Quota resolveClientQuota(
+            ServerWebExchange exchange,
+            RouteClassification classification,
+            ValidatedToken token
+    ) {
         ServerHttpRequest request = exchange.getRequest();
+        String policyName = classification.rateLimitPolicyName();
+        RateLimitProperties.Policy policy = classification.rateLimitPolicy();
 
         // 1. 인증된 사용자는 userId 기반
-        String userId = request.getHeaders().getFirst(X_USER_ID);
+        String userId = token != null ? token.userId() : null;
         if (userId != null && !userId.isBlank()) {
-            return "user:" + userId;
+            return new Quota("user", "user:" + userId, policyName, policy);
         }
 
         // 2. 미인증 사용자는 IP 기반
-        return "ip:" + getClientIp(request);
+        return new Quota("ip", "ip:" + getClientIp(request), policyName, policy);
     }
 
     private String getClientIp(ServerHttpRequest request) {
@@ -122,12 +177,15 @@ public class RateLimitFilter implements WebFilter, Ordered {
     private void addRateLimitHeaders(
             ServerWebExchange exchange,
             RateLimitResult result,
-            RateLimitProperties.Policy policy
+            Quota clientQuota
     ) {
         ServerHttpResponse response = exchange.getResponse();
         HttpHeaders headers = response.getHeaders();
 
-        headers.add(X_RATELIMIT_LIMIT, String.valueOf(policy.getLimit()));
+        // 가장 제한적인 한도 기준 (판정 실패 시 클라이언트 한도)
+        Quota quota = result.limitedBy() != null ? result.limitedBy() : clientQuota;
+        headers.add(X_RATELIMIT_LIMIT, String.valueOf(quota.policy().getLimit()));
+        headers.add(X_RATELIMIT_SCOPE, quota.dimension());
 
         if (result.remainingTokens() >= 0) {
             headers.add(X_RATELIMIT_REMAINING, String.valueOf(result.remainingTokens()));
@@ -0,0 +1,87 @@
+package com.teambind.springproject.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다운스트림 서비스 인스턴스 하나의 부하/상태
+ * - inflight: 처리 중 요청 수 (least-outstanding-requests 선택 기준)
+ * - 연속 실패가 기준을 넘으면 ServiceLoadBalancer가 일정 시간 제외
+ */
+public final class DownstreamInstance {
+
+    private final String host;
+    private final int port;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    // 아래 상태는 this로 동기화 (갱신 빈도가 낮은 경로)
+    private int consecutiveFailures;
+    private int ejections;
+    private volatile long ejectedUntilNanos;
+    private volatile boolean ejected;
+
+    DownstreamInstance(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public boolean isEjected() {
+        return isEjected(System.nanoTime());
+    }
+
+    @Override
+    public String toString() {
+        return host + ":" + port;
+    }
+
+    boolean isEjected(long nowNanos) {
+        return ejected && nowNanos - ejectedUntilNanos < 0;
+    }
+
+    void started() {
+        inflight.incrementAndGet();
+    }
+
+    void finished() {
+        inflight.decrementAndGet();
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        // 복귀 후 정상 응답하면 제외 시간 가중치 초기화
+        if (ejected && !isEjected(System.nanoTime())) {
+            ejected = false;
+            ejections = 0;
+        }
+    }
+
+    /**
+     * @return 연속 실패 횟수
+     */
+    synchronized int recordFailure() {
+        return ++consecutiveFailures;
+    }
+
+    /**
+     * @return 제외 시간 (제외 횟수에 비례, 최대 maxNanos)
+     */
+    synchronized long eject(long nowNanos, long baseNanos, long maxNanos) {
+        ejections++;
+        long duration = Math.min(maxNanos, baseNanos * ejections);
+        ejectedUntilNanos = nowNanos + duration;
+        ejected = true;
+        consecutiveFailures = 0;
+        return duration;
+    }
+}
@@ -0,0 +1,214 @@
+package com.teambind.springproject.loadbalancer;
+
+import com.teambind.springproject.config.properties.LoadBalancerProperties;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 다운스트림 서비스 하나의 클라이언트 측 로드 밸런서
+ * - 선택: power of two choices, 임의의 두 인스턴스 중 처리 중 요청이 적은 쪽 (같으면 임의로)
+ * - 제외: 연속 실패(연결 실패, 타임아웃, 502/503/504, 느린 호출)가 기준을 넘으면 일정 시간 선택하지 않음
+ *   동시에 제외할 수 있는 인스턴스 수는 max-ejection-percent로 제한하고 최소 1개는 남김
+ * - 요청이 끝나면 Call로 결과를 알려 줌 (complete/fail/cancel 중 처음 호출된 것만 반영)
+ */
+public final class ServiceLoadBalancer {
+
+    private final String name;
+    private final DownstreamInstance[] instances;
+    private final int consecutiveFailures;
+    private final long slowCallNanos;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjected;
+    private final Consumer<DownstreamInstance> onEjected;
+
+    ServiceLoadBalancer(
+            String name,
+            List<DownstreamInstance> instances,
+            LoadBalancerProperties.Ejection ejection,
+            Consumer<DownstreamInstance> onEjected
+    ) {
+        if (instances.isEmpty()) {
+            throw new IllegalArgumentException("No instances configured for " + name);
+        }
+        this.name = name;
+        this.instances = instances.toArray(DownstreamInstance[]::new);
+        this.consecutiveFailures = Math.max(1, ejection.getConsecutiveFailures());
+        this.slowCallNanos = ejection.getSlowCallThreshold().toNanos();
+        this.baseEjectionNanos = ejection.getBaseEjectionTime().toNanos();
+        this.maxEjectionNanos = ejection.getMaxEjectionTime().toNanos();
+        this.maxEjected = Math.min(
+                this.instances.length - 1,
+                this.instances.length * Math.max(0, ejection.getMaxEjectionPercent()) / 100);
+        this.onEjected = onEjected;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<DownstreamInstance> getInstances() {
+        return List.of(instances);
+    }
+
+    public Call choose() {
+        DownstreamInstance chosen = instances.length == 1 ? instances[0] : chooseOfTwo(System.nanoTime());
+        chosen.started();
+        return new Call(chosen);
+    }
+
+    private DownstreamInstance chooseOfTwo(long nowNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = instances.length;
+        int i = random.nextInt(n);
+        int j = (i + 1 + random.nextInt(n - 1)) % n;
+        DownstreamInstance first = instances[i];
+        DownstreamInstance second = instances[j];
+
+        boolean firstEjected = first.isEjected(nowNanos);
+        boolean secondEjected = second.isEjected(nowNanos);
+        if (firstEjected && secondEjected) {
+            DownstreamInstance available = firstAvailable(j, nowNanos);
+            return available != null ? available : lessLoaded(first, second);
+        }
+        if (firstEjected) {
+            return second;
+        }
+        if (secondEjected) {
+            return first;
+        }
+        return lessLoaded(first, second);
+    }
+
+    private DownstreamInstance firstAvailable(int from, long nowNanos) {
+        for (int k = 1; k <= instances.length; k++) {
+            DownstreamInstance candidate = instances[(from + k) % instances.length];
+            if (!candidate.isEjected(nowNanos)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    // 두 후보는 임의 순서이므로 같으면 first
+    private static DownstreamInstance lessLoaded(DownstreamInstance first, DownstreamInstance second) {
+        return second.getInflight() < first.getInflight() ? second : first;
+    }
+
+    private void record(DownstreamInstance instance, long elapsedNanos, boolean failed) {
+        if (!failed && elapsedNanos <= slowCallNanos) {
+            instance.recordSuccess();
+            return;
+        }
+        if (instance.recordFailure() >= consecutiveFailures) {
+            tryEject(instance);
+        }
+    }
+
+    private synchronized void tryEject(DownstreamInstance instance) {
+        long now = System.nanoTime();
+        if (instance.isEjected(now)) {
+            return;
+        }
+        int ejected = 0;
+        for (DownstreamInstance candidate : instances) {
+            if (candidate.isEjected(now)) {
+                ejected++;
+            }
+        }
+        if (ejected < maxEjected) {
+            instance.eject(now, baseEjectionNanos, maxEjectionNanos);
+            onEjected.accept(instance);
+        }
+    }
+
+    /**
+     * 인스턴스 하나로 보낸 요청
+     */
+    public final class Call {
+
+        private final DownstreamInstance instance;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Call(DownstreamInstance instance) {
+            this.instance = instance;
+        }
+
+        public DownstreamInstance getInstance() {
+            return instance;
+        }
+
+        /**
+         * 서비스 이름으로 된 URI(http://{서비스}/..., lb://{서비스}/...)를 인스턴스 주소로 변경
+         */
+        public URI uri(URI original) {
+            return UriComponentsBuilder.fromUri(original)
+                    .scheme("http")
+                    .host(instance.getHost())
+                    .port(instance.getPort())
+                    .build(true)
+                    .toUri();
+        }
+
+        /**
+         * 응답 수신. 502/503/504는 인스턴스 장애로 집계
+         */
+        public void complete(int statusCode) {
+            if (release()) {
+                boolean failed = statusCode == 502 || statusCode == 503 || statusCode == 504;
+                record(instance, System.nanoTime() - startNanos, failed);
+            }
+        }
+
+        /**
+         * 오류 종료. 타임아웃(Netty 읽기/쓰기 타임아웃 포함)/연결 오류는 실패로 집계
+         * - 그 밖의 오류는 slow-call-threshold를 넘겼을 때만 느린 호출로 집계
+         */
+        public void fail(Throwable error) {
+            if (release()) {
+                long elapsedNanos = System.nanoTime() - startNanos;
+                record(instance, elapsedNanos, isInstanceFailure(error) || elapsedNanos > slowCallNanos);
+            }
+        }
+
+        /**
+         * 클라이언트 취소, 상위 타임아웃 등으로 응답 전에 종료
+         * - slow-call-threshold를 넘긴 뒤 취소되었으면 느린 호출로 집계 (Circuit Breaker 타임아웃은 취소로 전달됨)
+         */
+        public void cancel() {
+            if (release()) {
+                long elapsedNanos = System.nanoTime() - startNanos;
+                if (elapsedNanos > slowCallNanos) {
+                    record(instance, elapsedNanos, true);
+                }
+            }
+        }
+
+        private boolean release() {
+            if (released.compareAndSet(false, true)) {
+                instance.finished();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static boolean isInstanceFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
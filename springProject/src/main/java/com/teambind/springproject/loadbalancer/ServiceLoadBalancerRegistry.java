@@ -0,0 +1,144 @@
+package com.teambind.springproject.loadbalancer;
+
+import com.teambind.springproject.config.properties.LoadBalancerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 다운스트림 서비스별 인스턴스 목록과 로드 밸런서
+ * - 서비스 이름은 게이트웨이 라우트 ID (WebClient와 lb:// 라우트가 같은 인스턴스 상태를 공유)
+ * - 인스턴스 목록이 없는 서비스는 기존처럼 service.{키}.url/port 단일 주소 사용
+ * - gateway.load-balancer.enabled=false면 목록의 첫 번째 인스턴스만 사용
+ * - 메트릭 (service, instance 태그): gateway.lb.inflight, gateway.lb.ejected (gauge), gateway.lb.ejections (counter)
+ */
+@Component
+public class ServiceLoadBalancerRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceLoadBalancerRegistry.class);
+
+    private final Map<String, ServiceLoadBalancer> balancers = new ConcurrentHashMap<>();
+
+    public ServiceLoadBalancerRegistry(LoadBalancerProperties properties, MeterRegistry meterRegistry) {
+        properties.getServices().forEach((service, config) -> {
+            List<DownstreamInstance> instances = parseInstances(service, config.getInstances());
+            if (instances.isEmpty()) {
+                return;
+            }
+            // 비활성화 시에도 lb:// 라우트가 동작하도록 첫 번째 인스턴스로만 호출
+            if (!properties.isEnabled()) {
+                instances = instances.subList(0, 1);
+            }
+            balancers.put(service, create(service, instances, properties.getEjection(), meterRegistry));
+            log.info("Load balancing {} across {}", service, instances);
+        });
+    }
+
+    /**
+     * @return 인스턴스 목록이 없으면 null
+     */
+    public ServiceLoadBalancer balancer(String service) {
+        return balancers.get(service);
+    }
+
+    public boolean isBalanced(String service) {
+        return balancers.containsKey(service);
+    }
+
+    /**
+     * WebClient용 필터. 요청마다 인스턴스를 골라 http://{서비스}/... 주소를 인스턴스 주소로 바꿔 보냄
+     */
+    public ExchangeFilterFunction filter(String service) {
+        ServiceLoadBalancer balancer = balancers.get(service);
+        if (balancer == null) {
+            return (request, next) -> next.exchange(request);
+        }
+        return (request, next) -> Mono.defer(() -> {
+            ServiceLoadBalancer.Call call = balancer.choose();
+            ClientRequest routed = ClientRequest.from(request)
+                    .url(call.uri(request.url()))
+                    .build();
+            return next.exchange(routed)
+                    .doOnSuccess(response -> {
+                        if (response != null) {
+                            call.complete(response.statusCode().value());
+                        } else {
+                            call.cancel();
+                        }
+                    })
+                    .doOnError(call::fail)
+                    .doOnCancel(call::cancel);
+        });
+    }
+
+    private static ServiceLoadBalancer create(
+            String service,
+            List<DownstreamInstance> instances,
+            LoadBalancerProperties.Ejection ejection,
+            MeterRegistry meterRegistry
+    ) {
+        Map<DownstreamInstance, Counter> ejections = new ConcurrentHashMap<>();
+        for (DownstreamInstance instance : instances) {
+            String address = instance.toString();
+            Gauge.builder("gateway.lb.inflight", instance, DownstreamInstance::getInflight)
+                    .description("인스턴스별 처리 중 요청 수")
+                    .tag("service", service)
+                    .tag("instance", address)
+                    .strongReference(true)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.lb.ejected", instance, i -> i.isEjected() ? 1 : 0)
+                    .description("제외된 인스턴스면 1")
+                    .tag("service", service)
+                    .tag("instance", address)
+                    .strongReference(true)
+                    .register(meterRegistry);
+            ejections.put(instance, Counter.builder("gateway.lb.ejections")
+                    .description("연속 실패로 인스턴스를 제외한 횟수")
+                    .tag("service", service)
+                    .tag("instance", address)
+                    .register(meterRegistry));
+        }
+        return new ServiceLoadBalancer(service, instances, ejection, instance -> {
+            ejections.get(instance).increment();
+            log.warn("[{}] Ejected instance {} after {} consecutive failures",
+                    service, instance, ejection.getConsecutiveFailures());
+        });
+    }
+
+    /**
+     * "host:port" 목록 파싱 (http:// 접두어 허용, 포트 생략 시 80)
+     * @throws IllegalArgumentException 포트가 숫자가 아닌 경우
+     */
+    static List<DownstreamInstance> parseInstances(String service, List<String> addresses) {
+        List<DownstreamInstance> instances = new ArrayList<>();
+        for (String raw : addresses) {
+            String address = raw.trim().replaceFirst("(?i)^https?://", "");
+            if (address.endsWith("/")) {
+                address = address.substring(0, address.length() - 1);
+            }
+            if (address.isEmpty()) {
+                continue;
+            }
+            int colon = address.lastIndexOf(':');
+            try {
+                instances.add(colon < 0
+                        ? new DownstreamInstance(address, 80)
+                        : new DownstreamInstance(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1))));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid instance address for " + service + ": " + raw, e);
+            }
+        }
+        return instances;
+    }
+}
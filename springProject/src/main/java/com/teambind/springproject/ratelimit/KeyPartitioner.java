@@ -0,0 +1,64 @@
+package com.teambind.springproject.ratelimit;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Rate Limit Redis 키 이름 규칙
+ * - 단일 Redis: rate_limit:[gcra:]<key>
+ * - Redis Cluster: rate_limit:[gcra:]{rl<n>}:<key>, n은 키 해시로 정한 파티션
+ * - 파티션 태그는 슬롯이 16384개 슬롯 공간에 고르게 놓이도록 미리 골라 둠 (슬롯 구간을 나눠 가진 샤드에 고르게 분산)
+ */
+final class KeyPartitioner {
+
+    private static final String PREFIX = "rate_limit:";
+    private static final String GCRA_PREFIX = "rate_limit:gcra:";
+
+    // 비활성화 시 null
+    private final String[] hashTags;
+
+    KeyPartitioner(RateLimitProperties.Cluster cluster) {
+        this.hashTags = cluster.isEnabled() ? hashTags(Math.max(1, Math.min(SlotHash.SLOT_COUNT, cluster.getPartitions()))) : null;
+    }
+
+    boolean isPartitioned() {
+        return hashTags != null;
+    }
+
+    /**
+     * @return 파티션 번호 (비활성화 시 항상 0)
+     */
+    int partition(String key) {
+        if (hashTags == null) {
+            return 0;
+        }
+        // 비슷한 키(연속된 IP, ID)도 고르게 흩어지도록 hashCode를 섞은 뒤 상위 비트 사용
+        long mixed = key.hashCode() * 0x9E3779B97F4A7C15L;
+        return (int) ((mixed >>> 32) * hashTags.length >>> 32);
+    }
+
+    /**
+     * 알고리즘마다 저장 형식(해시/문자열)이 다르므로 키 공간 분리
+     */
+    String redisKey(String key, RateLimitProperties.Policy policy) {
+        String prefix = policy.getAlgorithm() == RateLimitProperties.Algorithm.GCRA ? GCRA_PREFIX : PREFIX;
+        return hashTags == null ? prefix + key : prefix + hashTags[partition(key)] + ":" + key;
+    }
+
+    /**
+     * 파티션 i의 태그는 슬롯이 [i * 16384 / n, (i + 1) * 16384 / n) 구간에 들어가는 첫 "{rl<m>}"
+     */
+    private static String[] hashTags(int partitions) {
+        String[] tags = new String[partitions];
+        int filled = 0;
+        for (int candidate = 0; filled < partitions; candidate++) {
+            String tag = "rl" + candidate;
+            int partition = (int) ((long) SlotHash.getSlot(tag) * partitions / SlotHash.SLOT_COUNT);
+            if (tags[partition] == null) {
+                tags[partition] = "{" + tag + "}";
+                filled++;
+            }
+        }
+        return tags;
+    }
+}
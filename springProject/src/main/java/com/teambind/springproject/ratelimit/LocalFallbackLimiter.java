@@ -0,0 +1,122 @@
+package com.teambind.springproject.ratelimit;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis를 쓸 수 없을 때 노드 메모리에서 판정하는 Token Bucket
+ * - 전역 한도를 예상 노드 수로 나눈 만큼만 허용 (burst, refill rate 모두)
+ * - 여러 한도는 순서대로 차감하고, 하나라도 부족하면 앞서 차감한 토큰을 되돌림
+ * - 가득 찬 버킷은 새로 만든 것과 같으므로 evictIdle에서 제거
+ */
+final class LocalFallbackLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final int expectedNodes;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    LocalFallbackLimiter(int expectedNodes) {
+        this.expectedNodes = Math.max(1, expectedNodes);
+    }
+
+    RateLimitResult tryAcquire(List<Quota> quotas, long nowNanos) {
+        long remaining = Long.MAX_VALUE;
+        Quota limitedBy = quotas.get(0);
+        Bucket[] taken = new Bucket[quotas.size()];
+        for (int i = 0; i < quotas.size(); i++) {
+            Quota quota = quotas.get(i);
+            Bucket bucket = bucket(quota, nowNanos);
+            long left = bucket.tryTake(nowNanos);
+            if (left < 0) {
+                for (int j = 0; j < i; j++) {
+                    taken[j].giveBack();
+                }
+                return RateLimitResult.denied(bucket.secondsUntilAvailable(nowNanos)).limitedBy(quota);
+            }
+            taken[i] = bucket;
+            if (left < remaining) {
+                remaining = left;
+                limitedBy = quota;
+            }
+        }
+        return RateLimitResult.allowed(remaining, 0).limitedBy(limitedBy);
+    }
+
+    /**
+     * 다시 가득 찬 버킷 제거
+     * @return 제거한 버킷 수
+     */
+    int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isFull(nowNanos));
+        return before - buckets.size();
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private Bucket bucket(Quota quota, long nowNanos) {
+        Bucket bucket = buckets.get(quota.key());
+        if (bucket == null || bucket.policy != quota.policy()) {
+            // 정책이 바뀌었으면 새 한도로 다시 시작
+            Bucket created = new Bucket(quota.policy(), expectedNodes, nowNanos);
+            bucket = bucket == null
+                    ? buckets.computeIfAbsent(quota.key(), key -> created)
+                    : buckets.compute(quota.key(), (key, existing) ->
+                            existing != null && existing.policy == quota.policy() ? existing : created);
+        }
+        return bucket;
+    }
+
+    private static final class Bucket {
+        private final RateLimitProperties.Policy policy;
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(RateLimitProperties.Policy policy, int nodes, long nowNanos) {
+            this.policy = policy;
+            this.capacity = Math.max(1.0, (double) policy.getBurstCapacity() / nodes);
+            this.tokensPerNano = policy.getRefillRate() / nodes / NANOS_PER_SECOND;
+            this.tokens = capacity;
+            this.lastRefill = nowNanos;
+        }
+
+        private synchronized long tryTake(long nowNanos) {
+            refill(nowNanos);
+            if (tokens < 1) {
+                return -1;
+            }
+            tokens -= 1;
+            return (long) tokens;
+        }
+
+        private synchronized void giveBack() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        private synchronized long secondsUntilAvailable(long nowNanos) {
+            refill(nowNanos);
+            return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano / NANOS_PER_SECOND));
+        }
+
+        private synchronized boolean isFull(long nowNanos) {
+            refill(nowNanos);
+            return tokens >= capacity;
+        }
+
+        private void refill(long nowNanos) {
+            long elapsed = nowNanos - lastRefill;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                lastRefill = nowNanos;
+            }
+        }
+    }
+}
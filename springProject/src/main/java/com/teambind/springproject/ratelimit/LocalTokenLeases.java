@@ -0,0 +1,141 @@
+package com.teambind.springproject.ratelimit;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis에서 임대한 토큰을 노드 메모리에서 나눠 주는 버킷
+ * - 키 해시 기준 스트라이프마다 별도 락을 두어 서로 다른 키 간 경합 최소화
+ * - 최근 요청이 없던 키(COLD)는 1개씩만 받아 기존과 동일하게 정확히 판정
+ * - 임대 유효 시간 안에 다시 요청된 키(HOT)만 maxOvershoot만큼 묶어서 임대
+ * - 만료되거나 상한을 넘은 토큰은 반환 목록으로 돌려주고, Redis 반환은 호출자가 처리
+ * - 같은 키라도 정책이 다르면 임대를 공유하지 않음 (정책이 바뀌면 이전 임대는 반환)
+ */
+final class LocalTokenLeases {
+
+    /** 로컬 임대가 없거나 만료됨 - 1개만 요청 */
+    static final long COLD = -1;
+    /** 유효한 임대가 있으나 소진됨 - 묶음 요청 */
+    static final long HOT = -2;
+
+    private static final int STRIPES = 64;
+
+    record Refund(String key, int tokens, RateLimitProperties.Policy policy) {
+    }
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    LocalTokenLeases() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 로컬 토큰 1개 사용. 성공 시 전역 잔여 토큰 추정치(0 이상), 실패 시 COLD 또는 HOT
+     */
+    long tryTake(String key, RateLimitProperties.Policy policy, long nowMillis) {
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            Lease lease = stripe.leases.get(key);
+            if (lease == null || lease.expiresAt <= nowMillis || lease.policy != policy) {
+                return COLD;
+            }
+            if (lease.remaining == 0) {
+                return HOT;
+            }
+            lease.remaining--;
+            return Math.max(0, lease.redisRemaining + lease.remaining);
+        }
+    }
+
+    /**
+     * Redis에서 받은 토큰 중 요청 처리에 쓰고 남은 tokens개를 보관
+     * - 토큰이 0개여도 키를 최근 요청된 것으로 기록
+     * @return Redis로 되돌려야 할 토큰 수 (상한 초과분 + 만료된 이전 임대 잔량)
+     */
+    int deposit(String key, RateLimitProperties.Policy policy, int tokens, long redisRemaining, long nowMillis) {
+        Stripe stripe = stripe(key);
+        synchronized (stripe) {
+            int refund = 0;
+            Lease lease = stripe.leases.get(key);
+            if (lease == null || lease.expiresAt <= nowMillis || lease.policy != policy) {
+                if (lease != null) {
+                    refund += lease.remaining;
+                }
+                lease = new Lease(policy);
+                stripe.leases.put(key, lease);
+            }
+            int kept = Math.max(0, Math.min(tokens, policy.getMaxOvershoot() - lease.remaining));
+            lease.remaining += kept;
+            lease.redisRemaining = redisRemaining;
+            lease.expiresAt = nowMillis + policy.getLeaseDuration().toMillis();
+            return refund + tokens - kept;
+        }
+    }
+
+    /**
+     * 만료된 임대 제거 후 남은 토큰 반환 목록
+     */
+    List<Refund> drainExpired(long nowMillis) {
+        List<Refund> refunds = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Map.Entry<String, Lease>> iterator = stripe.leases.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<String, Lease> entry = iterator.next();
+                    Lease lease = entry.getValue();
+                    if (lease.expiresAt <= nowMillis) {
+                        iterator.remove();
+                        if (lease.remaining > 0) {
+                            refunds.add(new Refund(entry.getKey(), lease.remaining, lease.policy));
+                        }
+                    }
+                }
+            }
+        }
+        return refunds;
+    }
+
+    /**
+     * 종료 시 모든 임대 반환
+     */
+    List<Refund> drainAll() {
+        return drainExpired(Long.MAX_VALUE);
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.leases.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripe(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe {
+        private final Map<String, Lease> leases = new HashMap<>();
+    }
+
+    private static final class Lease {
+        private final RateLimitProperties.Policy policy;
+        private int remaining;
+        private long redisRemaining;
+        private long expiresAt;
+
+        private Lease(RateLimitProperties.Policy policy) {
+            this.policy = policy;
+        }
+    }
+}
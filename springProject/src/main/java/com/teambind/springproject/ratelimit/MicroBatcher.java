@@ -0,0 +1,136 @@
+package com.teambind.springproject.ratelimit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간 창 안에 들어온 요청을 모아 한 번에 실행하고 결과를 각 요청자에게 나눠 주는 배처
+ * - window가 지나거나 maxBatchSize개가 모이면 즉시 실행
+ * - executor는 입력과 같은 순서·같은 개수의 결과를 반환해야 함
+ * - 배치 실행이 실패하면 배치 안의 모든 요청이 같은 에러로 종료
+ */
+final class MicroBatcher<I, O> {
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Function<List<I>, Mono<List<O>>> executor;
+    private final Scheduler scheduler;
+    private final DistributionSummary batchSize;
+    private final Timer queueDelay;
+
+    private final Object lock = new Object();
+    private List<Pending<I, O>> current;
+    private long generation;
+    private Disposable flushTimer;
+
+    MicroBatcher(
+            Duration window,
+            int maxBatchSize,
+            Function<List<I>, Mono<List<O>>> executor,
+            Scheduler scheduler,
+            MeterRegistry meterRegistry,
+            String metricPrefix
+    ) {
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.current = new ArrayList<>(this.maxBatchSize);
+        this.batchSize = DistributionSummary.builder(metricPrefix + ".batch.size")
+                .description("한 번에 실행된 요청 수")
+                .register(meterRegistry);
+        this.queueDelay = Timer.builder(metricPrefix + ".batch.queue.delay")
+                .description("배치 실행까지 대기한 시간")
+                .register(meterRegistry);
+    }
+
+    Mono<O> submit(I item) {
+        return Mono.create(sink -> enqueue(new Pending<>(item, sink, System.nanoTime())));
+    }
+
+    private void enqueue(Pending<I, O> pending) {
+        List<Pending<I, O>> ready = null;
+        synchronized (lock) {
+            current.add(pending);
+            if (current.size() >= maxBatchSize) {
+                ready = takeCurrent();
+            } else if (current.size() == 1) {
+                long scheduled = generation;
+                flushTimer = scheduler.schedule(() -> flush(scheduled), windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+    }
+
+    private void flush(long scheduledGeneration) {
+        List<Pending<I, O>> ready;
+        synchronized (lock) {
+            // 그 사이 크기 초과로 이미 실행된 배치면 무시
+            if (scheduledGeneration != generation || current.isEmpty()) {
+                return;
+            }
+            ready = takeCurrent();
+        }
+        dispatch(ready);
+    }
+
+    private List<Pending<I, O>> takeCurrent() {
+        List<Pending<I, O>> ready = current;
+        current = new ArrayList<>(maxBatchSize);
+        generation++;
+        if (flushTimer != null) {
+            flushTimer.dispose();
+            flushTimer = null;
+        }
+        return ready;
+    }
+
+    private void dispatch(List<Pending<I, O>> batch) {
+        long now = System.nanoTime();
+        List<I> items = new ArrayList<>(batch.size());
+        for (Pending<I, O> pending : batch) {
+            items.add(pending.item);
+            queueDelay.record(now - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(batch.size());
+
+        Mono<List<O>> execution;
+        try {
+            execution = executor.apply(items);
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.sink.error(e));
+            return;
+        }
+
+        execution.defaultIfEmpty(List.of()).subscribe(
+                results -> {
+                    if (results.size() != batch.size()) {
+                        IllegalStateException mismatch = new IllegalStateException(
+                                "Batch returned " + results.size() + " results for " + batch.size() + " requests");
+                        batch.forEach(pending -> pending.sink.error(mismatch));
+                        return;
+                    }
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).sink.success(results.get(i));
+                    }
+                },
+                error -> batch.forEach(pending -> pending.sink.error(error))
+        );
+    }
+
+    private record Pending<I, O>(I item, MonoSink<O> sink, long enqueuedAt) {
+    }
+}
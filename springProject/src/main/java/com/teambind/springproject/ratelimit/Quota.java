@@ -0,0 +1,17 @@
+package com.teambind.springproject.ratelimit;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+
+/**
+ * 요청 하나에 적용되는 한도 하나
+ * - dimension: 키 종류 (user, ip, place, route, global). 응답 헤더(X-RateLimit-Scope)와 메트릭 key_type 태그로 사용
+ * - key: 정책 안에서 버킷을 구분하는 키 (user:1, place:7 등)
+ * - policyName: 메트릭 policy 태그 (요청마다 만들지 않고 설정 키/라우트 ID를 그대로 사용)
+ */
+public record Quota(
+        String dimension,
+        String key,
+        String policyName,
+        RateLimitProperties.Policy policy
+) {
+}
@@ -0,0 +1,151 @@
+package com.teambind.springproject.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * Rate Limiter 메트릭 (/actuator/metrics)
+ * - gateway.ratelimit.redis.script: Lua 호출 지연 (histogram, outcome=success|error)
+ * - gateway.ratelimit.decisions: 판정 결과 (policy, key_type, result=allowed|denied)
+ *   허용 시 요청의 모든 한도에, 거부 시 거부한 한도에만 기록
+ * - gateway.ratelimit.fail.open: Redis 오류로 판정 없이 허용한 요청 (reason=timeout|error)
+ * - gateway.ratelimit.active.keys: 노드 메모리에 상태를 가진 키 수 (store=lease|fallback)
+ * - 카운터는 (policy, key_type)별로 처음 한 번만 만들어 두고 이후에는 맵 조회만 수행
+ */
+final class RateLimitMetrics {
+
+    private static final String DECISIONS = "gateway.ratelimit.decisions";
+
+    private final MeterRegistry registry;
+    private final Timer scriptSuccess;
+    private final Timer scriptError;
+    private final Counter failOpenTimeout;
+    private final Counter failOpenError;
+    private final Counter switchedToLocal;
+    private final Counter switchedToRedis;
+    private final Counter fallbackAllowed;
+    private final Counter fallbackDenied;
+    // policy -> key_type -> [allowed, denied]
+    private final Map<String, Map<String, Counter[]>> decisions = new ConcurrentHashMap<>();
+
+    RateLimitMetrics(
+            MeterRegistry registry,
+            BooleanSupplier fallbackActive,
+            IntSupplier leasedKeys,
+            IntSupplier fallbackKeys
+    ) {
+        this.registry = registry;
+        this.scriptSuccess = scriptTimer(registry, "success");
+        this.scriptError = scriptTimer(registry, "error");
+        this.failOpenTimeout = failOpenCounter(registry, "timeout");
+        this.failOpenError = failOpenCounter(registry, "error");
+        this.switchedToLocal = modeSwitchCounter(registry, "local");
+        this.switchedToRedis = modeSwitchCounter(registry, "redis");
+        this.fallbackAllowed = fallbackDecisionCounter(registry, "allowed");
+        this.fallbackDenied = fallbackDecisionCounter(registry, "denied");
+
+        Gauge.builder("gateway.ratelimit.fallback.active", fallbackActive, active -> active.getAsBoolean() ? 1 : 0)
+                .description("로컬 대체 판정 중이면 1")
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("gateway.ratelimit.active.keys", leasedKeys, IntSupplier::getAsInt)
+                .description("노드 메모리에 상태를 가진 키 수")
+                .tag("store", "lease")
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("gateway.ratelimit.active.keys", fallbackKeys, IntSupplier::getAsInt)
+                .description("노드 메모리에 상태를 가진 키 수")
+                .tag("store", "fallback")
+                .strongReference(true)
+                .register(registry);
+    }
+
+    void recordScript(long nanos, boolean success) {
+        (success ? scriptSuccess : scriptError).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordDecision(List<Quota> quotas, RateLimitResult result) {
+        if (result.allowed()) {
+            for (int i = 0, n = quotas.size(); i < n; i++) {
+                decisionCounters(quotas.get(i))[0].increment();
+            }
+        } else if (result.limitedBy() != null) {
+            decisionCounters(result.limitedBy())[1].increment();
+        }
+    }
+
+    void recordFailOpen(Throwable error) {
+        (error instanceof TimeoutException ? failOpenTimeout : failOpenError).increment();
+    }
+
+    void recordFallbackDecision(RateLimitResult result) {
+        (result.allowed() ? fallbackAllowed : fallbackDenied).increment();
+    }
+
+    void recordModeSwitch(boolean toLocal) {
+        (toLocal ? switchedToLocal : switchedToRedis).increment();
+    }
+
+    private Counter[] decisionCounters(Quota quota) {
+        Map<String, Counter[]> byKeyType = decisions.get(quota.policyName());
+        if (byKeyType == null) {
+            byKeyType = decisions.computeIfAbsent(quota.policyName(), name -> new ConcurrentHashMap<>());
+        }
+        Counter[] counters = byKeyType.get(quota.dimension());
+        if (counters == null) {
+            counters = byKeyType.computeIfAbsent(quota.dimension(), keyType -> new Counter[]{
+                    decisionCounter(quota.policyName(), keyType, "allowed"),
+                    decisionCounter(quota.policyName(), keyType, "denied")
+            });
+        }
+        return counters;
+    }
+
+    private Counter decisionCounter(String policy, String keyType, String result) {
+        return Counter.builder(DECISIONS)
+                .description("Rate Limit 판정 결과")
+                .tag("policy", policy)
+                .tag("key_type", keyType)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Timer scriptTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("gateway.ratelimit.redis.script")
+                .description("Rate Limit Lua 스크립트 호출 지연")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Counter failOpenCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("gateway.ratelimit.fail.open")
+                .description("Redis 오류로 판정 없이 허용한 요청")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static Counter modeSwitchCounter(MeterRegistry registry, String mode) {
+        return Counter.builder("gateway.ratelimit.mode.switches")
+                .description("Redis/로컬 판정 모드 전환 횟수")
+                .tag("mode", mode)
+                .register(registry);
+    }
+
+    private static Counter fallbackDecisionCounter(MeterRegistry registry, String result) {
+        return Counter.builder("gateway.ratelimit.fallback.decisions")
+                .description("로컬 대체 판정 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,94 @@
+package com.teambind.springproject.ratelimit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import com.teambind.springproject.routing.RouteClassifier;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 해시(gateway.rate-limit.reload.redis-key)의 Rate Limit 정책을 주기적으로 읽어 RouteClassifier에 반영
+ * - 내용이 바뀐 경우에만 재컴파일
+ * - 파싱할 수 없는 값은 경고 후 무시, Redis 오류 시 기존 정책 유지
+ */
+@Component
+public class RateLimitPolicyLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitPolicyLoader.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RouteClassifier routeClassifier;
+    private final ObjectMapper objectMapper;
+    private final String redisKey;
+    private final Disposable poller;
+
+    // 마지막으로 반영한 해시 내용
+    private volatile Map<String, String> applied = Map.of();
+
+    public RateLimitPolicyLoader(
+            RateLimitProperties rateLimitProperties,
+            ReactiveStringRedisTemplate redisTemplate,
+            RouteClassifier routeClassifier,
+            ObjectMapper objectMapper
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.routeClassifier = routeClassifier;
+        this.objectMapper = objectMapper;
+
+        RateLimitProperties.Reload reload = rateLimitProperties.getReload();
+        this.redisKey = reload.getRedisKey();
+        if (reload.isEnabled()) {
+            long intervalMillis = reload.getInterval().toMillis();
+            this.poller = Schedulers.parallel()
+                    .schedulePeriodically(this::poll, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.poller = null;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (poller != null) {
+            poller.dispose();
+        }
+    }
+
+    private void poll() {
+        redisTemplate.<String, String>opsForHash()
+                .entries(redisKey)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .subscribe(
+                        this::apply,
+                        e -> log.warn("Failed to load rate limit policies from Redis, keeping current rules: {}",
+                                e.getMessage())
+                );
+    }
+
+    private void apply(Map<String, String> entries) {
+        if (entries.equals(applied)) {
+            return;
+        }
+
+        Map<String, RateLimitProperties.Policy> policies = new LinkedHashMap<>();
+        entries.forEach((key, json) -> {
+            try {
+                policies.put(key, objectMapper.readValue(json, RateLimitProperties.Policy.class));
+            } catch (JsonProcessingException e) {
+                log.warn("Ignoring unparsable rate limit policy '{}': {}", key, e.getOriginalMessage());
+            }
+        });
+        routeClassifier.updateDynamicPolicies(policies);
+        applied = entries;
+        log.info("Applied {} dynamic rate limit policies from Redis key {}", policies.size(), redisKey);
+    }
+}
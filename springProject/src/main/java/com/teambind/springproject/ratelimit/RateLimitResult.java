@@ -1,15 +1,25 @@
 package com.teambind.springproject.ratelimit;
 
+/**
+ * Rate Limit 판정 결과
+ * - limitedBy: 가장 제한적인 한도 (허용 시 남은 토큰이 가장 적은 한도, 거부 시 가장 오래 기다려야 하는 한도)
+ * - Redis 오류로 판정하지 못한 경우 limitedBy는 null
+ */
 public record RateLimitResult(
         boolean allowed,
         long remainingTokens,
-        long resetAfterSeconds
+        long resetAfterSeconds,
+        Quota limitedBy
 ) {
     public static RateLimitResult allowed(long remaining, long resetAfter) {
-        return new RateLimitResult(true, remaining, resetAfter);
+        return new RateLimitResult(true, remaining, resetAfter, null);
     }
 
     public static RateLimitResult denied(long resetAfter) {
-        return new RateLimitResult(false, 0, resetAfter);
+        return new RateLimitResult(false, 0, resetAfter, null);
+    }
+
+    public RateLimitResult limitedBy(Quota quota) {
+        return new RateLimitResult(allowed, remainingTokens, resetAfterSeconds, quota);
     }
 }
@@ -0,0 +1,36 @@
+package com.teambind.springproject.ratelimit;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate Limit 판정 모드 (/actuator/health의 rateLimiter)
+ * - Redis 판정 중이면 UP, 로컬 대체 판정 중이면 DEGRADED
+ * - DEGRADED는 전체 상태를 DOWN으로 만들지 않음 (요청은 계속 처리되므로 노드를 트래픽에서 빼지 않음)
+ */
+@Component
+public class RateLimiterHealthIndicator implements HealthIndicator {
+
+    static final Status DEGRADED = new Status("DEGRADED", "Redis unavailable, using per-node local limits");
+
+    private final RateLimiterService rateLimiterService;
+
+    public RateLimiterHealthIndicator(RateLimiterService rateLimiterService) {
+        this.rateLimiterService = rateLimiterService;
+    }
+
+    @Override
+    public Health health() {
+        boolean local = rateLimiterService.isUsingLocalFallback();
+        Health.Builder builder = local ? Health.status(DEGRADED) : Health.up();
+        builder.withDetail("mode", local ? "local" : "redis")
+                .withDetail("since", rateLimiterService.getModeChangedAt().toString());
+        String lastError = rateLimiterService.getLastRedisError();
+        if (lastError != null) {
+            builder.withDetail("lastRedisError", lastError);
+        }
+        return builder.build();
+    }
+}
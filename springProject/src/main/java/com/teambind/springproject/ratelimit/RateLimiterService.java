@@ -1,105 +1,647 @@
 package com.teambind.springproject.ratelimit;
 
 import com.teambind.springproject.config.properties.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class    RateLimiterService {
 
     private static final Logger log = LoggerFactory.getLogger(RateLimiterService.class);
 
+    // 만료된 임대 토큰 반환 주기
+    private static final Duration LEASE_SWEEP_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration SHUTDOWN_REFUND_TIMEOUT = Duration.ofSeconds(2);
+    // 요청 하나당 스크립트 결과 개수
+    private static final int RESULTS_PER_REQUEST = 5;
+
     private final ReactiveStringRedisTemplate redisTemplate;
     private final RedisScript<List<Long>> rateLimitScript;
+    private final RedisScript<Long> refundScript;
+    private final RedisScript<Long> gcraRefundScript;
+    private final KeyPartitioner keyPartitioner;
+    private final LocalTokenLeases leases = new LocalTokenLeases();
+    private final Disposable leaseSweeper;
+    // 배칭 비활성화 시 null
+    private final MicroBatcher<Evaluation, List<Long>> batcher;
+
+    // Redis 장애 시 로컬 대체 판정 (비활성화 시 null)
+    private final LocalFallbackLimiter fallbackLimiter;
+    private final Duration redisTimeout;
+    private final long retryIntervalNanos;
+    private final AtomicLong nextRedisAttempt = new AtomicLong();
+    private final RateLimitMetrics metrics;
+    private volatile boolean degraded;
+    private volatile Instant modeChangedAt = Instant.now();
+    private volatile String lastRedisError;
 
-    public RateLimiterService(ReactiveStringRedisTemplate redisTemplate) {
+    public RateLimiterService(
+            ReactiveStringRedisTemplate redisTemplate,
+            RateLimitProperties rateLimitProperties,
+            MeterRegistry meterRegistry
+    ) {
         this.redisTemplate = redisTemplate;
         this.rateLimitScript = createRateLimitScript();
+        this.refundScript = createRefundScript();
+        this.gcraRefundScript = createGcraRefundScript();
+        this.keyPartitioner = new KeyPartitioner(rateLimitProperties.getCluster());
+
+        RateLimitProperties.Batch batch = rateLimitProperties.getBatch();
+        this.batcher = batch.isEnabled() && batch.getMaxSize() > 1
+                ? new MicroBatcher<>(batch.getWindow(), batch.getMaxSize(), this::evaluateBatch,
+                        Schedulers.parallel(), meterRegistry, "gateway.ratelimit.redis")
+                : null;
+
+        RateLimitProperties.Fallback fallback = rateLimitProperties.getFallback();
+        this.fallbackLimiter = fallback.isEnabled() ? new LocalFallbackLimiter(fallback.getExpectedNodes()) : null;
+        this.redisTimeout = fallback.getTimeout();
+        this.retryIntervalNanos = fallback.getRetryInterval().toNanos();
+        this.metrics = new RateLimitMetrics(
+                meterRegistry,
+                () -> degraded,
+                leases::size,
+                () -> fallbackLimiter != null ? fallbackLimiter.size() : 0
+        );
+
+        long sweepMillis = LEASE_SWEEP_INTERVAL.toMillis();
+        this.leaseSweeper = Schedulers.parallel()
+                .schedulePeriodically(this::sweep, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * Token Bucket 알고리즘 기반 Rate Limiting
-     * Redis Lua 스크립트로 원자적 연산 보장
+     * Redis 장애로 로컬 대체 판정 중인지 (헬스 체크용)
      */
-    public Mono<RateLimitResult> isAllowed(String key, RateLimitProperties.Policy policy) {
-        String redisKey = "rate_limit:" + key;
-        long now = System.currentTimeMillis();
-        int burst = policy.getBurstCapacity();
-        double refillRate = policy.getRefillRate();
-        long windowSeconds = policy.getDuration().toSeconds();
-
-        return redisTemplate.execute(
-                        rateLimitScript,
-                        List.of(redisKey),
-                        String.valueOf(now),
-                        String.valueOf(burst),
-                        String.valueOf(refillRate),
-                        String.valueOf(windowSeconds * 2) // TTL
-                )
-                .single()
+    public boolean isUsingLocalFallback() {
+        return degraded;
+    }
+
+    public Instant getModeChangedAt() {
+        return modeChangedAt;
+    }
+
+    public String getLastRedisError() {
+        return lastRedisError;
+    }
+
+    /**
+     * 요청에 적용되는 모든 한도(quotas)를 한 번의 Redis Lua 호출로 원자적으로 판정
+     * - 모든 한도가 허용할 때만 전부 차감하고, 하나라도 거부하면 아무것도 차감하지 않음
+     * - 한도마다 Token Bucket 또는 GCRA 알고리즘 선택 가능 (정책별)
+     * - 한도가 하나이고 maxOvershoot > 0이면 자주 요청되는 키에 한해 토큰을 묶어서 임대하고 노드 메모리에서 소비
+     * - Redis가 제한 시간 안에 응답하지 않거나 실패하면 노드 로컬 Token Bucket으로 판정
+     */
+    public Mono<RateLimitResult> isAllowed(List<Quota> quotas) {
+        int requested = 1;
+        if (isLeased(quotas)) {
+            Quota quota = quotas.get(0);
+            RateLimitProperties.Policy policy = quota.policy();
+            long local = leases.tryTake(quota.key(), policy, System.currentTimeMillis());
+            if (local >= 0) {
+                RateLimitResult result = RateLimitResult.allowed(local, 0).limitedBy(quota);
+                metrics.recordDecision(quotas, result);
+                return Mono.just(result);
+            }
+            if (local == LocalTokenLeases.HOT) {
+                requested = policy.getMaxOvershoot() + 1;
+            }
+        }
+        if (skipRedis()) {
+            return Mono.just(decideLocally(quotas));
+        }
+        return acquire(quotas, requested);
+    }
+
+    /**
+     * Redis에서 모든 한도를 판정해 최대 requested개를 가져오고, 1개는 이번 요청에 쓰고 나머지는 로컬 임대로 보관
+     */
+    private Mono<RateLimitResult> acquire(List<Quota> quotas, int requested) {
+        Evaluation evaluation = new Evaluation(quotas, System.currentTimeMillis(), requested);
+        Mono<List<Long>> evaluated = batcher != null
+                ? batcher.submit(evaluation)
+                : evaluateBatch(List.of(evaluation)).map(results -> results.get(0));
+
+        return evaluated
+                .timeout(redisTimeout)
                 .map(result -> {
+                    markRedisHealthy();
                     long allowed = result.get(0);
                     long remaining = result.get(1);
                     long resetAfter = result.get(2);
+                    long granted = result.get(3);
+                    Quota limitedBy = quotas.get(result.get(4).intValue() - 1);
 
                     if (allowed == 1) {
-                        return RateLimitResult.allowed(remaining, resetAfter);
+                        if (isLeased(quotas)) {
+                            int leased = (int) granted - 1;
+                            int excess = leases.deposit(
+                                    limitedBy.key(), limitedBy.policy(), leased, remaining, System.currentTimeMillis());
+                            if (excess > 0) {
+                                refund(limitedBy.key(), excess, limitedBy.policy()).subscribe();
+                            }
+                            remaining += leased - excess;
+                        }
+                        RateLimitResult decision = RateLimitResult.allowed(remaining, resetAfter).limitedBy(limitedBy);
+                        metrics.recordDecision(quotas, decision);
+                        return decision;
                     } else {
-                        log.warn("Rate limit exceeded for key: {}", key);
-                        return RateLimitResult.denied(resetAfter);
+                        // 거부 건수는 gateway.ratelimit.decisions 메트릭으로 확인
+                        log.debug("Rate limit exceeded for key: {} ({})", limitedBy.key(), limitedBy.dimension());
+                        RateLimitResult decision = RateLimitResult.denied(resetAfter).limitedBy(limitedBy);
+                        metrics.recordDecision(quotas, decision);
+                        return decision;
                     }
                 })
                 .onErrorResume(e -> {
-                    log.error("Rate limiter error, allowing request: {}", e.getMessage());
-                    return Mono.just(RateLimitResult.allowed(-1, -1));
+                    if (fallbackLimiter == null) {
+                        log.error("Rate limiter error, allowing request: {}", e.getMessage());
+                        metrics.recordFailOpen(e);
+                        return Mono.just(RateLimitResult.allowed(-1, -1));
+                    }
+                    markRedisFailed(e);
+                    return Mono.just(decideLocally(quotas));
+                });
+    }
+
+    /**
+     * 로컬 대체 판정 중이고 재시도 시각 전이면 true
+     * - 재시도 시각이 지나면 CAS에 성공한 요청 하나만 Redis로 보내 복구 여부 확인
+     */
+    private boolean skipRedis() {
+        if (!degraded || fallbackLimiter == null) {
+            return false;
+        }
+        long retryAt = nextRedisAttempt.get();
+        long now = System.nanoTime();
+        return now - retryAt < 0 || !nextRedisAttempt.compareAndSet(retryAt, now + retryIntervalNanos);
+    }
+
+    private RateLimitResult decideLocally(List<Quota> quotas) {
+        RateLimitResult result = fallbackLimiter.tryAcquire(quotas, System.nanoTime());
+        metrics.recordFallbackDecision(result);
+        metrics.recordDecision(quotas, result);
+        return result;
+    }
+
+    private void markRedisFailed(Throwable e) {
+        lastRedisError = e instanceof TimeoutException
+                ? "Redis did not respond within " + redisTimeout.toMillis() + "ms"
+                : e.getClass().getSimpleName() + ": " + e.getMessage();
+        nextRedisAttempt.set(System.nanoTime() + retryIntervalNanos);
+        if (!degraded) {
+            synchronized (this) {
+                if (!degraded) {
+                    degraded = true;
+                    modeChangedAt = Instant.now();
+                    metrics.recordModeSwitch(true);
+                    log.warn("Rate limiter switched to local fallback: {}", lastRedisError);
+                }
+            }
+        }
+    }
+
+    private void markRedisHealthy() {
+        if (degraded) {
+            synchronized (this) {
+                if (degraded) {
+                    degraded = false;
+                    modeChangedAt = Instant.now();
+                    metrics.recordModeSwitch(false);
+                    log.info("Rate limiter switched back to Redis");
+                }
+            }
+        }
+    }
+
+    /**
+     * 여러 한도가 함께 적용되는 요청은 임대 없이 매번 Redis에서 전부 판정
+     */
+    private static boolean isLeased(List<Quota> quotas) {
+        return quotas.size() == 1 && quotas.get(0).policy().getMaxOvershoot() > 0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        leaseSweeper.dispose();
+        // 종료 전 보유 중인 임대 토큰 반환 (best effort)
+        List<LocalTokenLeases.Refund> refunds = leases.drainAll();
+        if (!refunds.isEmpty()) {
+            Flux.fromIterable(refunds)
+                    .flatMap(refund -> refund(refund.key(), refund.tokens(), refund.policy()))
+                    .blockLast(SHUTDOWN_REFUND_TIMEOUT);
+        }
+    }
+
+    /**
+     * 여러 요청을 한 번의 Lua 호출로 평가 (같은 키가 여러 번 있어도 순서대로 반영)
+     * - Redis Cluster에서는 파티션(해시 태그)별로 나눠 평가
+     */
+    private Mono<List<List<Long>>> evaluateBatch(List<Evaluation> evaluations) {
+        return keyPartitioner.isPartitioned()
+                ? evaluatePartitioned(evaluations)
+                : evaluateScript(evaluations);
+    }
+
+    /**
+     * 파티션마다 Lua 호출 한 번 (Lettuce가 슬롯을 가진 샤드로 보내고, 같은 샤드로 가는 호출은 한 연결에서 파이프라이닝)
+     * - 한도가 여러 파티션에 걸친 요청은 파티션별로 판정한 뒤 합침
+     * - 합친 결과가 거부이면 허용된 파티션의 차감분을 되돌림 (되돌리기 전까지 다른 요청에는 잠시 차감된 상태로 보임)
+     */
+    private Mono<List<List<Long>>> evaluatePartitioned(List<Evaluation> evaluations) {
+        Map<Integer, List<Evaluation>> groups = new HashMap<>();
+        List<List<Part>> plans = new ArrayList<>(evaluations.size());
+        for (Evaluation evaluation : evaluations) {
+            List<Part> parts = split(evaluation);
+            for (Part part : parts) {
+                List<Evaluation> group = groups.computeIfAbsent(part.partition, partition -> new ArrayList<>());
+                part.position = group.size();
+                group.add(part.evaluation);
+            }
+            plans.add(parts);
+        }
+
+        return Flux.fromIterable(groups.entrySet())
+                .flatMap(group -> evaluateScript(group.getValue()).map(results -> Map.entry(group.getKey(), results)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(resultsByPartition -> {
+                    List<List<Long>> results = new ArrayList<>(plans.size());
+                    for (List<Part> parts : plans) {
+                        results.add(merge(parts, resultsByPartition));
+                    }
+                    return results;
                 });
     }
 
+    private List<Part> split(Evaluation evaluation) {
+        List<Quota> quotas = evaluation.quotas();
+        int first = keyPartitioner.partition(quotas.get(0).key());
+        boolean single = true;
+        for (int i = 1; i < quotas.size() && single; i++) {
+            single = keyPartitioner.partition(quotas.get(i).key()) == first;
+        }
+        if (single) {
+            return List.of(new Part(first, evaluation, null));
+        }
+
+        Map<Integer, List<Integer>> indexesByPartition = new LinkedHashMap<>();
+        for (int i = 0; i < quotas.size(); i++) {
+            indexesByPartition
+                    .computeIfAbsent(keyPartitioner.partition(quotas.get(i).key()), partition -> new ArrayList<>())
+                    .add(i);
+        }
+        List<Part> parts = new ArrayList<>(indexesByPartition.size());
+        indexesByPartition.forEach((partition, indexes) -> {
+            List<Quota> subset = new ArrayList<>(indexes.size());
+            int[] quotaIndexes = new int[indexes.size()];
+            for (int i = 0; i < indexes.size(); i++) {
+                subset.add(quotas.get(indexes.get(i)));
+                quotaIndexes[i] = indexes.get(i);
+            }
+            parts.add(new Part(partition, new Evaluation(subset, evaluation.now(), evaluation.requested()), quotaIndexes));
+        });
+        return parts;
+    }
+
+    /**
+     * 파티션별 결과를 하나로 합침 (결과 형식은 Lua 스크립트와 같고 limiting은 원래 요청의 한도 순번)
+     */
+    private List<Long> merge(List<Part> parts, Map<Integer, List<List<Long>>> resultsByPartition) {
+        if (parts.size() == 1) {
+            return parts.get(0).result(resultsByPartition);
+        }
+
+        boolean allowed = true;
+        long granted = Long.MAX_VALUE;
+        for (Part part : parts) {
+            List<Long> result = part.result(resultsByPartition);
+            allowed &= result.get(0) == 1;
+            granted = Math.min(granted, result.get(3));
+        }
+
+        long remaining = Long.MAX_VALUE;
+        long resetAfter = 0;
+        long limiting = 1;
+        for (Part part : parts) {
+            List<Long> result = part.result(resultsByPartition);
+            if (allowed) {
+                refundPart(part, result.get(3) - granted);
+                if (result.get(1) < remaining) {
+                    remaining = result.get(1);
+                    resetAfter = result.get(2);
+                    limiting = part.limiting(result);
+                }
+            } else if (result.get(0) == 1) {
+                refundPart(part, result.get(3));
+            } else if (result.get(2) >= resetAfter) {
+                resetAfter = result.get(2);
+                limiting = part.limiting(result);
+            }
+        }
+        return allowed
+                ? List.of(1L, remaining, resetAfter, granted, limiting)
+                : List.of(0L, 0L, resetAfter, 0L, limiting);
+    }
+
+    private void refundPart(Part part, long tokens) {
+        if (tokens <= 0) {
+            return;
+        }
+        for (Quota quota : part.evaluation.quotas()) {
+            refund(quota.key(), (int) tokens, quota.policy()).subscribe();
+        }
+    }
+
+    private Mono<List<List<Long>>> evaluateScript(List<Evaluation> evaluations) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        for (Evaluation evaluation : evaluations) {
+            args.add(String.valueOf(evaluation.quotas().size()));
+            args.add(String.valueOf(evaluation.requested()));
+            args.add(String.valueOf(evaluation.now()));
+            for (Quota quota : evaluation.quotas()) {
+                RateLimitProperties.Policy policy = quota.policy();
+                keys.add(keyPartitioner.redisKey(quota.key(), policy));
+                args.add(policy.getAlgorithm() == RateLimitProperties.Algorithm.GCRA ? "gcra" : "bucket");
+                args.add(String.valueOf(policy.getBurstCapacity()));
+                args.add(String.valueOf(policy.getRefillRate()));
+                args.add(String.valueOf(policy.getDuration().toSeconds() * 2)); // TTL
+            }
+        }
+
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return redisTemplate.execute(rateLimitScript, keys, args)
+                            .single()
+                            .doOnSuccess(flat -> metrics.recordScript(System.nanoTime() - start, true))
+                            .doOnError(e -> metrics.recordScript(System.nanoTime() - start, false));
+                })
+                .map(flat -> {
+                    List<List<Long>> results = new ArrayList<>(evaluations.size());
+                    for (int i = 0; i + RESULTS_PER_REQUEST <= flat.size(); i += RESULTS_PER_REQUEST) {
+                        results.add(flat.subList(i, i + RESULTS_PER_REQUEST));
+                    }
+                    return results;
+                });
+    }
+
+    private void sweep() {
+        refundExpiredLeases();
+        if (fallbackLimiter != null) {
+            fallbackLimiter.evictIdle(System.nanoTime());
+        }
+    }
+
+    private void refundExpiredLeases() {
+        for (LocalTokenLeases.Refund refund : leases.drainExpired(System.currentTimeMillis())) {
+            refund(refund.key(), refund.tokens(), refund.policy()).subscribe();
+        }
+    }
+
+    /**
+     * 임대 토큰 반환 (Token Bucket은 토큰 추가, GCRA는 TAT를 앞당김)
+     */
+    Mono<Void> refund(String key, int tokens, RateLimitProperties.Policy policy) {
+        Flux<Long> refunded = policy.getAlgorithm() == RateLimitProperties.Algorithm.GCRA
+                ? redisTemplate.execute(
+                        gcraRefundScript,
+                        List.of(keyPartitioner.redisKey(key, policy)),
+                        String.valueOf(tokens),
+                        String.valueOf(policy.getRefillRate())
+                )
+                : redisTemplate.execute(
+                        refundScript,
+                        List.of(keyPartitioner.redisKey(key, policy)),
+                        String.valueOf(tokens),
+                        String.valueOf(policy.getBurstCapacity())
+                );
+        return refunded
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("Failed to return {} leased tokens for key: {}: {}", tokens, key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 요청마다 ARGV 3개(count, requested, now)와 한도 count개의 KEYS/ARGV 4개(algorithm, burst, refill_rate, ttl)를 받아
+     * 결과 5개(allowed, remaining, reset_after, granted, limiting)를 이어 붙여 반환
+     * - 모든 한도를 먼저 읽고, 전부 허용할 때만 차감 (거부 시 아무것도 쓰지 않음)
+     * - limiting: 가장 제한적인 한도의 1부터 시작하는 순번
+     * - bucket: 키마다 (tokens, last_update) 해시, 게이트웨이 시각(now, ms) 기준
+     * - gcra: 키마다 이론적 도착 시각(TAT, us) 값 하나, Redis TIME 기준. TAT가 지나면 키 자동 만료
+     * - TAT는 %.0f로 저장 (tostring은 큰 수를 지수 표기로 바꿈)
+     */
     private RedisScript<List<Long>> createRateLimitScript() {
+        String script = """
+                local time = redis.call('TIME')
+                local server_now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+                local results = {}
+                local k = 0
+                local a = 0
+
+                while a < #ARGV do
+                    local count = tonumber(ARGV[a + 1])
+                    local requested = tonumber(ARGV[a + 2])
+                    local now = tonumber(ARGV[a + 3])
+                    a = a + 3
+
+                    local states = {}
+                    local granted = requested
+
+                    for d = 1, count do
+                        local s = {
+                            key = KEYS[k + d],
+                            gcra = ARGV[a + 1] == 'gcra',
+                            burst = tonumber(ARGV[a + 2]),
+                            refill_rate = tonumber(ARGV[a + 3]),
+                            ttl = tonumber(ARGV[a + 4])
+                        }
+                        a = a + 4
+
+                        if s.gcra then
+                            s.interval = 1000000 / s.refill_rate
+                            s.capacity = s.burst * s.interval
+                            local tat = tonumber(redis.call('GET', s.key))
+                            if tat == nil or tat < server_now then
+                                tat = server_now
+                            end
+                            s.tat = tat
+                            s.available = math.floor((server_now + s.capacity - tat) / s.interval)
+                        else
+                            local data = redis.call('HMGET', s.key, 'tokens', 'last_update')
+                            local tokens = tonumber(data[1])
+                            local last_update = tonumber(data[2])
+                            if tokens == nil then
+                                tokens = s.burst
+                                last_update = now
+                            end
+                            local elapsed = math.max(0, now - last_update) / 1000.0
+                            s.tokens = math.min(s.burst, tokens + elapsed * s.refill_rate)
+                            s.last_update = math.max(now, last_update)
+                            s.available = math.floor(s.tokens)
+                        end
+
+                        granted = math.min(granted, s.available)
+                        states[d] = s
+                    end
+                    k = k + count
+
+                    local allowed = 0
+                    local remaining = 0
+                    local reset_after = 0
+                    local limiting = 1
+
+                    if granted >= 1 then
+                        allowed = 1
+                        remaining = nil
+                        for d, s in ipairs(states) do
+                            local left
+                            if s.gcra then
+                                s.tat = s.tat + granted * s.interval
+                                redis.call('SET', s.key, string.format('%.0f', s.tat),
+                                        'PX', math.ceil((s.tat - server_now) / 1000))
+                                left = math.floor((server_now + s.capacity - s.tat) / s.interval)
+                            else
+                                s.tokens = s.tokens - granted
+                                redis.call('HSET', s.key, 'tokens', s.tokens, 'last_update', s.last_update)
+                                redis.call('EXPIRE', s.key, s.ttl)
+                                left = math.floor(s.tokens)
+                            end
+                            if remaining == nil or left < remaining then
+                                remaining = left
+                                limiting = d
+                            end
+                        end
+                    else
+                        granted = 0
+                        for d, s in ipairs(states) do
+                            if s.available < 1 then
+                                local wait
+                                if s.gcra then
+                                    wait = math.ceil((s.tat + s.interval - s.capacity - server_now) / 1000000)
+                                else
+                                    wait = math.ceil((1 - s.tokens) / s.refill_rate)
+                                end
+                                if wait > reset_after then
+                                    reset_after = wait
+                                    limiting = d
+                                end
+                            end
+                        end
+                    end
+
+                    results[#results + 1] = allowed
+                    results[#results + 1] = math.max(0, remaining)
+                    results[#results + 1] = reset_after
+                    results[#results + 1] = granted
+                    results[#results + 1] = limiting
+                end
+
+                return results
+                """;
+
+        return RedisScript.of(script, (Class<List<Long>>) (Class<?>) List.class);
+    }
+
+    /**
+     * 사용하지 않은 임대 토큰 반환 (burst 초과분은 버림, 키가 만료됐으면 무시)
+     */
+    private RedisScript<Long> createRefundScript() {
         String script = """
                 local key = KEYS[1]
-                local now = tonumber(ARGV[1])
+                local refund = tonumber(ARGV[1])
                 local burst = tonumber(ARGV[2])
-                local refill_rate = tonumber(ARGV[3])
-                local ttl = tonumber(ARGV[4])
-
-                local data = redis.call('HMGET', key, 'tokens', 'last_update')
-                local tokens = tonumber(data[1])
-                local last_update = tonumber(data[2])
 
+                local tokens = tonumber(redis.call('HGET', key, 'tokens'))
                 if tokens == nil then
-                    tokens = burst
-                    last_update = now
+                    return 0
                 end
 
-                local elapsed = (now - last_update) / 1000.0
-                local refill = elapsed * refill_rate
-                tokens = math.min(burst, tokens + refill)
+                redis.call('HSET', key, 'tokens', math.min(burst, tokens + refund))
+                return 1
+                """;
+
+        return RedisScript.of(script, Long.class);
+    }
+
+    /**
+     * GCRA 임대 토큰 반환: TAT를 토큰 수만큼 앞당김 (현재 시각 이전이면 키 삭제, 키가 없으면 무시)
+     */
+    private RedisScript<Long> createGcraRefundScript() {
+        String script = """
+                local key = KEYS[1]
+                local refund = tonumber(ARGV[1])
+                local interval = 1000000 / tonumber(ARGV[2])
 
-                local allowed = 0
-                local remaining = tokens
-                local reset_after = 0
+                local tat = tonumber(redis.call('GET', key))
+                if tat == nil then
+                    return 0
+                end
 
-                if tokens >= 1 then
-                    tokens = tokens - 1
-                    remaining = tokens
-                    allowed = 1
+                local time = redis.call('TIME')
+                local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+                tat = tat - refund * interval
+                if tat <= now then
+                    redis.call('DEL', key)
                 else
-                    reset_after = math.ceil((1 - tokens) / refill_rate)
+                    redis.call('SET', key, string.format('%.0f', tat), 'PX', math.ceil((tat - now) / 1000))
                 end
+                return 1
+                """;
 
-                redis.call('HMSET', key, 'tokens', tokens, 'last_update', now)
-                redis.call('EXPIRE', key, ttl)
+        return RedisScript.of(script, Long.class);
+    }
 
-                return {allowed, math.floor(remaining), reset_after}
-                """;
+    private record Evaluation(
+            List<Quota> quotas,
+            long now,
+            int requested
+    ) {
+    }
 
-        return RedisScript.of(script, (Class<List<Long>>) (Class<?>) List.class);
+    /**
+     * 한 파티션에서 판정할 요청의 일부
+     * - quotaIndexes: 원래 요청에서의 한도 순번 (요청 전체면 null)
+     * - position: 파티션 배치 안에서의 순번
+     */
+    private static final class Part {
+        private final int partition;
+        private final Evaluation evaluation;
+        private final int[] quotaIndexes;
+        private int position;
+
+        private Part(int partition, Evaluation evaluation, int[] quotaIndexes) {
+            this.partition = partition;
+            this.evaluation = evaluation;
+            this.quotaIndexes = quotaIndexes;
+        }
+
+        private List<Long> result(Map<Integer, List<List<Long>>> resultsByPartition) {
+            return resultsByPartition.get(partition).get(position);
+        }
+
+        private long limiting(List<Long> result) {
+            int index = result.get(4).intValue() - 1;
+            return (quotaIndexes == null ? index : quotaIndexes[index]) + 1;
+        }
     }
 }
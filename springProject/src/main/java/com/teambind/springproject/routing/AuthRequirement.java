@@ -0,0 +1,13 @@
+package com.teambind.springproject.routing;
+
+/**
+ * 경로별 인증 요구 수준
+ */
+public enum AuthRequirement {
+    /** 헬스체크, Swagger 등 - 인증/앱 타입 검증 없음 */
+    PUBLIC,
+    /** 로그인 등 - X-App-Type만 검증하고 JWT는 불필요 */
+    APP_TYPE_ONLY,
+    /** 그 외 모든 경로 - JWT 필수 */
+    AUTHENTICATED
+}
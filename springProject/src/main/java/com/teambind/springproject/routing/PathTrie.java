@@ -0,0 +1,133 @@
+package com.teambind.springproject.routing;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 경로 규칙을 문자 단위 트라이로 컴파일한 조회 테이블
+ * - prefix 규칙: 해당 문자열로 시작하는 모든 경로 (기존 startsWith 의미 유지)
+ * - exact 규칙: 경로 전체가 일치할 때만 적용
+ * - 규칙은 항목(auth / rate limit / route)별로 가장 긴 일치가 우선하고, 같은 길이면 exact가 우선
+ * - 상위 규칙을 빌드 시점에 하위 노드로 내려 합쳐 두므로 조회는 문자 순회 한 번, 할당 없음
+ */
+final class PathTrie {
+
+    /**
+     * 빌드 단계에서만 쓰는 규칙. null 항목은 상위 규칙을 그대로 따름
+     */
+    static final class Rule {
+        AuthRequirement auth;
+        String rateLimitPolicyName;
+        String routeId;
+
+        private Rule overlay(Rule deeper) {
+            if (deeper == null) {
+                return this;
+            }
+            Rule merged = new Rule();
+            merged.auth = deeper.auth != null ? deeper.auth : auth;
+            merged.rateLimitPolicyName = deeper.rateLimitPolicyName != null ? deeper.rateLimitPolicyName : rateLimitPolicyName;
+            merged.routeId = deeper.routeId != null ? deeper.routeId : routeId;
+            return merged;
+        }
+    }
+
+    static final class Builder {
+        private final Map<String, Rule> prefixRules = new TreeMap<>();
+        private final Map<String, Rule> exactRules = new TreeMap<>();
+
+        Rule prefix(String prefix) {
+            return prefixRules.computeIfAbsent(prefix, key -> new Rule());
+        }
+
+        Rule exact(String path) {
+            return exactRules.computeIfAbsent(path, key -> new Rule());
+        }
+
+        /**
+         * @param defaults 어떤 규칙에도 걸리지 않을 때의 값 (모든 항목이 채워져 있어야 함)
+         * @param compiler 합쳐진 규칙을 분류 결과로 변환
+         */
+        PathTrie build(Rule defaults, Function<Rule, RouteClassification> compiler) {
+            MutableNode root = new MutableNode();
+            prefixRules.forEach((path, rule) -> root.descend(path).prefixRule = rule);
+            exactRules.forEach((path, rule) -> root.descend(path).exactRule = rule);
+            return new PathTrie(root.compile(defaults, compiler, true));
+        }
+    }
+
+    private final Node root;
+
+    private PathTrie(Node root) {
+        this.root = root;
+    }
+
+    RouteClassification match(String path) {
+        Node node = root;
+        RouteClassification best = root.prefixResult;
+        for (int i = 0, n = path.length(); i < n; i++) {
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return best;
+            }
+            if (node.prefixResult != null) {
+                best = node.prefixResult;
+            }
+        }
+        return node.exactResult != null ? node.exactResult : best;
+    }
+
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final char[] labels;
+        private final Node[] children;
+        private final RouteClassification prefixResult;
+        private final RouteClassification exactResult;
+
+        private Node(char[] labels, Node[] children, RouteClassification prefixResult, RouteClassification exactResult) {
+            this.labels = labels.length == 0 ? NO_LABELS : labels;
+            this.children = children.length == 0 ? NO_CHILDREN : children;
+            this.prefixResult = prefixResult;
+            this.exactResult = exactResult;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index >= 0 ? children[index] : null;
+        }
+    }
+
+    private static final class MutableNode {
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private Rule prefixRule;
+        private Rule exactRule;
+
+        private MutableNode descend(String path) {
+            MutableNode node = this;
+            for (int i = 0; i < path.length(); i++) {
+                node = node.children.computeIfAbsent(path.charAt(i), c -> new MutableNode());
+            }
+            return node;
+        }
+
+        private Node compile(Rule inherited, Function<Rule, RouteClassification> compiler, boolean root) {
+            Rule effective = inherited.overlay(prefixRule);
+            RouteClassification prefixResult = root || prefixRule != null ? compiler.apply(effective) : null;
+            RouteClassification exactResult = exactRule != null ? compiler.apply(effective.overlay(exactRule)) : null;
+
+            char[] labels = new char[children.size()];
+            Node[] compiled = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode> entry : children.entrySet()) {
+                labels[i] = entry.getKey();
+                compiled[i] = entry.getValue().compile(effective, compiler, false);
+                i++;
+            }
+            return new Node(labels, compiled, prefixResult, exactResult);
+        }
+    }
+}
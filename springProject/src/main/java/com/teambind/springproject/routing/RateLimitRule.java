@@ -0,0 +1,125 @@
+package com.teambind.springproject.routing;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * 경로 트라이로 표현할 수 없는 Rate Limit 규칙 (메서드 지정 또는 중간 와일드카드)
+ * - 키 형식: "[METHOD ]경로", 예) "GET /api/v1/places/**", "/api/v1/places/{placeId}/rooms"
+ * - 와일드카드가 없으면 기존과 같이 prefix로 일치, 있으면 게이트웨이 Path 조건과 같은 PathPattern으로 일치
+ * - specificity: 와일드카드/변수를 뺀 문자 수. 클수록 우선하고, 같으면 메서드 지정 규칙이 우선
+ */
+final class RateLimitRule {
+
+    static final Comparator<RateLimitRule> PRECEDENCE = Comparator
+            .comparingInt((RateLimitRule rule) -> rule.specificity).reversed()
+            .thenComparing(rule -> rule.method == null);
+
+    private static final String ANY_DESCENDANT = "/**";
+
+    final String name;
+    final HttpMethod method;
+    final String literalPrefix;
+    final PathPattern pattern;
+    final int specificity;
+    final RateLimitProperties.Policy policy;
+
+    private RateLimitRule(
+            String name,
+            HttpMethod method,
+            String literalPrefix,
+            PathPattern pattern,
+            int specificity,
+            RateLimitProperties.Policy policy
+    ) {
+        this.name = name;
+        this.method = method;
+        this.literalPrefix = literalPrefix;
+        this.pattern = pattern;
+        this.specificity = specificity;
+        this.policy = policy;
+    }
+
+    /**
+     * @throws IllegalArgumentException 메서드나 경로 패턴이 올바르지 않은 경우
+     */
+    static RateLimitRule parse(String key, RateLimitProperties.Policy policy) {
+        String trimmed = key.trim();
+        HttpMethod method = null;
+        String path = trimmed;
+        int space = trimmed.indexOf(' ');
+        if (space > 0) {
+            method = HttpMethod.valueOf(trimmed.substring(0, space).toUpperCase(Locale.ROOT));
+            path = trimmed.substring(space + 1).trim();
+        }
+        if (!path.startsWith("/")) {
+            throw new IllegalArgumentException("Rate limit path must start with '/': " + key);
+        }
+
+        int wildcard = firstWildcard(path);
+        PathPattern pattern = wildcard < 0 ? null : PathPatternParser.defaultInstance.parse(path);
+        String literalPrefix = wildcard < 0 ? path : path.substring(0, wildcard);
+        // "/x/**"는 "/x"에도 일치
+        if (wildcard > 0 && path.startsWith("**", wildcard) && literalPrefix.endsWith("/")) {
+            literalPrefix = literalPrefix.substring(0, literalPrefix.length() - 1);
+        }
+        return new RateLimitRule(key, method, literalPrefix, pattern, specificity(path), policy);
+    }
+
+    /**
+     * 메서드 조건이 없고 prefix 또는 "/x/**" 형태라 경로 트라이로 처리할 수 있는 키인지
+     */
+    static boolean isPlainPath(String key) {
+        if (key.indexOf(' ') >= 0) {
+            return false;
+        }
+        int wildcard = firstWildcard(key);
+        return wildcard < 0 || (key.endsWith(ANY_DESCENDANT) && wildcard == key.length() - 2);
+    }
+
+    /**
+     * 경로 트라이 규칙 이름(설정 키)의 specificity
+     */
+    static int specificity(String path) {
+        int count = 0;
+        boolean variable = false;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '{') {
+                variable = true;
+            } else if (c == '}') {
+                variable = false;
+            } else if (!variable && c != '*' && c != '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 메서드와 literal prefix만 확인 (PathPattern 검사 전 빠른 거절)
+     */
+    boolean accepts(HttpMethod requestMethod, String path) {
+        return (method == null || method.equals(requestMethod)) && path.startsWith(literalPrefix);
+    }
+
+    boolean matches(PathContainer path) {
+        return pattern == null || pattern.matches(path);
+    }
+
+    private static int firstWildcard(String path) {
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
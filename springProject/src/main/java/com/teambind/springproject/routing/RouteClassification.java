@@ -0,0 +1,24 @@
+package com.teambind.springproject.routing;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+
+/**
+ * 요청 경로 분류 결과 (경로 규칙별로 기동 시 미리 만들어 두고 공유하는 불변 객체)
+ * - rateLimitPolicy가 null이면 Rate Limit 제외 경로
+ * - routeId가 null이면 게이트웨이 라우트에 해당하지 않는 경로 (게이트웨이 자체 API 등)
+ */
+public record RouteClassification(
+        AuthRequirement auth,
+        String rateLimitPolicyName,
+        RateLimitProperties.Policy rateLimitPolicy,
+        String routeId
+) {
+    /**
+     * exchange attribute 키
+     */
+    public static final String ATTRIBUTE = RouteClassification.class.getName();
+
+    public boolean isRateLimited() {
+        return rateLimitPolicy != null;
+    }
+}
@@ -0,0 +1,261 @@
+package com.teambind.springproject.routing;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import com.teambind.springproject.config.properties.RoutingProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 요청 경로를 한 번만 분류하여 모든 WebFilter가 공유
+ * - 인증 요구 수준 (gateway.routing), Rate Limit 정책 (gateway.rate-limit), 라우트 ID (게이트웨이 라우트 Path 조건)
+ * - 기동 시 하나의 경로 트라이로 컴파일하고, 결과는 exchange attribute에 저장
+ * - 겹치는 규칙은 가장 긴 경로가 우선 (설정 순서와 무관하게 결정적)
+ * - Rate Limit 정책은 "[METHOD ]Ant 패턴" 키 지원 (메서드 지정/중간 와일드카드 규칙은 RateLimitRule로 따로 검사)
+ * - 설정 갱신(config server refresh)이나 Redis 동적 정책 변경 시 새 스냅샷을 만들어 통째로 교체 (조회는 락 없음)
+ */
+@Component
+public class RouteClassifier {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteClassifier.class);
+
+    public static final String DEFAULT_POLICY = "default";
+    public static final String EXCLUDED_POLICY = "excluded";
+
+    private static final String PATH_PREDICATE = "Path";
+    private static final String ANY_DESCENDANT = "/**";
+
+    private final RoutingProperties routingProperties;
+    private final RateLimitProperties rateLimitProperties;
+    private final GatewayProperties gatewayProperties;
+
+    // Redis 등 외부에서 받은 동적 Rate Limit 정책 (같은 키는 설정보다 우선)
+    private Map<String, RateLimitProperties.Policy> dynamicEndpoints = Map.of();
+    private volatile Snapshot snapshot;
+
+    public RouteClassifier(
+            RoutingProperties routingProperties,
+            RateLimitProperties rateLimitProperties,
+            GatewayProperties gatewayProperties
+    ) {
+        this.routingProperties = routingProperties;
+        this.rateLimitProperties = rateLimitProperties;
+        this.gatewayProperties = gatewayProperties;
+        this.snapshot = compile(rateLimitProperties.getEndpoints());
+    }
+
+    /**
+     * exchange에 저장된 분류 결과 반환 (없으면 분류 후 저장)
+     */
+    public RouteClassification resolve(ServerWebExchange exchange) {
+        RouteClassification classification = exchange.getAttribute(RouteClassification.ATTRIBUTE);
+        if (classification == null) {
+            ServerHttpRequest request = exchange.getRequest();
+            PathContainer path = request.getPath().pathWithinApplication();
+            classification = snapshot.classify(request.getMethod(), path.value(), path);
+            exchange.getAttributes().put(RouteClassification.ATTRIBUTE, classification);
+        }
+        return classification;
+    }
+
+    /**
+     * 메서드 무관 분류 (메서드 지정 Rate Limit 규칙은 적용되지 않음)
+     */
+    public RouteClassification classify(String path) {
+        return classify(null, path);
+    }
+
+    public RouteClassification classify(HttpMethod method, String path) {
+        return snapshot.classify(method, path, null);
+    }
+
+    /**
+     * 동적 Rate Limit 정책 교체 후 재컴파일. 잘못된 키는 경고 후 무시
+     */
+    public synchronized void updateDynamicPolicies(Map<String, RateLimitProperties.Policy> policies) {
+        Map<String, RateLimitProperties.Policy> valid = new LinkedHashMap<>();
+        policies.forEach((key, policy) -> {
+            try {
+                RateLimitRule.parse(key, policy);
+                valid.put(key, policy);
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring invalid dynamic rate limit policy '{}': {}", key, e.getMessage());
+            }
+        });
+        dynamicEndpoints = Map.copyOf(valid);
+        reload();
+    }
+
+    /**
+     * 현재 설정 + 동적 정책으로 새 스냅샷을 만들어 교체 (config server refresh 시 자동 호출)
+     */
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public synchronized void reload() {
+        Map<String, RateLimitProperties.Policy> endpoints = new LinkedHashMap<>(rateLimitProperties.getEndpoints());
+        endpoints.putAll(dynamicEndpoints);
+        try {
+            snapshot = compile(endpoints);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 설정이면 기존 스냅샷 유지
+            log.error("Failed to reload route classifier, keeping previous rules: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot compile(Map<String, RateLimitProperties.Policy> endpoints) {
+        PathTrie.Builder builder = new PathTrie.Builder();
+
+        // 같은 경로가 겹치면 기존 필터의 검사 순서대로 PUBLIC이 우선
+        routingProperties.getAppTypeOnlyPaths()
+                .forEach(path -> addConfiguredPath(builder, path, rule -> rule.auth = AuthRequirement.APP_TYPE_ONLY));
+        routingProperties.getPublicPaths()
+                .forEach(path -> addConfiguredPath(builder, path, rule -> rule.auth = AuthRequirement.PUBLIC));
+
+        // 메서드 무관 prefix 규칙은 트라이로, 나머지는 우선순위 순으로 정렬한 규칙 목록으로
+        List<RateLimitRule> rules = new ArrayList<>();
+        Map<String, Integer> specificity = new HashMap<>();
+        endpoints.forEach((key, policy) -> {
+            if (RateLimitRule.isPlainPath(key)) {
+                addConfiguredPath(builder, key, rule -> rule.rateLimitPolicyName = key);
+                specificity.put(key, RateLimitRule.specificity(key));
+            } else {
+                rules.add(RateLimitRule.parse(key, policy));
+            }
+        });
+        rules.sort(RateLimitRule.PRECEDENCE);
+        rateLimitProperties.getExcludedPaths()
+                .forEach(path -> addConfiguredPath(builder, path, rule -> rule.rateLimitPolicyName = EXCLUDED_POLICY));
+
+        int routePatterns = 0;
+        for (RouteDefinition route : gatewayProperties.getRoutes()) {
+            for (PredicateDefinition predicate : route.getPredicates()) {
+                if (!PATH_PREDICATE.equals(predicate.getName())) {
+                    continue;
+                }
+                for (String pattern : predicate.getArgs().values()) {
+                    // 같은 경로를 가진 라우트가 여럿이면 게이트웨이와 같이 먼저 정의된 라우트 우선
+                    addRoutePattern(builder, pattern.trim(), rule -> {
+                        if (rule.routeId == null) {
+                            rule.routeId = route.getId();
+                        }
+                    });
+                    routePatterns++;
+                }
+            }
+        }
+
+        PathTrie.Rule defaults = new PathTrie.Rule();
+        defaults.auth = AuthRequirement.AUTHENTICATED;
+        defaults.rateLimitPolicyName = DEFAULT_POLICY;
+
+        RateLimitProperties.Policy defaultPolicy = rateLimitProperties.getDefaultPolicy();
+        PathTrie compiled = builder.build(defaults, rule -> new RouteClassification(
+                rule.auth,
+                rule.rateLimitPolicyName,
+                EXCLUDED_POLICY.equals(rule.rateLimitPolicyName) ? null
+                        : DEFAULT_POLICY.equals(rule.rateLimitPolicyName) ? defaultPolicy
+                        : endpoints.get(rule.rateLimitPolicyName),
+                rule.routeId
+        ));
+        log.info("Compiled route classifier: {} public, {} app-type-only, {} rate limit ({} method/pattern), {} route path rules",
+                routingProperties.getPublicPaths().size(),
+                routingProperties.getAppTypeOnlyPaths().size(),
+                endpoints.size() + rateLimitProperties.getExcludedPaths().size(),
+                rules.size(),
+                routePatterns);
+        return new Snapshot(compiled, rules.toArray(new RateLimitRule[0]), specificity);
+    }
+
+    /**
+     * 한 번 만든 뒤 바뀌지 않는 분류 테이블
+     * - 트라이 결과보다 specificity가 크거나 같은 메서드/패턴 규칙이 일치하면 Rate Limit 정책만 교체
+     * - 제외 경로는 패턴 규칙보다 항상 우선
+     */
+    private record Snapshot(PathTrie trie, RateLimitRule[] rules, Map<String, Integer> specificity) {
+
+        RouteClassification classify(HttpMethod method, String path, PathContainer container) {
+            RouteClassification base = trie.match(path);
+            if (rules.length == 0 || !base.isRateLimited()) {
+                return base;
+            }
+
+            int baseSpecificity = specificity.getOrDefault(base.rateLimitPolicyName(), 0);
+            for (RateLimitRule rule : rules) {
+                if (rule.specificity < baseSpecificity) {
+                    break;
+                }
+                if (!rule.accepts(method, path)) {
+                    continue;
+                }
+                if (rule.pattern != null && container == null) {
+                    container = PathContainer.parsePath(path);
+                }
+                if (rule.matches(container)) {
+                    return new RouteClassification(base.auth(), rule.name, rule.policy, base.routeId());
+                }
+            }
+            return base;
+        }
+    }
+
+    /**
+     * 설정 경로: "/x/**"는 "/x"와 하위 경로, 그 외에는 문자열 prefix
+     */
+    private static void addConfiguredPath(PathTrie.Builder builder, String path, Consumer<PathTrie.Rule> action) {
+        if (path.endsWith(ANY_DESCENDANT)) {
+            String base = path.substring(0, path.length() - ANY_DESCENDANT.length());
+            action.accept(builder.exact(base));
+            action.accept(builder.prefix(base + "/"));
+        } else {
+            action.accept(builder.prefix(path));
+        }
+    }
+
+    /**
+     * 게이트웨이 Path 패턴: "/x/**"는 "/x"와 하위 경로, 와일드카드가 없으면 정확히 일치(끝 '/' 허용)
+     * - 중간 와일드카드/변수는 그 앞까지의 prefix로 근사 (실제 라우팅은 게이트웨이 조건이 결정)
+     */
+    private static void addRoutePattern(PathTrie.Builder builder, String pattern, Consumer<PathTrie.Rule> action) {
+        if (pattern.endsWith(ANY_DESCENDANT) && isLiteral(pattern, pattern.length() - ANY_DESCENDANT.length())) {
+            addConfiguredPath(builder, pattern, action);
+            return;
+        }
+        int wildcard = firstWildcard(pattern);
+        if (wildcard < 0) {
+            action.accept(builder.exact(pattern));
+            action.accept(builder.exact(pattern + "/"));
+        } else {
+            action.accept(builder.prefix(pattern.substring(0, wildcard)));
+        }
+    }
+
+    private static boolean isLiteral(String pattern, int end) {
+        int wildcard = firstWildcard(pattern);
+        return wildcard < 0 || wildcard >= end;
+    }
+
+    private static int firstWildcard(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
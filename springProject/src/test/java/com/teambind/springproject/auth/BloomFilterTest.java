@@ -0,0 +1,47 @@
+package com.teambind.springproject.auth;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+	@Test
+	void insertedValuesAreAlwaysReported() {
+		BloomFilter filter = BloomFilter.create(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put('j', "jti-" + i);
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.mightContain('j', "jti-" + i)).isTrue();
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTarget() {
+		BloomFilter filter = BloomFilter.create(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put('j', "revoked-" + i);
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 100_000; i++) {
+			if (filter.mightContain('j', "active-" + i)) {
+				falsePositives++;
+			}
+		}
+
+		assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+		assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+	}
+
+	@Test
+	void kindSeparatesJtiAndDeviceEntries() {
+		BloomFilter filter = BloomFilter.create(1_000, 0.001);
+		filter.put('d', "device-1");
+
+		assertThat(filter.mightContain('d', "device-1")).isTrue();
+		assertThat(filter.mightContain('j', "device-1")).isFalse();
+	}
+}
@@ -0,0 +1,140 @@
+package com.teambind.springproject.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 바이트 스캐너가 기존 문자열 파서와 같은 클레임을 추출하는지 무작위 payload로 검증
+ */
+class JwtPayloadScannerFuzzTest {
+
+	private static final int ITERATIONS = 20_000;
+
+	private static final String[] CLAIM_KEYS = {"sub", "role", "deviceId", "placeId", "exp", "jti", "iat"};
+	private static final String[] OTHER_KEYS = {"iss", "aud", "su", "subx", "Sub", "s\\ub", "ex\\p", "한글"};
+	private static final String[] STRING_FRAGMENTS = {
+			"a", "Z", "0", "42", " ", "-", "_", "é", "한", "😀", "\\\"", "\\\\", "\\n", "\\u0041", "\\", ",", ":", "}", "{"
+	};
+	private static final String[] LITERALS = {
+			"0", "1", "-1", "+7", "007", "1700000000", "9223372036854775807", "9223372036854775808",
+			"123456789012345678", "1234567890123456789", "1.5", "-2.5E3", "1e9", "1.0f", "1e", ".", "-",
+			"true", "false", "null", "NaN", "Infinity", "abc", "", "0x10", "1_000"
+	};
+	private static final String[] WHITESPACE = {"", "", " ", "  ", "\t", "\n", "\r\n"};
+	private static final char[] MUTATION_CHARS = {'"', '\\', ':', ',', '{', '}', ' ', '\t', 'a', '1', '.', 'e', '-', 'n'};
+
+	@Test
+	void matchesLegacyParserOnGeneratedPayloads() {
+		for (long seed = 0; seed < ITERATIONS; seed++) {
+			Random random = new Random(seed);
+			assertSameClaims(randomPayload(random), seed);
+		}
+	}
+
+	@Test
+	void matchesLegacyParserOnMutatedPayloads() {
+		for (long seed = 0; seed < ITERATIONS; seed++) {
+			Random random = new Random(seed);
+			StringBuilder json = new StringBuilder(randomPayload(random));
+			int mutations = 1 + random.nextInt(4);
+			for (int m = 0; m < mutations && json.length() > 0; m++) {
+				int position = random.nextInt(json.length());
+				switch (random.nextInt(3)) {
+					case 0 -> json.insert(position, MUTATION_CHARS[random.nextInt(MUTATION_CHARS.length)]);
+					case 1 -> json.deleteCharAt(position);
+					default -> json.setCharAt(position, MUTATION_CHARS[random.nextInt(MUTATION_CHARS.length)]);
+				}
+			}
+			assertSameClaims(json.toString(), seed);
+		}
+	}
+
+	@Test
+	void typicalPayloadIsExtracted() {
+		String json = "{\"sub\":\"42\",\"role\":\"PLACE_OWNER\",\"deviceId\":\"d-1\",\"placeId\":\"7\",\"iat\":1700000000,\"exp\":1700003600}";
+		PayloadClaims claims = scan(json);
+
+		assertThat(claims.sub).isEqualTo("42");
+		assertThat(claims.role).isEqualTo("PLACE_OWNER");
+		assertThat(claims.deviceId).isEqualTo("d-1");
+		assertThat(claims.placeId).isEqualTo("7");
+		assertThat(claims.expState).isEqualTo(PayloadClaims.ExpState.NUMBER);
+		assertThat(claims.exp).isEqualTo(1700003600L);
+		assertThat(claims.iat).isEqualTo(1700000000L);
+		assertThat(claims.jti).isNull();
+	}
+
+	private static void assertSameClaims(String json, long seed) {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		PayloadClaims claims = new PayloadClaims();
+		JwtPayloadScanner.scan(bytes, bytes.length, claims);
+		Map<String, Object> legacy = LegacyPayloadParser.parseJsonObject(new String(bytes, StandardCharsets.UTF_8));
+
+		String context = "seed=" + seed + ", json=" + json;
+		assertThat(claims.sub).as(context).isEqualTo(asString(legacy.get("sub")));
+		assertThat(claims.role).as(context).isEqualTo(asString(legacy.get("role")));
+		assertThat(claims.deviceId).as(context).isEqualTo(asString(legacy.get("deviceId")));
+		assertThat(claims.placeId).as(context).isEqualTo(asString(legacy.get("placeId")));
+		assertThat(claims.jti).as(context).isEqualTo(asString(legacy.get("jti")));
+		assertThat(claims.iat).as(context).isEqualTo(legacy.get("iat") instanceof Number number ? number.longValue() : 0L);
+
+		Object exp = legacy.get("exp");
+		if (exp == null) {
+			assertThat(claims.expState).as(context).isEqualTo(PayloadClaims.ExpState.ABSENT);
+		} else if (exp instanceof Number number) {
+			assertThat(claims.expState).as(context).isEqualTo(PayloadClaims.ExpState.NUMBER);
+			assertThat(claims.exp).as(context).isEqualTo(number.longValue());
+		} else {
+			assertThat(claims.expState).as(context).isEqualTo(PayloadClaims.ExpState.NOT_NUMBER);
+		}
+	}
+
+	private static PayloadClaims scan(String json) {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		PayloadClaims claims = new PayloadClaims();
+		JwtPayloadScanner.scan(bytes, bytes.length, claims);
+		return claims;
+	}
+
+	private static String asString(Object value) {
+		return value != null ? value.toString() : null;
+	}
+
+	private static String randomPayload(Random random) {
+		StringBuilder json = new StringBuilder();
+		json.append(pick(random, WHITESPACE)).append('{').append(pick(random, WHITESPACE));
+		int entries = random.nextInt(9);
+		for (int e = 0; e < entries; e++) {
+			String key = random.nextInt(3) > 0 ? pick(random, CLAIM_KEYS) : pick(random, OTHER_KEYS);
+			json.append('"').append(key).append('"')
+					.append(pick(random, WHITESPACE)).append(':').append(pick(random, WHITESPACE));
+			if (random.nextBoolean()) {
+				json.append('"');
+				int fragments = random.nextInt(6);
+				for (int f = 0; f < fragments; f++) {
+					json.append(pick(random, STRING_FRAGMENTS));
+				}
+				json.append('"');
+			} else {
+				json.append(random.nextInt(4) == 0
+						? Long.toString(random.nextLong())
+						: pick(random, LITERALS));
+			}
+			json.append(pick(random, WHITESPACE));
+			if (e < entries - 1 && random.nextInt(10) > 0) {
+				json.append(',').append(pick(random, WHITESPACE));
+			}
+		}
+		json.append('}').append(pick(random, WHITESPACE));
+		return json.toString();
+	}
+
+	private static String pick(Random random, String[] values) {
+		return values[random.nextInt(values.length)];
+	}
+}
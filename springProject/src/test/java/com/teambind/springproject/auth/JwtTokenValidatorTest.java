@@ -0,0 +1,250 @@
+package com.teambind.springproject.auth;
+
+import com.teambind.springproject.config.properties.JwtProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenValidatorTest {
+
+	private static final String SECRET = "test-secret-key-for-placeowner-gateway-minimum-32-chars";
+
+	private JwtTokenValidator validator;
+
+	@BeforeEach
+	void setUp() {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret(SECRET);
+		validator = newValidator(properties);
+	}
+
+	@Test
+	void validateReturnsAllClaimsFromSingleParse() {
+		long exp = Instant.now().getEpochSecond() + 600;
+		String token = sign("{\"sub\":\"42\",\"role\":\"PLACE_OWNER\",\"deviceId\":\"device-1\",\"placeId\":\"7\",\"exp\":" + exp + "}");
+
+		ValidatedToken result = validator.validate(token);
+
+		assertThat(result.isValid()).isTrue();
+		assertThat(result.userId()).isEqualTo("42");
+		assertThat(result.role()).isEqualTo("PLACE_OWNER");
+		assertThat(result.deviceId()).isEqualTo("device-1");
+		assertThat(result.placeId()).isEqualTo("7");
+		assertThat(result.expiresAt()).isEqualTo(exp);
+	}
+
+	@Test
+	void optionalClaimsAreNullWhenAbsent() {
+		long exp = Instant.now().getEpochSecond() + 600;
+		ValidatedToken result = validator.validate(sign("{\"sub\":\"42\",\"exp\":" + exp + "}"));
+
+		assertThat(result.isValid()).isTrue();
+		assertThat(result.role()).isNull();
+		assertThat(result.deviceId()).isNull();
+		assertThat(result.placeId()).isNull();
+	}
+
+	@Test
+	void expiredTokenCarriesNoClaims() {
+		long exp = Instant.now().getEpochSecond() - 1;
+		ValidatedToken result = validator.validate(sign("{\"sub\":\"42\",\"role\":\"ADMIN\",\"exp\":" + exp + "}"));
+
+		assertThat(result.result()).isEqualTo(TokenValidationResult.EXPIRED);
+		assertThat(result.userId()).isNull();
+	}
+
+	@Test
+	void tamperedSignatureIsRejected() {
+		long exp = Instant.now().getEpochSecond() + 600;
+		String token = sign("{\"sub\":\"42\",\"exp\":" + exp + "}");
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThat(validator.validate(tampered).result()).isEqualTo(TokenValidationResult.INVALID_SIGNATURE);
+	}
+
+	@Test
+	void signatureWithNonCanonicalTrailingBitsIsRejected() {
+		long exp = Instant.now().getEpochSecond() + 600;
+		String token = sign("{\"sub\":\"42\",\"exp\":" + exp + "}");
+		// 32바이트 서명의 마지막 문자는 하위 2비트를 사용하지 않음
+		char last = token.charAt(token.length() - 1);
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+		char malleable = alphabet.charAt(alphabet.indexOf(last) | 1);
+		String tampered = token.substring(0, token.length() - 1) + malleable;
+
+		assertThat(validator.validate(tampered).result()).isEqualTo(TokenValidationResult.INVALID_SIGNATURE);
+	}
+
+	@Test
+	void missingSubjectIsRejected() {
+		long exp = Instant.now().getEpochSecond() + 600;
+
+		assertThat(validator.validate(sign("{\"exp\":" + exp + "}")).result())
+				.isEqualTo(TokenValidationResult.MISSING_CLAIMS);
+	}
+
+	@Test
+	void nonJwtInputIsRejected() {
+		assertThat(validator.validate("not-a-jwt").result()).isEqualTo(TokenValidationResult.INVALID_FORMAT);
+		assertThat(validator.validate(null).result()).isEqualTo(TokenValidationResult.INVALID_FORMAT);
+	}
+
+	@Test
+	void rs256TokenIsVerifiedWithJwksKey(@TempDir Path dir) throws Exception {
+		KeyPair rsa = rsaKeyPair();
+		JwtTokenValidator asymmetric = newValidator(jwksProperties(dir, rsaJwk("rsa-1", (RSAPublicKey) rsa.getPublic())));
+		long exp = Instant.now().getEpochSecond() + 600;
+
+		ValidatedToken result = asymmetric.validate(signAsymmetric("RS256", "rsa-1", rsa.getPrivate(),
+				"{\"sub\":\"42\",\"role\":\"PLACE_OWNER\",\"exp\":" + exp + "}"));
+
+		assertThat(result.isValid()).isTrue();
+		assertThat(result.userId()).isEqualTo("42");
+	}
+
+	@Test
+	void es256TokenIsVerifiedWithJwksKey(@TempDir Path dir) throws Exception {
+		KeyPair ec = ecKeyPair();
+		JwtTokenValidator asymmetric = newValidator(jwksProperties(dir, ecJwk("ec-1", (ECPublicKey) ec.getPublic())));
+		long exp = Instant.now().getEpochSecond() + 600;
+
+		ValidatedToken result = asymmetric.validate(signAsymmetric("ES256", "ec-1", ec.getPrivate(),
+				"{\"sub\":\"42\",\"exp\":" + exp + "}"));
+
+		assertThat(result.isValid()).isTrue();
+	}
+
+	@Test
+	void rotatedKeysAreAllAcceptedAndUnknownKidIsRejected(@TempDir Path dir) throws Exception {
+		KeyPair previous = rsaKeyPair();
+		KeyPair current = rsaKeyPair();
+		JwtTokenValidator asymmetric = newValidator(jwksProperties(dir,
+				rsaJwk("old", (RSAPublicKey) previous.getPublic()),
+				rsaJwk("new", (RSAPublicKey) current.getPublic())));
+		String payload = "{\"sub\":\"42\",\"exp\":" + (Instant.now().getEpochSecond() + 600) + "}";
+
+		assertThat(asymmetric.validate(signAsymmetric("RS256", "old", previous.getPrivate(), payload)).isValid()).isTrue();
+		assertThat(asymmetric.validate(signAsymmetric("RS256", "new", current.getPrivate(), payload)).isValid()).isTrue();
+		assertThat(asymmetric.validate(signAsymmetric("RS256", "unknown", current.getPrivate(), payload)).result())
+				.isEqualTo(TokenValidationResult.INVALID_SIGNATURE);
+		assertThat(asymmetric.validate(signAsymmetric("RS256", "new", previous.getPrivate(), payload)).result())
+				.isEqualTo(TokenValidationResult.INVALID_SIGNATURE);
+	}
+
+	@Test
+	void algorithmMustMatchTheKeyType(@TempDir Path dir) throws Exception {
+		KeyPair ec = ecKeyPair();
+		KeyPair rsa = rsaKeyPair();
+		JwtTokenValidator asymmetric = newValidator(jwksProperties(dir, ecJwk("ec-1", (ECPublicKey) ec.getPublic())));
+		String payload = "{\"sub\":\"42\",\"exp\":" + (Instant.now().getEpochSecond() + 600) + "}";
+
+		assertThat(asymmetric.validate(signAsymmetric("RS256", "ec-1", rsa.getPrivate(), payload)).result())
+				.isEqualTo(TokenValidationResult.INVALID_SIGNATURE);
+	}
+
+	@Test
+	void hs256RemainsAcceptedAlongsideJwks(@TempDir Path dir) throws Exception {
+		KeyPair rsa = rsaKeyPair();
+		JwtTokenValidator asymmetric = newValidator(jwksProperties(dir, rsaJwk("rsa-1", (RSAPublicKey) rsa.getPublic())));
+
+		assertThat(asymmetric.validate(sign("{\"sub\":\"42\",\"exp\":" + (Instant.now().getEpochSecond() + 600) + "}")).isValid())
+				.isTrue();
+	}
+
+	private static JwtTokenValidator newValidator(JwtProperties properties) {
+		return new JwtTokenValidator(properties,
+				new JwksKeyProvider(properties, new DefaultResourceLoader(), new ObjectMapper()));
+	}
+
+	private static JwtProperties jwksProperties(Path dir, String... jwks) throws Exception {
+		Path file = dir.resolve("jwks.json");
+		Files.writeString(file, "{\"keys\":[" + String.join(",", jwks) + "]}");
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret(SECRET);
+		properties.getJwks().setLocation(file.toUri().toString());
+		return properties;
+	}
+
+	private static KeyPair rsaKeyPair() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		return generator.generateKeyPair();
+	}
+
+	private static KeyPair ecKeyPair() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+		generator.initialize(new ECGenParameterSpec("secp256r1"));
+		return generator.generateKeyPair();
+	}
+
+	private static String rsaJwk(String kid, RSAPublicKey key) {
+		return "{\"kty\":\"RSA\",\"kid\":\"" + kid + "\",\"use\":\"sig\",\"alg\":\"RS256\",\"n\":\""
+				+ unsigned(key.getModulus()) + "\",\"e\":\"" + unsigned(key.getPublicExponent()) + "\"}";
+	}
+
+	private static String ecJwk(String kid, ECPublicKey key) {
+		return "{\"kty\":\"EC\",\"kid\":\"" + kid + "\",\"crv\":\"P-256\",\"x\":\""
+				+ unsigned(key.getW().getAffineX()) + "\",\"y\":\"" + unsigned(key.getW().getAffineY()) + "\"}";
+	}
+
+	private static String unsigned(BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length > 1 && bytes[0] == 0) {
+			bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	private static String signAsymmetric(String alg, String kid, PrivateKey privateKey, String payloadJson) throws Exception {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString(("{\"alg\":\"" + alg + "\",\"kid\":\"" + kid + "\",\"typ\":\"JWT\"}")
+				.getBytes(StandardCharsets.UTF_8));
+		String payload = encoder.encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
+		Signature signature = Signature.getInstance(privateKey instanceof ECPrivateKey
+				? "SHA256withECDSAinP1363Format"
+				: "SHA256withRSA");
+		signature.initSign(privateKey);
+		signature.update((header + "." + payload).getBytes(StandardCharsets.UTF_8));
+		return header + "." + payload + "." + encoder.encodeToString(signature.sign());
+	}
+
+	static String sign(String payloadJson) {
+		return sign(payloadJson, SECRET);
+	}
+
+	static String sign(String payloadJson, String secret) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+		String payload = encoder.encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+			byte[] signature = mac.doFinal((header + "." + payload).getBytes(StandardCharsets.UTF_8));
+			return header + "." + payload + "." + encoder.encodeToString(signature);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
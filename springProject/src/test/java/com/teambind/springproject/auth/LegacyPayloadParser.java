@@ -0,0 +1,103 @@
+package com.teambind.springproject.auth;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 바이트 스캐너 도입 전 JwtTokenValidator가 사용하던 문자열 기반 payload 파서 (퍼즈 테스트 기준값)
+ */
+final class LegacyPayloadParser {
+
+	private LegacyPayloadParser() {
+	}
+
+	/**
+	 * Minimal JSON parser for flat objects with string/number/boolean/null values
+	 */
+	static Map<String, Object> parseJsonObject(String json) {
+		Map<String, Object> map = new HashMap<>();
+		if (json == null) return map;
+		String s = json.trim();
+		if (s.length() < 2 || s.charAt(0) != '{' || s.charAt(s.length() - 1) != '}') return map;
+		s = s.substring(1, s.length() - 1).trim();
+		if (s.isEmpty()) return map;
+		int i = 0;
+		while (i < s.length()) {
+			// parse key
+			if (s.charAt(i) != '"') break;
+			int keyStart = ++i;
+			StringBuilder keySb = new StringBuilder();
+			boolean escaped = false;
+			for (; i < s.length(); i++) {
+				char c = s.charAt(i);
+				if (escaped) {
+					keySb.append(c);
+					escaped = false;
+				} else if (c == '\\') {
+					escaped = true;
+				} else if (c == '"') {
+					i++;
+					break;
+				} else {
+					keySb.append(c);
+				}
+			}
+			// skip colon
+			while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+			if (i >= s.length() || s.charAt(i) != ':') break;
+			i++;
+			while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+			// parse value
+			Object value;
+			if (i < s.length() && s.charAt(i) == '"') {
+				// string
+				i++;
+				StringBuilder valSb = new StringBuilder();
+				boolean esc = false;
+				for (; i < s.length(); i++) {
+					char c = s.charAt(i);
+					if (esc) {
+						valSb.append(c);
+						esc = false;
+					} else if (c == '\\') {
+						esc = true;
+					} else if (c == '"') {
+						i++;
+						break;
+					} else {
+						valSb.append(c);
+					}
+				}
+				value = valSb.toString();
+			} else {
+				// literal (number, boolean, null)
+				int start = i;
+				while (i < s.length() && ",}".indexOf(s.charAt(i)) == -1) i++;
+				String literal = s.substring(start, i).trim();
+				if (literal.equals("null")) {
+					value = null;
+				} else if (literal.equals("true") || literal.equals("false")) {
+					value = Boolean.valueOf(literal);
+				} else {
+					try {
+						if (literal.contains(".") || literal.contains("e") || literal.contains("E")) {
+							value = Double.valueOf(literal);
+						} else {
+							value = Long.valueOf(literal);
+						}
+					} catch (NumberFormatException ex) {
+						value = literal;
+					}
+				}
+			}
+			map.put(keySb.toString(), value);
+			// skip spaces and comma
+			while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+			if (i < s.length() && s.charAt(i) == ',') {
+				i++;
+				while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+			}
+		}
+		return map;
+	}
+}
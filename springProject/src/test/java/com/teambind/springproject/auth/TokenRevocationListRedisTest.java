@@ -0,0 +1,156 @@
+package com.teambind.springproject.auth;
+
+import com.teambind.springproject.config.properties.JwtProperties;
+import com.teambind.springproject.support.TestRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class TokenRevocationListRedisTest {
+
+	private static final String PREFIX = "{jwt:revoked}";
+	private static final String CHANNEL = "jwt:revocations";
+	private static final Duration WAIT = Duration.ofSeconds(5);
+
+	@Container
+	private static final GenericContainer<?> redis = TestRedis.container();
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static ReactiveStringRedisTemplate redisTemplate;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<TokenRevocationList> lists = new ArrayList<>();
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = TestRedis.connect(redis);
+		redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void flush() {
+		TestRedis.flushAll(redisTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		lists.forEach(TokenRevocationList::shutdown);
+	}
+
+	@Test
+	void revokeTokenWritesKeyWithExpiryAndIndexEntry() {
+		TokenRevocationList revocationList = revocationList(false, true);
+		long expiresAt = Instant.now().getEpochSecond() + 600;
+
+		revocationList.revokeToken("jti-1", expiresAt).block();
+
+		assertThat(redisTemplate.opsForValue().get(PREFIX + ":jti:jti-1").block()).isNotNull();
+		assertThat(redisTemplate.getExpire(PREFIX + ":jti:jti-1").block())
+				.isBetween(Duration.ofSeconds(590), Duration.ofSeconds(600));
+		assertThat(redisTemplate.opsForZSet().score(PREFIX + ":index", "jti:jti-1").block())
+				.isEqualTo((double) expiresAt);
+	}
+
+	@Test
+	void publishedRevocationReachesSubscribedNodes() throws InterruptedException {
+		TokenRevocationList node = synced(revocationList(true, true));
+		TokenRevocationList writer = revocationList(false, true);
+		ValidatedToken token = TokenRevocationListTest.token("jti-1", null, 0);
+
+		writer.revokeToken("jti-1", Instant.now().getEpochSecond() + 600).block();
+
+		TestRedis.await(() -> node.mightBeRevoked(token), WAIT);
+		assertThat(node.isRevoked(token).block()).isTrue();
+		assertThat(meterRegistry.get("gateway.jwt.revocation.sync.lag").timer().count()).isPositive();
+	}
+
+	@Test
+	void parsesMessagesPublishedByOtherServicesAndIgnoresUnknownMembers() throws InterruptedException {
+		TokenRevocationList node = synced(revocationList(true, true));
+		ValidatedToken token = TokenRevocationListTest.token(null, "device-9", 0);
+
+		redisTemplate.convertAndSend(CHANNEL, "session:s-1|" + System.currentTimeMillis()).block();
+		redisTemplate.convertAndSend(CHANNEL, "device:device-9").block();
+
+		TestRedis.await(() -> node.mightBeRevoked(token), WAIT);
+		// Bloom filter만 갱신되고 Redis 키는 없으므로 최종 판정은 폐기 아님
+		assertThat(node.isRevoked(token).block()).isFalse();
+	}
+
+	@Test
+	void deviceRevocationOnlyRejectsTokensIssuedBeforeIt() {
+		TokenRevocationList revocationList = revocationList(false, true);
+		long now = Instant.now().getEpochSecond();
+
+		revocationList.revokeDevice("device-1", Duration.ofHours(1)).block();
+
+		assertThat(revocationList.isRevoked(TokenRevocationListTest.token(null, "device-1", now - 60)).block()).isTrue();
+		assertThat(revocationList.isRevoked(TokenRevocationListTest.token(null, "device-1", now + 60)).block()).isFalse();
+		assertThat(revocationList.isRevoked(TokenRevocationListTest.token(null, "device-2", now - 60)).block()).isFalse();
+	}
+
+	@Test
+	void fullSyncPicksUpRevocationsWrittenBeforeStartup() throws InterruptedException {
+		revocationList(false, true).revokeToken("jti-old", Instant.now().getEpochSecond() + 600).block();
+
+		TokenRevocationList node = revocationList(true, true);
+
+		TestRedis.await(() -> node.mightBeRevoked(TokenRevocationListTest.token("jti-old", null, 0))
+				&& !node.mightBeRevoked(TokenRevocationListTest.token("jti-other", null, 0)), WAIT);
+	}
+
+	@Test
+	void lookupFailureAfterSyncDeniesOnlyWhenFailClosed() throws Exception {
+		TokenRevocationList closed = synced(revocationList(true, true));
+		TokenRevocationList open = synced(revocationList(true, false));
+		ValidatedToken token = TokenRevocationListTest.token("jti-1", null, 0);
+
+		// 조회 제한 시간(100ms)보다 길게 Redis 응답 중지
+		redis.execInContainer("redis-cli", "CLIENT", "PAUSE", "1000", "ALL");
+
+		assertThat(closed.isRevoked(token).block()).isTrue();
+		assertThat(open.isRevoked(token).block()).isFalse();
+		Thread.sleep(1000);
+	}
+
+	private TokenRevocationList revocationList(boolean enabled, boolean failClosed) {
+		JwtProperties properties = new JwtProperties();
+		JwtProperties.Revocation revocation = properties.getRevocation();
+		revocation.setEnabled(enabled);
+		revocation.setFailClosed(failClosed);
+		revocation.setLookupTimeout(Duration.ofMillis(100));
+		TokenRevocationList revocationList = new TokenRevocationList(properties, redisTemplate, meterRegistry);
+		lists.add(revocationList);
+		return revocationList;
+	}
+
+	/**
+	 * 첫 전체 동기화 완료까지 대기 (완료 전에는 모든 토큰이 Bloom filter 양성)
+	 */
+	private static TokenRevocationList synced(TokenRevocationList revocationList) throws InterruptedException {
+		ValidatedToken probe = TokenRevocationListTest.token("probe", null, 0);
+		TestRedis.await(() -> !revocationList.mightBeRevoked(probe), WAIT);
+		return revocationList;
+	}
+}
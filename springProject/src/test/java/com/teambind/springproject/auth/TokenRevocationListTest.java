@@ -0,0 +1,67 @@
+package com.teambind.springproject.auth;
+
+import com.teambind.springproject.config.properties.JwtProperties;
+import com.teambind.springproject.support.TestRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTest {
+
+	private static final long REVOKED_AT = 1_700_000_000L;
+
+	@Test
+	void deviceRevocationRejectsTokensIssuedAtOrBeforeRevocation() {
+		String revokedAt = String.valueOf(REVOKED_AT);
+
+		assertThat(TokenRevocationList.isRevoked(token(null, "device-1", REVOKED_AT - 60), Arrays.asList(revokedAt))).isTrue();
+		assertThat(TokenRevocationList.isRevoked(token(null, "device-1", REVOKED_AT), Arrays.asList(revokedAt))).isTrue();
+		assertThat(TokenRevocationList.isRevoked(token(null, "device-1", REVOKED_AT + 1), Arrays.asList(revokedAt))).isFalse();
+		// iat가 없으면 발급 시각을 알 수 없으므로 거부
+		assertThat(TokenRevocationList.isRevoked(token(null, "device-1", 0), Arrays.asList(revokedAt))).isTrue();
+		assertThat(TokenRevocationList.isRevoked(token(null, "device-1", REVOKED_AT - 60), Arrays.asList((String) null))).isFalse();
+	}
+
+	@Test
+	void jtiValueComesBeforeDeviceValue() {
+		ValidatedToken token = token("jti-1", "device-1", REVOKED_AT + 60);
+
+		assertThat(TokenRevocationList.isRevoked(token, Arrays.asList("1", null))).isTrue();
+		assertThat(TokenRevocationList.isRevoked(token, Arrays.asList(null, String.valueOf(REVOKED_AT)))).isFalse();
+		assertThat(TokenRevocationList.isRevoked(token, Arrays.asList(null, String.valueOf(REVOKED_AT + 60)))).isTrue();
+	}
+
+	@Test
+	void lookupFailureBeforeFirstSyncAllowsEvenWhenFailClosed() {
+		// 연결할 수 없는 Redis: 첫 전체 동기화가 끝나지 않은 상태로 유지
+		LettuceConnectionFactory connectionFactory = TestRedis.connect("127.0.0.1", 1);
+		JwtProperties properties = new JwtProperties();
+		properties.getRevocation().setFailClosed(true);
+		properties.getRevocation().setLookupTimeout(Duration.ofMillis(200));
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		TokenRevocationList revocationList = new TokenRevocationList(
+				properties, new ReactiveStringRedisTemplate(connectionFactory), meterRegistry);
+		try {
+			ValidatedToken token = token("jti-1", "device-1", REVOKED_AT);
+
+			assertThat(revocationList.mightBeRevoked(token)).isTrue();
+			assertThat(revocationList.isRevoked(token).block()).isFalse();
+			assertThat(meterRegistry.get("gateway.jwt.revocation.lookups").tag("result", "error").counter().count())
+					.isEqualTo(1.0);
+		} finally {
+			revocationList.shutdown();
+			connectionFactory.destroy();
+		}
+	}
+
+	static ValidatedToken token(String jti, String deviceId, long issuedAt) {
+		return new ValidatedToken(TokenValidationResult.VALID, "42", "PLACE_OWNER", deviceId, "7",
+				REVOKED_AT + 3600, jti, issuedAt);
+	}
+}
@@ -0,0 +1,126 @@
+package com.teambind.springproject.auth;
+
+import com.teambind.springproject.config.properties.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private VerifiedTokenCache cache;
+
+	@AfterEach
+	void tearDown() {
+		if (cache != null) {
+			cache.shutdown();
+		}
+	}
+
+	@Test
+	void repeatedTokenIsServedFromCache() {
+		cache = newCache(100);
+		ValidatedToken claims = claims(Instant.now().getEpochSecond() + 600);
+
+		assertThat(cache.get("h.p.sig")).isNull();
+		cache.put("h.p.sig", claims);
+
+		assertThat(cache.get("h.p.sig")).isSameAs(claims);
+		assertThat(counter("gateway.jwt.cache.requests", "result", "hit")).isEqualTo(1);
+		assertThat(counter("gateway.jwt.cache.requests", "result", "miss")).isEqualTo(1);
+	}
+
+	@Test
+	void sameSignatureWithDifferentPayloadIsMiss() {
+		cache = newCache(100);
+		cache.put("h.p.sig", claims(Instant.now().getEpochSecond() + 600));
+
+		assertThat(cache.get("h.forged.sig")).isNull();
+	}
+
+	@Test
+	void expiredEntryIsNeverServed() {
+		cache = newCache(100);
+		cache.put("h.p.sig", claims(Instant.now().getEpochSecond()));
+
+		assertThat(cache.get("h.p.sig")).isNull();
+		assertThat(cache.size()).isZero();
+		assertThat(counter("gateway.jwt.cache.evictions", "cause", "expired")).isEqualTo(1);
+	}
+
+	@Test
+	void entryCountIsBounded() {
+		cache = newCache(3);
+		long exp = Instant.now().getEpochSecond() + 600;
+		for (int i = 0; i < 10; i++) {
+			cache.put("h.p.sig" + i, claims(exp));
+		}
+
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(counter("gateway.jwt.cache.evictions", "cause", "capacity")).isEqualTo(7);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntryAtCapacity() {
+		cache = newCache(2);
+		long exp = Instant.now().getEpochSecond() + 600;
+		cache.put("h.p.sig0", claims(exp));
+		cache.put("h.p.sig1", claims(exp));
+		cache.get("h.p.sig0");
+
+		cache.put("h.p.sig2", claims(exp));
+
+		assertThat(cache.get("h.p.sig0")).isNotNull();
+		assertThat(cache.get("h.p.sig1")).isNull();
+		assertThat(cache.get("h.p.sig2")).isNotNull();
+	}
+
+	@Test
+	void scheduledPurgeRemovesExpiredEntries() {
+		cache = newCache(100);
+		long now = Instant.now().getEpochSecond();
+		cache.put("h.p.expired", claims(now));
+		cache.put("h.p.live", claims(now + 600));
+
+		cache.purgeExpired();
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(counter("gateway.jwt.cache.evictions", "cause", "expired")).isEqualTo(1);
+	}
+
+	@Test
+	void invalidResultsAreNotCached() {
+		cache = newCache(100);
+		cache.put("h.p.sig", ValidatedToken.invalid(TokenValidationResult.INVALID_SIGNATURE));
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void disabledCacheNeverHits() {
+		JwtProperties properties = new JwtProperties();
+		properties.getCache().setEnabled(false);
+		cache = new VerifiedTokenCache(properties, meterRegistry);
+		cache.put("h.p.sig", claims(Instant.now().getEpochSecond() + 600));
+
+		assertThat(cache.get("h.p.sig")).isNull();
+	}
+
+	private VerifiedTokenCache newCache(int maxEntries) {
+		JwtProperties properties = new JwtProperties();
+		properties.getCache().setMaxEntries(maxEntries);
+		return new VerifiedTokenCache(properties, meterRegistry);
+	}
+
+	private static ValidatedToken claims(long exp) {
+		return new ValidatedToken(TokenValidationResult.VALID, "42", "PLACE_OWNER", "device-1", "7", exp, null, 0);
+	}
+
+	private double counter(String name, String tagKey, String tagValue) {
+		return meterRegistry.get(name).tag(tagKey, tagValue).counter().count();
+	}
+}
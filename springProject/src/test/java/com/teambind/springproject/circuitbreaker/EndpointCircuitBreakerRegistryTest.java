@@ -0,0 +1,68 @@
+package com.teambind.springproject.circuitbreaker;
+
+import com.teambind.springproject.config.properties.CircuitBreakerProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndpointCircuitBreakerRegistryTest {
+
+	private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+	private final TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.ofDefaults();
+
+	@Test
+	void endpointsInheritServiceConfigAndOpenIndependently() {
+		CircuitBreakerConfig reservationConfig = CircuitBreakerConfig.custom()
+				.slowCallDurationThreshold(Duration.ofSeconds(5))
+				.build();
+		CircuitBreaker reservation = circuitBreakerRegistry.circuitBreaker("reservation-service", reservationConfig);
+		EndpointCircuitBreakerRegistry endpoints = registry(200);
+
+		CircuitBreaker slots = endpoints.circuitBreaker(reservation, "getAvailableSlots");
+		CircuitBreaker setup = endpoints.circuitBreaker(reservation, "setupRoom");
+		slots.transitionToOpenState();
+
+		assertThat(slots.getName()).isEqualTo("reservation-service.getAvailableSlots");
+		assertThat(slots.getCircuitBreakerConfig()).isSameAs(reservationConfig);
+		assertThat(setup.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(reservation.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(endpoints.circuitBreaker(reservation, "getAvailableSlots")).isSameAs(slots);
+	}
+
+	@Test
+	void sharesServiceBreakerOnceInstanceLimitIsReached() {
+		CircuitBreaker room = circuitBreakerRegistry.circuitBreaker("room-service");
+		EndpointCircuitBreakerRegistry endpoints = registry(1);
+
+		CircuitBreaker getRoom = endpoints.circuitBreaker(room, "getRoom");
+
+		assertThat(getRoom).isNotSameAs(room);
+		assertThat(endpoints.circuitBreaker(room, "deleteRoom")).isSameAs(room);
+		assertThat(endpoints.circuitBreaker(room, "getRoom")).isSameAs(getRoom);
+		assertThat(endpoints.size()).isEqualTo(1);
+	}
+
+	@Test
+	void routeNamesResolveToServiceInstanceSettings() {
+		timeLimiterRegistry.timeLimiter("reservation-service",
+				TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(60)).build());
+		EndpointCircuitBreakerRegistry endpoints = registry(200);
+
+		assertThat(endpoints.timeout("reservation-service.ye-yak-manage-service")).isEqualTo(Duration.ofSeconds(60));
+		assertThat(endpoints.timeout("reservation-service")).isEqualTo(Duration.ofSeconds(60));
+		assertThat(EndpointCircuitBreakerRegistry.baseName("coupon-service")).isEqualTo("coupon-service");
+	}
+
+	private EndpointCircuitBreakerRegistry registry(int maxInstances) {
+		CircuitBreakerProperties properties = new CircuitBreakerProperties();
+		properties.setMaxInstances(maxInstances);
+		return new EndpointCircuitBreakerRegistry(circuitBreakerRegistry, timeLimiterRegistry, properties);
+	}
+}
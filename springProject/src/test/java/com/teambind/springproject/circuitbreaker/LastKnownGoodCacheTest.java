@@ -0,0 +1,106 @@
+package com.teambind.springproject.circuitbreaker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.config.properties.LastKnownGoodProperties;
+import com.teambind.springproject.exception.CustomException;
+import com.teambind.springproject.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LastKnownGoodCacheTest {
+
+	private static final ParameterizedTypeReference<String> STRING = new ParameterizedTypeReference<>() {
+	};
+
+	private LastKnownGoodCache cache;
+
+	@AfterEach
+	void tearDown() {
+		cache.shutdown();
+	}
+
+	@Test
+	void servesLastSuccessWithStaleHeadersWhenCircuitIsOpen() {
+		cache = cache(Duration.ofMinutes(10));
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/v1/places/1"));
+
+		assertThat(cache.withFallback("place:1", STRING, Mono.just("fresh")).block()).isEqualTo("fresh");
+
+		String served = cache.withFallback("place:1", STRING, Mono.<String>error(unavailable()))
+				.contextWrite(context -> context.put(ServerWebExchangeContextFilter.EXCHANGE_CONTEXT_ATTRIBUTE, exchange))
+				.block();
+
+		assertThat(served).isEqualTo("fresh");
+		assertThat(exchange.getResponse().getHeaders().getFirst(LastKnownGoodCache.STALE_HEADER)).isEqualTo("true");
+		assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("0");
+	}
+
+	@Test
+	void propagatesErrorsThatAreNotUnavailabilityOrHaveNoEntry() {
+		cache = cache(Duration.ofMinutes(10));
+		cache.withFallback("place:1", STRING, Mono.just("fresh")).block();
+
+		assertThatThrownBy(() -> cache.withFallback("place:2", STRING, Mono.<String>error(unavailable())).block())
+				.isInstanceOf(CustomException.class);
+		assertThatThrownBy(() -> cache.withFallback("place:1", STRING,
+				Mono.<String>error(new CustomException(ErrorCode.BAD_GATEWAY))).block())
+				.isInstanceOf(CustomException.class)
+				.satisfies(e -> assertThat(((CustomException) e).getErrorCode()).isEqualTo(ErrorCode.BAD_GATEWAY));
+	}
+
+	@Test
+	void doesNotServeResponsesOlderThanMaxAge() throws InterruptedException {
+		cache = cache(Duration.ofMillis(1));
+		cache.withFallback("place:1", STRING, Mono.just("fresh")).block();
+		Thread.sleep(20);
+
+		assertThatThrownBy(() -> cache.withFallback("place:1", STRING,
+				Mono.<String>error(new CustomException(ErrorCode.GATEWAY_TIMEOUT))).block())
+				.isInstanceOf(CustomException.class)
+				.satisfies(e -> assertThat(((CustomException) e).getErrorCode()).isEqualTo(ErrorCode.GATEWAY_TIMEOUT));
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedKeyAtCapacity() {
+		cache = cache(Duration.ofMinutes(10), 2);
+		cache.withFallback("place:1", STRING, Mono.just("one")).block();
+		cache.withFallback("place:2", STRING, Mono.just("two")).block();
+		// place:1을 다시 사용
+		cache.withFallback("place:1", STRING, Mono.<String>error(unavailable())).block();
+
+		cache.withFallback("place:3", STRING, Mono.just("three")).block();
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.withFallback("place:1", STRING, Mono.<String>error(unavailable())).block()).isEqualTo("one");
+		assertThatThrownBy(() -> cache.withFallback("place:2", STRING, Mono.<String>error(unavailable())).block())
+				.isInstanceOf(CustomException.class);
+	}
+
+	private static LastKnownGoodCache cache(Duration maxAge) {
+		return cache(maxAge, 10_000);
+	}
+
+	private static LastKnownGoodCache cache(Duration maxAge, int maxEntries) {
+		LastKnownGoodProperties properties = new LastKnownGoodProperties();
+		properties.setMaxAge(maxAge);
+		properties.setMaxEntries(maxEntries);
+		return new LastKnownGoodCache(properties, null, new ObjectMapper(), new SimpleMeterRegistry());
+	}
+
+	private static CustomException unavailable() {
+		return new CustomException(ErrorCode.SERVICE_UNAVAILABLE);
+	}
+}
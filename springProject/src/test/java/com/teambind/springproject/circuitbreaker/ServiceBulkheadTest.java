@@ -0,0 +1,71 @@
+package com.teambind.springproject.circuitbreaker;
+
+import com.teambind.springproject.exception.CustomException;
+import com.teambind.springproject.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServiceBulkheadTest {
+
+	@Test
+	void rejectsImmediatelyWhenFullWithoutWait() {
+		AtomicInteger rejected = new AtomicInteger();
+		ServiceBulkhead bulkhead = new ServiceBulkhead("image-service", 1, Duration.ZERO, rejected::incrementAndGet);
+		Sinks.One<String> slow = Sinks.one();
+		bulkhead.decorate(slow.asMono()).subscribe();
+
+		assertThat(bulkhead.getActiveCalls()).isEqualTo(1);
+		assertThatThrownBy(() -> bulkhead.decorate(Mono.just("fast")).block())
+				.isInstanceOf(CustomException.class)
+				.satisfies(e -> assertThat(((CustomException) e).getErrorCode()).isEqualTo(ErrorCode.BULKHEAD_FULL));
+		assertThat(rejected.get()).isEqualTo(1);
+
+		slow.tryEmitValue("done");
+
+		assertThat(bulkhead.getActiveCalls()).isZero();
+		assertThat(bulkhead.decorate(Mono.just("fast")).block()).isEqualTo("fast");
+	}
+
+	@Test
+	void waiterProceedsWhenACallFinishes() {
+		ServiceBulkhead bulkhead = new ServiceBulkhead("place-info-service", 1, Duration.ofSeconds(5), () -> { });
+		Sinks.One<String> slow = Sinks.one();
+		bulkhead.decorate(slow.asMono()).subscribe();
+
+		Sinks.One<String> waited = Sinks.one();
+		bulkhead.decorate(Mono.just("second")).subscribe(waited::tryEmitValue);
+
+		assertThat(bulkhead.getWaitingCalls()).isEqualTo(1);
+
+		slow.tryEmitValue("first");
+
+		assertThat(waited.asMono().block(Duration.ofSeconds(1))).isEqualTo("second");
+		assertThat(bulkhead.getWaitingCalls()).isZero();
+		assertThat(bulkhead.getActiveCalls()).isZero();
+	}
+
+	@Test
+	void waiterTimesOutAndLeavesNoPermitBehind() {
+		AtomicInteger rejected = new AtomicInteger();
+		ServiceBulkhead bulkhead = new ServiceBulkhead("room-info-service", 1, Duration.ofMillis(50), rejected::incrementAndGet);
+		Sinks.One<String> slow = Sinks.one();
+		bulkhead.decorate(slow.asMono()).subscribe();
+
+		assertThatThrownBy(() -> bulkhead.decorate(Mono.just("late")).block(Duration.ofSeconds(1)))
+				.isInstanceOf(CustomException.class);
+		assertThat(rejected.get()).isEqualTo(1);
+		assertThat(bulkhead.getWaitingCalls()).isZero();
+
+		slow.tryEmitValue("first");
+
+		assertThat(bulkhead.getActiveCalls()).isZero();
+		assertThat(bulkhead.decorate(Mono.just("next")).block()).isEqualTo("next");
+	}
+}
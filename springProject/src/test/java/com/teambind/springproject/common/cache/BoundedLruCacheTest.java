@@ -0,0 +1,60 @@
+package com.teambind.springproject.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedLruCacheTest {
+
+	@Test
+	void evictsLeastRecentlyUsedEntriesPerPut() {
+		BoundedLruCache<String, String> cache = new BoundedLruCache<>(3, Long.MAX_VALUE, value -> 0);
+		cache.put("a", "A");
+		cache.put("b", "B");
+		cache.put("c", "C");
+		cache.get("a");
+
+		assertThat(cache.put("d", "D")).isEqualTo(1);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isEqualTo("A");
+		assertThat(cache.size()).isEqualTo(3);
+	}
+
+	@Test
+	void weightLimitEvictsUntilUnderBound() {
+		BoundedLruCache<String, String> cache = new BoundedLruCache<>(100, 10, value -> value.length());
+		cache.put("a", "aaaa");
+		cache.put("b", "bbbb");
+
+		assertThat(cache.put("c", "cccccc")).isEqualTo(1);
+		assertThat(cache.get("a")).isNull();
+		assertThat(cache.weight()).isEqualTo(10);
+	}
+
+	@Test
+	void replacingEntryAdjustsWeightWithoutChangingSize() {
+		BoundedLruCache<String, String> cache = new BoundedLruCache<>(100, Long.MAX_VALUE, value -> value.length());
+		cache.put("a", "aa");
+		cache.put("a", "aaaaa");
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.weight()).isEqualTo(5);
+	}
+
+	@Test
+	void removeIfAndConditionalRemoveKeepCountersConsistent() {
+		BoundedLruCache<String, String> cache = new BoundedLruCache<>(10_000, Long.MAX_VALUE, value -> 1);
+		for (int i = 0; i < 1000; i++) {
+			cache.put("k" + i, i % 2 == 0 ? "even" : "odd");
+		}
+		String value = cache.get("k1");
+
+		assertThat(cache.remove("k1", "other")).isFalse();
+		assertThat(cache.remove("k1", value)).isTrue();
+		assertThat(cache.removeIf("even"::equals)).isEqualTo(500);
+		assertThat(cache.size()).isEqualTo(499);
+		assertThat(cache.weight()).isEqualTo(499);
+		assertThat(cache.putIfAbsent("k3", "new")).isFalse();
+		assertThat(cache.putIfAbsent("k0", "new")).isTrue();
+	}
+}
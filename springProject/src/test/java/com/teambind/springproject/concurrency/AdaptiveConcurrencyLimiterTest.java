@@ -0,0 +1,117 @@
+package com.teambind.springproject.concurrency;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final long BASE_RTT = TimeUnit.MILLISECONDS.toNanos(20);
+
+	@Test
+	void limitGrowsWhileRttStaysFlatUnderLoad() {
+		GradientLimit limit = new GradientLimit(20, 5, 200, 1.5, 0.2, 600);
+
+		for (int i = 0; i < 100; i++) {
+			limit.onSample(BASE_RTT, limit.getLimit(), false);
+		}
+
+		assertThat(limit.getLimit()).isGreaterThan(40);
+	}
+
+	@Test
+	void limitShrinksWhenRttRisesAboveTolerance() {
+		GradientLimit limit = new GradientLimit(100, 5, 200, 1.5, 0.2, 600);
+		for (int i = 0; i < 20; i++) {
+			limit.onSample(BASE_RTT, 100, false);
+		}
+		int before = limit.getLimit();
+
+		for (int i = 0; i < 20; i++) {
+			limit.onSample(BASE_RTT * 4, limit.getLimit(), false);
+		}
+
+		assertThat(limit.getLimit()).isLessThan(before);
+		assertThat(limit.getLimit()).isGreaterThanOrEqualTo(5);
+	}
+
+	@Test
+	void lightlyUsedLimitDoesNotGrow() {
+		GradientLimit limit = new GradientLimit(20, 5, 200, 1.5, 0.2, 600);
+
+		for (int i = 0; i < 100; i++) {
+			limit.onSample(BASE_RTT, 2, false);
+		}
+
+		assertThat(limit.getLimit()).isEqualTo(20);
+	}
+
+	@Test
+	void rejectsAtLimitAndBacksOffOnTimeouts() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+				"place-info-service", new GradientLimit(10, 5, 200, 1.5, 0.2, 600));
+		List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			permits.add(limiter.tryAcquire());
+		}
+
+		assertThat(permits).doesNotContainNull();
+		assertThat(limiter.tryAcquire()).isNull();
+
+		permits.get(0).fail(new IOException("connection reset"));
+		permits.get(0).fail(new IOException("connection reset"));
+
+		assertThat(limiter.getInflight()).isEqualTo(9);
+		assertThat(limiter.getLimit()).isEqualTo(9);
+		assertThat(limiter.tryAcquire()).isNull();
+
+		permits.get(1).complete(503);
+		permits.get(2).cancel();
+
+		assertThat(limiter.getInflight()).isEqualTo(7);
+		assertThat(limiter.getLimit()).isEqualTo(8);
+		assertThat(limiter.tryAcquire()).isNotNull();
+	}
+
+	@Test
+	void cancelAfterToleratedRttBacksOff() throws InterruptedException {
+		GradientLimit limit = new GradientLimit(10, 5, 200, 1.5, 0.2, 600);
+		for (int i = 0; i < 20; i++) {
+			limit.onSample(BASE_RTT, 2, false);
+		}
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("place-info-service", limit);
+
+		limiter.tryAcquire().cancel();
+		assertThat(limiter.getLimit()).isEqualTo(10);
+
+		AdaptiveConcurrencyLimiter.Permit timedOut = limiter.tryAcquire();
+		Thread.sleep(TimeUnit.NANOSECONDS.toMillis(BASE_RTT * 3));
+		timedOut.cancel();
+
+		assertThat(limiter.getInflight()).isZero();
+		assertThat(limiter.getLimit()).isEqualTo(9);
+	}
+
+	@Test
+	void nettyReadTimeoutCountsAsDrop() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+				"place-info-service", new GradientLimit(10, 5, 200, 1.5, 0.2, 600));
+
+		limiter.tryAcquire().fail(new WebClientRequestException(ReadTimeoutException.INSTANCE,
+				HttpMethod.GET, URI.create("http://place-info-service/api/v1/places/1"), new HttpHeaders()));
+		limiter.tryAcquire().fail(new IllegalStateException("decode error"));
+
+		assertThat(limiter.getInflight()).isZero();
+		assertThat(limiter.getLimit()).isEqualTo(9);
+	}
+}
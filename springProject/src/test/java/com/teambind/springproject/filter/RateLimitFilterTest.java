@@ -0,0 +1,179 @@
+package com.teambind.springproject.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teambind.springproject.auth.JwksKeyProvider;
+import com.teambind.springproject.auth.JwtTokenValidator;
+import com.teambind.springproject.auth.ValidatedToken;
+import com.teambind.springproject.auth.VerifiedTokenCache;
+import com.teambind.springproject.auth.VerifiedTokenResolver;
+import com.teambind.springproject.config.properties.JwtProperties;
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import com.teambind.springproject.config.properties.RoutingProperties;
+import com.teambind.springproject.ratelimit.Quota;
+import com.teambind.springproject.ratelimit.RateLimitResult;
+import com.teambind.springproject.ratelimit.RateLimiterService;
+import com.teambind.springproject.routing.RouteClassifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+	private static final String SECRET = "test-secret-key-for-placeowner-gateway-minimum-32-chars";
+	private static final int PLACE_LIMIT = 300;
+	private static final WebFilterChain TERMINAL = exchange -> Mono.empty();
+
+	private final CapturingRateLimiterService rateLimiterService = new CapturingRateLimiterService();
+	private RateLimitFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		RateLimitProperties rateLimitProperties = new RateLimitProperties();
+		RateLimitProperties.Policy place = new RateLimitProperties.Policy();
+		place.setLimit(PLACE_LIMIT);
+		rateLimitProperties.getDimensions().setPlace(place);
+		rateLimitProperties.getDimensions().getRoutes().put("place-info-service", new RateLimitProperties.Policy());
+
+		GatewayProperties gatewayProperties = new GatewayProperties();
+		RouteDefinition route = new RouteDefinition();
+		route.setId("place-info-service");
+		route.setPredicates(List.of(new PredicateDefinition("Path=/api/v1/places/**")));
+		gatewayProperties.setRoutes(List.of(route));
+		RouteClassifier routeClassifier = new RouteClassifier(new RoutingProperties(), rateLimitProperties, gatewayProperties);
+
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecret(SECRET);
+		JwtTokenValidator validator = new JwtTokenValidator(jwtProperties,
+				new JwksKeyProvider(jwtProperties, new DefaultResourceLoader(), new ObjectMapper()));
+		VerifiedTokenResolver resolver = new VerifiedTokenResolver(
+				validator, new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry()));
+
+		filter = new RateLimitFilter(rateLimiterService, rateLimitProperties, routeClassifier, resolver, new ObjectMapper());
+	}
+
+	@Test
+	void spoofedIdentityHeadersAreIgnoredWithoutToken() {
+		MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/places/7")
+				.header("X-User-Id", "1")
+				.header("X-Place-Id", "victim")
+				.header("X-Forwarded-For", "203.0.113.7"));
+
+		filter.filter(exchange, TERMINAL).block();
+
+		assertThat(rateLimiterService.keys()).containsExactly("ip:203.0.113.7", "route:place-info-service:ip:203.0.113.7");
+	}
+
+	@Test
+	void userAndPlaceQuotasComeFromVerifiedToken() {
+		MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/places/7")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + sign(SECRET, "42", "7"))
+				.header("X-User-Id", "1")
+				.header("X-Place-Id", "victim"));
+
+		filter.filter(exchange, TERMINAL).block();
+
+		assertThat(rateLimiterService.keys())
+				.containsExactly("user:42", "place:7", "route:place-info-service:user:42");
+		// 인증 필터가 같은 검증 결과를 재사용
+		assertThat(exchange.<ValidatedToken>getAttribute(VerifiedTokenResolver.ATTRIBUTE).userId()).isEqualTo("42");
+	}
+
+	@Test
+	void forgedTokenIsTreatedAsAnonymous() {
+		MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/places/7")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + sign("another-secret-key-that-is-at-least-32-chars", "42", "victim"))
+				.header("X-Place-Id", "victim")
+				.header("X-Forwarded-For", "203.0.113.7"));
+
+		filter.filter(exchange, TERMINAL).block();
+
+		assertThat(rateLimiterService.keys()).containsExactly("ip:203.0.113.7", "route:place-info-service:ip:203.0.113.7");
+	}
+
+	@Test
+	void deniedResponseNamesTheDenyingQuota() {
+		rateLimiterService.denyBy("place");
+		MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/api/v1/places/7")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + sign(SECRET, "42", "7")));
+
+		filter.filter(exchange, TERMINAL).block();
+
+		HttpHeaders headers = exchange.getResponse().getHeaders();
+		assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		assertThat(headers.getFirst("X-RateLimit-Scope")).isEqualTo("place");
+		assertThat(headers.getFirst("X-RateLimit-Limit")).isEqualTo(String.valueOf(PLACE_LIMIT));
+		assertThat(headers.getFirst("Retry-After")).isEqualTo("30");
+	}
+
+	private static MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+		return MockServerWebExchange.from(request);
+	}
+
+	private static String sign(String secret, String userId, String placeId) {
+		long exp = Instant.now().getEpochSecond() + 600;
+		String payloadJson = "{\"sub\":\"" + userId + "\",\"role\":\"PLACE_OWNER\",\"placeId\":\"" + placeId
+				+ "\",\"exp\":" + exp + "}";
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+		String payload = encoder.encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8));
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+			byte[] signature = mac.doFinal((header + "." + payload).getBytes(StandardCharsets.UTF_8));
+			return header + "." + payload + "." + encoder.encodeToString(signature);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Redis 호출 없이 판정 대상 한도만 기록 (denyBy로 지정한 종류의 한도가 있으면 거부, 없으면 허용)
+	 */
+	private static final class CapturingRateLimiterService extends RateLimiterService {
+
+		private List<Quota> quotas = List.of();
+		private String deniedDimension;
+
+		private CapturingRateLimiterService() {
+			super(null, new RateLimitProperties(), new SimpleMeterRegistry());
+		}
+
+		@Override
+		public Mono<RateLimitResult> isAllowed(List<Quota> quotas) {
+			this.quotas = quotas;
+			for (Quota quota : quotas) {
+				if (quota.dimension().equals(deniedDimension)) {
+					return Mono.just(RateLimitResult.denied(30).limitedBy(quota));
+				}
+			}
+			return Mono.just(RateLimitResult.allowed(99, 0).limitedBy(quotas.get(0)));
+		}
+
+		private void denyBy(String dimension) {
+			this.deniedDimension = dimension;
+		}
+
+		private List<String> keys() {
+			return quotas.stream().map(Quota::key).toList();
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package com.teambind.springproject.loadbalancer;
+
+import com.teambind.springproject.config.properties.LoadBalancerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServiceLoadBalancerTest {
+
+	private static final String SERVICE = "room-info-service";
+
+	private final List<MockWebServer> servers = new ArrayList<>();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@AfterEach
+	void tearDown() throws IOException {
+		for (MockWebServer server : servers) {
+			server.shutdown();
+		}
+	}
+
+	@Test
+	void spreadsRequestsAcrossInstances() throws IOException {
+		MockWebServer first = server(200);
+		MockWebServer second = server(200);
+		MockWebServer third = server(200);
+		WebClient webClient = webClient(registry(5, first, second, third));
+
+		for (int i = 0; i < 60; i++) {
+			assertThat(get(webClient)).isEqualTo("ok");
+		}
+
+		assertThat(first.getRequestCount()).isPositive();
+		assertThat(second.getRequestCount()).isPositive();
+		assertThat(third.getRequestCount()).isPositive();
+		assertThat(first.getRequestCount() + second.getRequestCount() + third.getRequestCount()).isEqualTo(60);
+		assertThat(first.takeRequest().getPath()).isEqualTo("/api/v1/rooms/7");
+	}
+
+	@Test
+	void ejectsInstanceAfterConsecutiveServiceUnavailable() throws IOException {
+		MockWebServer healthy = server(200);
+		MockWebServer failing = server(503);
+		ServiceLoadBalancerRegistry registry = registry(2, healthy, failing);
+		WebClient webClient = webClient(registry);
+
+		for (int i = 0; i < 30; i++) {
+			get(webClient);
+		}
+
+		DownstreamInstance ejected = registry.balancer(SERVICE).getInstances().get(1);
+		assertThat(ejected.isEjected()).isTrue();
+		assertThat(failing.getRequestCount()).isEqualTo(2);
+		assertThat(healthy.getRequestCount()).isEqualTo(28);
+		assertThat(meterRegistry.get("gateway.lb.ejections").tag("instance", ejected.toString()).counter().count())
+				.isEqualTo(1.0);
+	}
+
+	@Test
+	void ejectsInstanceThatExceedsResponseTimeout() throws IOException {
+		MockWebServer healthy = server(200);
+		MockWebServer slow = new MockWebServer();
+		slow.setDispatcher(new Dispatcher() {
+			@Override
+			public MockResponse dispatch(RecordedRequest request) {
+				return new MockResponse().setBody("ok").setHeadersDelay(500, TimeUnit.MILLISECONDS);
+			}
+		});
+		slow.start();
+		servers.add(slow);
+		ServiceLoadBalancerRegistry registry = registry(2, healthy, slow);
+		WebClient webClient = WebClient.builder()
+				.baseUrl("http://" + SERVICE)
+				.clientConnector(new ReactorClientHttpConnector(
+						HttpClient.create().responseTimeout(Duration.ofMillis(100))))
+				.filter(registry.filter(SERVICE))
+				.build();
+
+		for (int i = 0; i < 20; i++) {
+			webClient.get()
+					.uri("/api/v1/rooms/{roomId}", 7)
+					.exchangeToMono(response -> response.bodyToMono(String.class))
+					.onErrorResume(error -> Mono.empty())
+					.block();
+		}
+
+		DownstreamInstance ejected = registry.balancer(SERVICE).getInstances().get(1);
+		assertThat(ejected.isEjected()).isTrue();
+		assertThat(slow.getRequestCount()).isEqualTo(2);
+		assertThat(healthy.getRequestCount()).isEqualTo(18);
+	}
+
+	@Test
+	void keepsLastInstanceWhenAllAreFailing() throws IOException {
+		MockWebServer first = server(503);
+		MockWebServer second = server(503);
+		ServiceLoadBalancerRegistry registry = registry(1, first, second);
+		WebClient webClient = webClient(registry);
+
+		for (int i = 0; i < 10; i++) {
+			get(webClient);
+		}
+
+		List<DownstreamInstance> instances = registry.balancer(SERVICE).getInstances();
+		assertThat(instances.stream().filter(DownstreamInstance::isEjected)).hasSize(1);
+		assertThat(first.getRequestCount() + second.getRequestCount()).isEqualTo(10);
+	}
+
+	@Test
+	void choosesInstanceWithFewerOutstandingRequests() {
+		DownstreamInstance busy = new DownstreamInstance("10.0.0.1", 8083);
+		DownstreamInstance idle = new DownstreamInstance("10.0.0.2", 8083);
+		ServiceLoadBalancer balancer = new ServiceLoadBalancer(SERVICE, List.of(busy, idle),
+				new LoadBalancerProperties.Ejection(), instance -> {
+		});
+		busy.started();
+		busy.started();
+
+		for (int i = 0; i < 20; i++) {
+			ServiceLoadBalancer.Call call = balancer.choose();
+			assertThat(call.getInstance()).isSameAs(idle);
+			call.complete(200);
+		}
+		assertThat(idle.getInflight()).isZero();
+	}
+
+	private MockWebServer server(int status) throws IOException {
+		MockWebServer server = new MockWebServer();
+		server.setDispatcher(new Dispatcher() {
+			@Override
+			public MockResponse dispatch(RecordedRequest request) {
+				return new MockResponse().setResponseCode(status).setBody(status == 200 ? "ok" : "unavailable");
+			}
+		});
+		server.start();
+		servers.add(server);
+		return server;
+	}
+
+	private ServiceLoadBalancerRegistry registry(int consecutiveFailures, MockWebServer... instances) {
+		LoadBalancerProperties properties = new LoadBalancerProperties();
+		properties.getEjection().setConsecutiveFailures(consecutiveFailures);
+		LoadBalancerProperties.Service service = new LoadBalancerProperties.Service();
+		for (MockWebServer server : instances) {
+			service.getInstances().add("http://" + server.getHostName() + ":" + server.getPort());
+		}
+		properties.getServices().put(SERVICE, service);
+		return new ServiceLoadBalancerRegistry(properties, meterRegistry);
+	}
+
+	private static WebClient webClient(ServiceLoadBalancerRegistry registry) {
+		return WebClient.builder()
+				.baseUrl("http://" + SERVICE)
+				.filter(registry.filter(SERVICE))
+				.build();
+	}
+
+	private static String get(WebClient webClient) {
+		return webClient.get()
+				.uri("/api/v1/rooms/{roomId}", 7)
+				.exchangeToMono(response -> response.bodyToMono(String.class))
+				.block();
+	}
+}
@@ -0,0 +1,71 @@
+package com.teambind.springproject.ratelimit;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyPartitionerTest {
+
+	@Test
+	void singleRedisKeepsPlainKeys() {
+		KeyPartitioner partitioner = new KeyPartitioner(new RateLimitProperties.Cluster());
+
+		assertThat(partitioner.isPartitioned()).isFalse();
+		assertThat(partitioner.redisKey("user:42", policy(RateLimitProperties.Algorithm.TOKEN_BUCKET)))
+				.isEqualTo("rate_limit:user:42");
+		assertThat(partitioner.redisKey("user:42", policy(RateLimitProperties.Algorithm.GCRA)))
+				.isEqualTo("rate_limit:gcra:user:42");
+	}
+
+	@Test
+	void keysOfOnePartitionShareASlot() {
+		KeyPartitioner partitioner = new KeyPartitioner(cluster(16));
+		RateLimitProperties.Policy bucket = policy(RateLimitProperties.Algorithm.TOKEN_BUCKET);
+		RateLimitProperties.Policy gcra = policy(RateLimitProperties.Algorithm.GCRA);
+
+		for (int i = 0; i < 200; i++) {
+			String key = "user:" + i;
+			int partition = partitioner.partition(key);
+			int slot = SlotHash.getSlot(partitioner.redisKey(key, bucket));
+
+			assertThat(partition).isBetween(0, 15);
+			assertThat(SlotHash.getSlot(partitioner.redisKey(key, gcra))).isEqualTo(slot);
+			// 파티션마다 슬롯 공간의 1/16 구간
+			assertThat(slot * 16 / SlotHash.SLOT_COUNT).isEqualTo(partition);
+		}
+	}
+
+	@Test
+	void partitionsCoverEveryShardRange() {
+		KeyPartitioner partitioner = new KeyPartitioner(cluster(64));
+		RateLimitProperties.Policy bucket = policy(RateLimitProperties.Algorithm.TOKEN_BUCKET);
+		int[] perShard = new int[3];
+
+		for (int i = 0; i < 3000; i++) {
+			int slot = SlotHash.getSlot(partitioner.redisKey("ip:10.0." + (i / 256) + "." + (i % 256), bucket));
+			perShard[slot * 3 / SlotHash.SLOT_COUNT]++;
+		}
+
+		for (int count : perShard) {
+			assertThat(count).isBetween(800, 1200);
+		}
+	}
+
+	private static RateLimitProperties.Cluster cluster(int partitions) {
+		RateLimitProperties.Cluster cluster = new RateLimitProperties.Cluster();
+		cluster.setEnabled(true);
+		cluster.setPartitions(partitions);
+		return cluster;
+	}
+
+	private static RateLimitProperties.Policy policy(RateLimitProperties.Algorithm algorithm) {
+		RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+		policy.setAlgorithm(algorithm);
+		policy.setDuration(Duration.ofMinutes(1));
+		return policy;
+	}
+}
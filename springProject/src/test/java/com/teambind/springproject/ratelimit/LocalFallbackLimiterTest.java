@@ -0,0 +1,68 @@
+package com.teambind.springproject.ratelimit;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalFallbackLimiterTest {
+
+	private static final long SECOND = 1_000_000_000L;
+
+	@Test
+	void limitIsSplitAcrossExpectedNodes() {
+		LocalFallbackLimiter limiter = new LocalFallbackLimiter(4);
+		List<Quota> quotas = List.of(new Quota("user", "user:1", "default", policy(60, 20)));
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(limiter.tryAcquire(quotas, 0).allowed()).isTrue();
+		}
+		RateLimitResult denied = limiter.tryAcquire(quotas, 0);
+		assertThat(denied.allowed()).isFalse();
+		assertThat(denied.resetAfterSeconds()).isEqualTo(4L);
+
+		// 60/min / 4 nodes = 0.25 tokens/s
+		assertThat(limiter.tryAcquire(quotas, 5 * SECOND).allowed()).isTrue();
+		assertThat(limiter.tryAcquire(quotas, 5 * SECOND).allowed()).isFalse();
+	}
+
+	@Test
+	void deniedQuotaDoesNotChargeOthers() {
+		LocalFallbackLimiter limiter = new LocalFallbackLimiter(1);
+		Quota user = new Quota("user", "user:1", "default", policy(60, 10));
+		Quota place = new Quota("place", "place:7", "place", policy(60, 1));
+
+		RateLimitResult first = limiter.tryAcquire(List.of(user, place), 0);
+		assertThat(first.allowed()).isTrue();
+		assertThat(first.limitedBy()).isSameAs(place);
+
+		RateLimitResult second = limiter.tryAcquire(List.of(user, place), 0);
+		assertThat(second.allowed()).isFalse();
+		assertThat(second.limitedBy()).isSameAs(place);
+
+		RateLimitResult userOnly = limiter.tryAcquire(List.of(user), 0);
+		assertThat(userOnly.remainingTokens()).isEqualTo(8L);
+	}
+
+	@Test
+	void fullBucketsAreEvicted() {
+		LocalFallbackLimiter limiter = new LocalFallbackLimiter(1);
+		limiter.tryAcquire(List.of(new Quota("user", "user:1", "default", policy(60, 10))), 0);
+		limiter.tryAcquire(List.of(new Quota("user", "user:2", "default", policy(60, 10))), 0);
+
+		assertThat(limiter.evictIdle(0)).isEqualTo(0);
+		assertThat(limiter.evictIdle(2 * SECOND)).isEqualTo(2);
+		assertThat(limiter.size()).isEqualTo(0);
+	}
+
+	private static RateLimitProperties.Policy policy(int limitPerMinute, int burst) {
+		RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+		policy.setLimit(limitPerMinute);
+		policy.setDuration(Duration.ofMinutes(1));
+		policy.setBurstCapacity(burst);
+		return policy;
+	}
+}
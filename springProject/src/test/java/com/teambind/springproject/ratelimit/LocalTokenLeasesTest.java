@@ -0,0 +1,70 @@
+package com.teambind.springproject.ratelimit;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalTokenLeasesTest {
+
+	private final LocalTokenLeases leases = new LocalTokenLeases();
+
+	@Test
+	void unknownKeyIsColdAndRecentKeyIsHot() {
+		RateLimitProperties.Policy policy = policy(5);
+
+		assertThat(leases.tryTake("user:1", policy, 1_000)).isEqualTo(LocalTokenLeases.COLD);
+		assertThat(leases.deposit("user:1", policy, 0, 50, 1_000)).isEqualTo(0);
+
+		assertThat(leases.tryTake("user:1", policy, 1_500)).isEqualTo(LocalTokenLeases.HOT);
+		assertThat(leases.tryTake("user:1", policy, 2_000)).isEqualTo(LocalTokenLeases.COLD);
+	}
+
+	@Test
+	void depositedTokensAreServedLocallyUpToMaxOvershoot() {
+		RateLimitProperties.Policy policy = policy(3);
+
+		assertThat(leases.deposit("user:1", policy, 5, 40, 1_000)).isEqualTo(2);
+
+		assertThat(leases.tryTake("user:1", policy, 1_100)).isEqualTo(42);
+		assertThat(leases.tryTake("user:1", policy, 1_100)).isEqualTo(41);
+		assertThat(leases.tryTake("user:1", policy, 1_100)).isEqualTo(40);
+		assertThat(leases.tryTake("user:1", policy, 1_100)).isEqualTo(LocalTokenLeases.HOT);
+	}
+
+	@Test
+	void expiredLeasesAreReturned() {
+		RateLimitProperties.Policy policy = policy(3);
+		leases.deposit("user:1", policy, 3, 10, 1_000);
+		leases.deposit("user:2", policy, 2, 10, 1_500);
+		leases.tryTake("user:1", policy, 1_200);
+
+		List<LocalTokenLeases.Refund> refunds = leases.drainExpired(2_000);
+
+		assertThat(refunds).hasSize(1);
+		assertThat(refunds.get(0).key()).isEqualTo("user:1");
+		assertThat(refunds.get(0).tokens()).isEqualTo(2);
+		assertThat(leases.size()).isEqualTo(1);
+	}
+
+	@Test
+	void staleOrForeignPolicyLeaseIsReturnedOnDeposit() {
+		RateLimitProperties.Policy places = policy(3);
+		RateLimitProperties.Policy reservations = policy(3);
+		leases.deposit("user:1", places, 3, 10, 1_000);
+
+		assertThat(leases.tryTake("user:1", reservations, 1_100)).isEqualTo(LocalTokenLeases.COLD);
+		assertThat(leases.deposit("user:1", reservations, 1, 10, 1_100)).isEqualTo(3);
+		assertThat(leases.deposit("user:1", reservations, 0, 10, 5_000)).isEqualTo(1);
+	}
+
+	private static RateLimitProperties.Policy policy(int maxOvershoot) {
+		RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+		policy.setMaxOvershoot(maxOvershoot);
+		policy.setLeaseDuration(Duration.ofSeconds(1));
+		return policy;
+	}
+}
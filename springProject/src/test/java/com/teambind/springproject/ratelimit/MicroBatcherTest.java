@@ -0,0 +1,65 @@
+package com.teambind.springproject.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicroBatcherTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<List<String>> executed = new CopyOnWriteArrayList<>();
+
+	@Test
+	void fullBatchIsExecutedOnceAndResultsAreFannedOutInOrder() {
+		MicroBatcher<String, String> batcher = batcher(Duration.ofSeconds(10), 3);
+
+		var results = Mono.zip(batcher.submit("a"), batcher.submit("b"), batcher.submit("c"))
+				.block(Duration.ofSeconds(1));
+
+		assertThat(executed).hasSize(1);
+		assertThat(executed.get(0)).isEqualTo(List.of("a", "b", "c"));
+		assertThat(results.getT1()).isEqualTo("A");
+		assertThat(results.getT2()).isEqualTo("B");
+		assertThat(results.getT3()).isEqualTo("C");
+		assertThat(meterRegistry.get("gateway.test.batch.size").summary().totalAmount()).isEqualTo(3.0);
+	}
+
+	@Test
+	void partialBatchIsFlushedWhenWindowElapses() {
+		MicroBatcher<String, String> batcher = batcher(Duration.ofMillis(5), 64);
+
+		String result = batcher.submit("a").block(Duration.ofSeconds(1));
+
+		assertThat(result).isEqualTo("A");
+		assertThat(executed).hasSize(1);
+		assertThat(meterRegistry.get("gateway.test.batch.queue.delay").timer().count()).isEqualTo(1L);
+	}
+
+	@Test
+	void failureIsDeliveredToEveryWaiter() {
+		MicroBatcher<String, String> batcher = new MicroBatcher<>(Duration.ofSeconds(10), 2,
+				items -> Mono.error(new IllegalStateException("redis down")),
+				Schedulers.parallel(), meterRegistry, "gateway.test");
+
+		var first = batcher.submit("a").onErrorResume(e -> Mono.just(e.getMessage()));
+		var second = batcher.submit("b").onErrorResume(e -> Mono.just(e.getMessage()));
+		var results = Mono.zip(first, second).block(Duration.ofSeconds(1));
+
+		assertThat(results.getT1()).isEqualTo("redis down");
+		assertThat(results.getT2()).isEqualTo("redis down");
+	}
+
+	private MicroBatcher<String, String> batcher(Duration window, int maxSize) {
+		return new MicroBatcher<>(window, maxSize, items -> {
+			executed.add(List.copyOf(items));
+			return Mono.just(items.stream().map(String::toUpperCase).toList());
+		}, Schedulers.parallel(), meterRegistry, "gateway.test");
+	}
+}
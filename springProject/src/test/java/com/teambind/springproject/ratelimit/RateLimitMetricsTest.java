@@ -0,0 +1,59 @@
+package com.teambind.springproject.ratelimit;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitMetricsTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final RateLimitMetrics metrics = new RateLimitMetrics(meterRegistry, () -> true, () -> 3, () -> 0);
+
+	@Test
+	void allowedCountsEveryQuotaAndDeniedOnlyTheLimitingOne() {
+		Quota user = new Quota("user", "user:1", "default", new RateLimitProperties.Policy());
+		Quota place = new Quota("place", "place:7", "place", new RateLimitProperties.Policy());
+		List<Quota> quotas = List.of(user, place);
+
+		metrics.recordDecision(quotas, RateLimitResult.allowed(5, 0).limitedBy(place));
+		metrics.recordDecision(quotas, RateLimitResult.allowed(4, 0).limitedBy(place));
+		metrics.recordDecision(quotas, RateLimitResult.denied(3).limitedBy(place));
+
+		assertThat(decisions("default", "user", "allowed")).isEqualTo(2.0);
+		assertThat(decisions("place", "place", "allowed")).isEqualTo(2.0);
+		assertThat(decisions("place", "place", "denied")).isEqualTo(1.0);
+		assertThat(meterRegistry.find("gateway.ratelimit.decisions")
+				.tags("policy", "default", "result", "denied").counter().count()).isEqualTo(0.0);
+	}
+
+	@Test
+	void failOpenIsTaggedByReason() {
+		metrics.recordFailOpen(new TimeoutException());
+		metrics.recordFailOpen(new IllegalStateException("connection reset"));
+		metrics.recordFailOpen(new IllegalStateException("connection reset"));
+
+		assertThat(meterRegistry.get("gateway.ratelimit.fail.open").tag("reason", "timeout").counter().count())
+				.isEqualTo(1.0);
+		assertThat(meterRegistry.get("gateway.ratelimit.fail.open").tag("reason", "error").counter().count())
+				.isEqualTo(2.0);
+	}
+
+	@Test
+	void gaugesReadCurrentState() {
+		assertThat(meterRegistry.get("gateway.ratelimit.fallback.active").gauge().value()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("gateway.ratelimit.active.keys").tag("store", "lease").gauge().value())
+				.isEqualTo(3.0);
+	}
+
+	private double decisions(String policy, String keyType, String result) {
+		return meterRegistry.get("gateway.ratelimit.decisions")
+				.tags("policy", policy, "key_type", keyType, "result", result)
+				.counter()
+				.count();
+	}
+}
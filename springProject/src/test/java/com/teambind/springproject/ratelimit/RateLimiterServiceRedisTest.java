@@ -0,0 +1,207 @@
+package com.teambind.springproject.ratelimit;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import com.teambind.springproject.support.TestRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimiterServiceRedisTest {
+
+	private static final String GCRA_KEY = "rate_limit:gcra:user:1";
+
+	@Container
+	private static final GenericContainer<?> redis = TestRedis.container();
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static ReactiveStringRedisTemplate redisTemplate;
+
+	private RateLimiterService rateLimiterService;
+
+	@BeforeAll
+	static void connect() {
+		connectionFactory = TestRedis.connect(redis);
+		redisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		TestRedis.flushAll(redisTemplate);
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.getBatch().setEnabled(false);
+		// 연결 지연으로 로컬 대체 판정에 들어가지 않도록 넉넉하게
+		properties.getFallback().setTimeout(Duration.ofSeconds(5));
+		rateLimiterService = new RateLimiterService(redisTemplate, properties, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		rateLimiterService.shutdown();
+	}
+
+	@Test
+	void gcraAllowsBurstThenDeniesUntilNextEmissionInterval() throws InterruptedException {
+		// 2개/초 (emission interval 500ms), 버스트 3
+		Quota quota = quota("user", "user:1", gcra(2, 3));
+
+		assertThat(check(quota)).extracting(RateLimitResult::allowed, RateLimitResult::remainingTokens)
+				.containsExactly(true, 2L);
+		assertThat(check(quota).remainingTokens()).isEqualTo(1);
+		assertThat(check(quota).remainingTokens()).isZero();
+
+		RateLimitResult denied = check(quota);
+		assertThat(denied.allowed()).isFalse();
+		assertThat(denied.resetAfterSeconds()).isEqualTo(1);
+		assertThat(denied.limitedBy()).isSameAs(quota);
+
+		Thread.sleep(550);
+		assertThat(check(quota).allowed()).isTrue();
+		assertThat(check(quota).allowed()).isFalse();
+	}
+
+	@Test
+	void gcraStoresIntegerTatThatExpiresWhenBucketIsFull() throws InterruptedException {
+		Quota quota = quota("user", "user:1", gcra(2, 3));
+		check(quota);
+		check(quota);
+		check(quota);
+
+		// TAT = 현재 + 3 x 500ms (마이크로초, 지수 표기 없이 저장), PX는 TAT까지 남은 시간
+		assertThat(redisTemplate.opsForValue().get(GCRA_KEY).block()).matches("\\d+");
+		assertThat(redisTemplate.getExpire(GCRA_KEY).block())
+				.isBetween(Duration.ofMillis(1000), Duration.ofMillis(1500));
+
+		TestRedis.await(() -> Boolean.FALSE.equals(redisTemplate.hasKey(GCRA_KEY).block()), Duration.ofSeconds(3));
+		assertThat(check(quota).remainingTokens()).isEqualTo(2);
+	}
+
+	@Test
+	void gcraRefundMovesTatBack() {
+		RateLimitProperties.Policy policy = gcra(2, 3);
+		Quota quota = quota("user", "user:1", policy);
+		check(quota);
+		check(quota);
+		check(quota);
+		assertThat(check(quota).allowed()).isFalse();
+
+		rateLimiterService.refund("user:1", 2, policy).block();
+
+		assertThat(check(quota).allowed()).isTrue();
+		assertThat(check(quota).allowed()).isTrue();
+		assertThat(check(quota).allowed()).isFalse();
+	}
+
+	@Test
+	void gcraRefundPastCurrentTimeDeletesKey() {
+		RateLimitProperties.Policy policy = gcra(2, 3);
+		check(quota("user", "user:1", policy));
+
+		rateLimiterService.refund("user:1", 10, policy).block();
+
+		assertThat(redisTemplate.hasKey(GCRA_KEY).block()).isFalse();
+	}
+
+	@Test
+	void quotaDenialChargesNoOtherBucket() {
+		Quota user = quota("user", "user:1", bucket(5));
+		Quota global = quota("global", "global:place-info-service", bucket(1));
+
+		RateLimitResult first = check(user, global);
+		assertThat(first.allowed()).isTrue();
+		// 허용 시 남은 토큰이 가장 적은 한도
+		assertThat(first.limitedBy()).isSameAs(global);
+		String userTokens = tokens("user:1");
+		String globalTokens = tokens("global:place-info-service");
+		assertThat(Double.parseDouble(userTokens)).isCloseTo(4.0, within(0.01));
+
+		RateLimitResult denied = check(user, global);
+
+		assertThat(denied.allowed()).isFalse();
+		assertThat(denied.limitedBy()).isSameAs(global);
+		assertThat(denied.limitedBy().dimension()).isEqualTo("global");
+		assertThat(tokens("user:1")).isEqualTo(userTokens);
+		assertThat(tokens("global:place-info-service")).isEqualTo(globalTokens);
+	}
+
+	@Test
+	void mostRestrictiveDenyingQuotaIsReported() {
+		Quota user = quota("user", "user:1", bucket(1));
+		Quota place = quota("place", "place:7", gcra(2, 1));
+		assertThat(check(user, place).allowed()).isTrue();
+		String placeTat = redisTemplate.opsForValue().get("rate_limit:gcra:place:7").block();
+
+		RateLimitResult denied = check(place, user);
+
+		// place는 500ms 후, user는 1시간 후에 허용되므로 user가 원인
+		assertThat(denied.allowed()).isFalse();
+		assertThat(denied.limitedBy()).isSameAs(user);
+		assertThat(denied.resetAfterSeconds()).isGreaterThan(3000);
+		assertThat(redisTemplate.opsForValue().get("rate_limit:gcra:place:7").block()).isEqualTo(placeTat);
+	}
+
+	@Test
+	void placeDenialLeavesUserBucketUntouched() {
+		Quota user = quota("user", "user:1", bucket(5));
+		Quota place = quota("place", "place:7", gcra(2, 1));
+		check(user, place);
+		String userTokens = tokens("user:1");
+
+		RateLimitResult denied = check(user, place);
+
+		assertThat(denied.allowed()).isFalse();
+		assertThat(denied.limitedBy()).isSameAs(place);
+		assertThat(tokens("user:1")).isEqualTo(userTokens);
+	}
+
+	private String tokens(String key) {
+		return (String) redisTemplate.opsForHash().get("rate_limit:" + key, "tokens").block();
+	}
+
+	private RateLimitResult check(Quota... quotas) {
+		return rateLimiterService.isAllowed(List.of(quotas)).block();
+	}
+
+	private static Quota quota(String dimension, String key, RateLimitProperties.Policy policy) {
+		return new Quota(dimension, key, dimension, policy);
+	}
+
+	/**
+	 * 시간당 1개 충전 (테스트 중 충전량 무시 가능), 버스트 burst
+	 */
+	private static RateLimitProperties.Policy bucket(int burst) {
+		RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+		policy.setLimit(1);
+		policy.setDuration(Duration.ofHours(1));
+		policy.setBurstCapacity(burst);
+		return policy;
+	}
+
+	private static RateLimitProperties.Policy gcra(int perSecond, int burst) {
+		RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+		policy.setAlgorithm(RateLimitProperties.Algorithm.GCRA);
+		policy.setLimit(perSecond);
+		policy.setDuration(Duration.ofSeconds(1));
+		policy.setBurstCapacity(burst);
+		return policy;
+	}
+}
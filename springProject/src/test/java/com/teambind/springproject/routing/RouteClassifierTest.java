@@ -0,0 +1,146 @@
+package com.teambind.springproject.routing;
+
+import com.teambind.springproject.config.properties.RateLimitProperties;
+import com.teambind.springproject.config.properties.RoutingProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteClassifierTest {
+
+	@Test
+	void authRequirementFollowsConfiguredPrefixes() {
+		RouteClassifier classifier = classifier(new RateLimitProperties());
+
+		assertThat(classifier.classify("/actuator/health").auth()).isEqualTo(AuthRequirement.PUBLIC);
+		assertThat(classifier.classify("/swagger-ui/index.html").auth()).isEqualTo(AuthRequirement.PUBLIC);
+		assertThat(classifier.classify("/api/v1/auth/login").auth()).isEqualTo(AuthRequirement.APP_TYPE_ONLY);
+		assertThat(classifier.classify("/api/v1/auth/me").auth()).isEqualTo(AuthRequirement.AUTHENTICATED);
+		assertThat(classifier.classify("/api/v1/places/1").auth()).isEqualTo(AuthRequirement.AUTHENTICATED);
+		assertThat(classifier.classify("").auth()).isEqualTo(AuthRequirement.AUTHENTICATED);
+	}
+
+	@Test
+	void longestRateLimitPrefixWinsRegardlessOfOrder() {
+		RateLimitProperties properties = new RateLimitProperties();
+		RateLimitProperties.Policy places = policy(50);
+		RateLimitProperties.Policy placeImages = policy(10);
+		properties.getEndpoints().put("/api/v1/places", places);
+		properties.getEndpoints().put("/api/v1/places/images", placeImages);
+		RouteClassifier classifier = classifier(properties);
+
+		assertThat(classifier.classify("/api/v1/places/7").rateLimitPolicy()).isSameAs(places);
+		assertThat(classifier.classify("/api/v1/places/images/3").rateLimitPolicy()).isSameAs(placeImages);
+		assertThat(classifier.classify("/api/v1/places/images/3").rateLimitPolicyName()).isEqualTo("/api/v1/places/images");
+		assertThat(classifier.classify("/api/v1/rooms").rateLimitPolicy()).isSameAs(properties.getDefaultPolicy());
+		assertThat(classifier.classify("/actuator/prometheus").isRateLimited()).isFalse();
+		assertThat(classifier.classify("/health").isRateLimited()).isFalse();
+	}
+
+	@Test
+	void routeIdComesFromGatewayPathPredicates() {
+		RouteClassifier classifier = classifier(new RateLimitProperties());
+
+		assertThat(classifier.classify("/api/v1/places").routeId()).isEqualTo("place-info-service");
+		assertThat(classifier.classify("/api/v1/places/7/rooms").routeId()).isEqualTo("place-info-service");
+		assertThat(classifier.classify("/api/v1/placesX").routeId()).isNull();
+		assertThat(classifier.classify("/api/v1/room-reservations/3").routeId()).isEqualTo("reservation-service");
+		assertThat(classifier.classify("/api/v1/pricing-policies/9").routeId()).isEqualTo("reservation-service");
+		assertThat(classifier.classify("/api/v1/rooms/3/images").routeId()).isEqualTo("room-images");
+		assertThat(classifier.classify("/api/v1/ping").routeId()).isEqualTo("ping");
+		assertThat(classifier.classify("/api/v1/ping/").routeId()).isEqualTo("ping");
+		assertThat(classifier.classify("/api/v1/ping/more").routeId()).isNull();
+		assertThat(classifier.classify("/health").routeId()).isNull();
+	}
+
+	@Test
+	void methodAndPatternPoliciesUseMostSpecificMatch() {
+		RateLimitProperties properties = new RateLimitProperties();
+		RateLimitProperties.Policy places = policy(50);
+		RateLimitProperties.Policy placeWrites = policy(5);
+		RateLimitProperties.Policy rooms = policy(20);
+		RateLimitProperties.Policy myPlaces = policy(100);
+		properties.getEndpoints().put("/api/v1/places/**", places);
+		properties.getEndpoints().put("POST /api/v1/places/**", placeWrites);
+		properties.getEndpoints().put("/api/v1/places/{placeId}/rooms", rooms);
+		properties.getEndpoints().put("/api/v1/places/my", myPlaces);
+		RouteClassifier classifier = classifier(properties);
+
+		assertThat(classifier.classify(HttpMethod.GET, "/api/v1/places/7").rateLimitPolicy()).isSameAs(places);
+		assertThat(classifier.classify(HttpMethod.POST, "/api/v1/places/7").rateLimitPolicy()).isSameAs(placeWrites);
+		assertThat(classifier.classify(HttpMethod.POST, "/api/v1/places").rateLimitPolicy()).isSameAs(placeWrites);
+		assertThat(classifier.classify(HttpMethod.POST, "/api/v1/places/7").rateLimitPolicyName())
+				.isEqualTo("POST /api/v1/places/**");
+		assertThat(classifier.classify(HttpMethod.GET, "/api/v1/places/7/rooms").rateLimitPolicy()).isSameAs(rooms);
+		assertThat(classifier.classify(HttpMethod.POST, "/api/v1/places/7/rooms").rateLimitPolicy()).isSameAs(rooms);
+		assertThat(classifier.classify(HttpMethod.GET, "/api/v1/places/7/rooms/3").rateLimitPolicy()).isSameAs(places);
+		assertThat(classifier.classify(HttpMethod.GET, "/api/v1/places/my").rateLimitPolicy()).isSameAs(myPlaces);
+		assertThat(classifier.classify(HttpMethod.POST, "/api/v1/places/my").rateLimitPolicy()).isSameAs(myPlaces);
+		assertThat(classifier.classify(HttpMethod.POST, "/api/v1/places/7").routeId()).isEqualTo("place-info-service");
+		assertThat(classifier.classify(HttpMethod.POST, "/health").isRateLimited()).isFalse();
+	}
+
+	@Test
+	void dynamicPoliciesReplaceRulesAtRuntime() {
+		RateLimitProperties properties = new RateLimitProperties();
+		RateLimitProperties.Policy places = policy(50);
+		properties.getEndpoints().put("/api/v1/places", places);
+		RouteClassifier classifier = classifier(properties);
+		RateLimitProperties.Policy override = policy(5);
+		RateLimitProperties.Policy deletes = policy(1);
+
+		classifier.updateDynamicPolicies(Map.of(
+				"/api/v1/places", override,
+				"DELETE /api/v1/places/**", deletes,
+				"rooms", policy(1)
+		));
+
+		assertThat(classifier.classify(HttpMethod.GET, "/api/v1/places/7").rateLimitPolicy()).isSameAs(override);
+		assertThat(classifier.classify(HttpMethod.DELETE, "/api/v1/places/7").rateLimitPolicy()).isSameAs(deletes);
+
+		classifier.updateDynamicPolicies(Map.of());
+
+		assertThat(classifier.classify(HttpMethod.GET, "/api/v1/places/7").rateLimitPolicy()).isSameAs(places);
+		assertThat(classifier.classify(HttpMethod.DELETE, "/api/v1/places/7").rateLimitPolicy()).isSameAs(places);
+	}
+
+	@Test
+	void classificationsAreSharedPerRule() {
+		RouteClassifier classifier = classifier(new RateLimitProperties());
+
+		assertThat(classifier.classify("/api/v1/places/1")).isSameAs(classifier.classify("/api/v1/places/2"));
+	}
+
+	private static RouteClassifier classifier(RateLimitProperties rateLimitProperties) {
+		GatewayProperties gatewayProperties = new GatewayProperties();
+		gatewayProperties.setRoutes(List.of(
+				route("place-info-service", "Path=/api/v1/places/**"),
+				route("reservation-service", "Path=/api/v1/pricing-policies/**, /api/v1/room-reservations/**"),
+				route("room-images", "Path=/api/v1/rooms/{roomId}/images"),
+				route("ping", "Path=/api/v1/ping")
+		));
+		return new RouteClassifier(new RoutingProperties(), rateLimitProperties, gatewayProperties);
+	}
+
+	private static RouteDefinition route(String id, String predicate) {
+		RouteDefinition route = new RouteDefinition();
+		route.setId(id);
+		route.setPredicates(List.of(new PredicateDefinition(predicate)));
+		return route;
+	}
+
+	private static RateLimitProperties.Policy policy(int limit) {
+		RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+		policy.setLimit(limit);
+		policy.setDuration(Duration.ofMinutes(1));
+		return policy;
+	}
+}
@@ -0,0 +1,51 @@
+package com.teambind.springproject.support;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Lua 스크립트/pub-sub 테스트용 Redis 컨테이너와 연결
+ * - 테스트 클래스에 @Testcontainers(disabledWithoutDocker = true)와 함께 사용
+ */
+public final class TestRedis {
+
+	private static final int PORT = 6379;
+
+	private TestRedis() {
+	}
+
+	public static GenericContainer<?> container() {
+		return new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(PORT);
+	}
+
+	public static LettuceConnectionFactory connect(GenericContainer<?> redis) {
+		return connect(redis.getHost(), redis.getMappedPort(PORT));
+	}
+
+	public static LettuceConnectionFactory connect(String host, int port) {
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		return connectionFactory;
+	}
+
+	public static void flushAll(ReactiveStringRedisTemplate redisTemplate) {
+		redisTemplate.execute(connection -> connection.serverCommands().flushAll()).blockLast();
+	}
+
+	public static void await(BooleanSupplier condition, Duration timeout) throws InterruptedException {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() - deadline > 0) {
+				throw new AssertionError("Condition not met within " + timeout);
+			}
+			Thread.sleep(10);
+		}
+	}
+}